@@ -0,0 +1,148 @@
+// ************************************************************************** //
+// CounterBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                         which contains the JMH benchmarks used to measure  //
+//                         the performance of the classes in jASL.            //
+//                                                                            //
+//                         NOTE: This program is based on Advanced Squad      //
+//                               Leader, which was created by The Avalon Hill //
+//                               Game Company, and lives on at Multi-Man      //
+//                               Publishing.                                  //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.counters.Classification;
+import jasl.counters.Leader;
+import jasl.counters.Nationality;
+import jasl.counters.Squad;
+import jasl.counters.UnitTemplate;
+import jasl.counters.UnitType;
+
+/**
+ * This class contains the benchmarks for the construction of the
+ * <A HREF="../counters/Squad.html">Squad</A> and <A HREF="../counters/Leader.html">Leader</A> counters.
+ * <P>
+ * Each type is created both from its full list of attributes, which includes
+ * checking them and looking up the shared template, and directly from a
+ * template that was created in advance.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/CounterBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark
+{
+	// Private data members
+
+	// The templates used to create counters without checking the
+	// attributes.
+
+	private UnitTemplate _squadTemplate;
+	private UnitTemplate _leaderTemplate;
+
+	// Setup
+
+	/**
+	 * Create the templates used by the benchmarks.
+	 */
+
+	@Setup
+	public void setup()
+	{
+		_squadTemplate  = newSquad().template();
+		_leaderTemplate = newLeader().template();
+	}
+
+	// Benchmarks
+
+	/**
+	 * Construct a <CODE>Squad</CODE> from its attributes.
+	 *
+	 * @return the new squad.
+	 */
+
+	@Benchmark
+	public Squad squadFromAttributes()
+	{
+		return newSquad();
+	}
+
+	/**
+	 * Construct a <CODE>Squad</CODE> from an existing template.
+	 *
+	 * @return the new squad.
+	 */
+
+	@Benchmark
+	public Squad squadFromTemplate()
+	{
+		return new Squad(_squadTemplate);
+	}
+
+	/**
+	 * Construct a <CODE>Leader</CODE> from its attributes.
+	 *
+	 * @return the new leader.
+	 */
+
+	@Benchmark
+	public Leader leaderFromAttributes()
+	{
+		return newLeader();
+	}
+
+	/**
+	 * Construct a <CODE>Leader</CODE> from an existing template.
+	 *
+	 * @return the new leader.
+	 */
+
+	@Benchmark
+	public Leader leaderFromTemplate()
+	{
+		return new Leader(_leaderTemplate);
+	}
+
+	// Other methods
+
+	// Create the counters used by all of the benchmarks. They are the same
+	// as the ones used by the Driver program.
+
+	static Squad newSquad()
+	{
+		return new Squad(Nationality.Nationalities.RUSSIAN,
+		                 UnitType.InfantryTypes.GUARDS,
+		                 6,2,8,8,false,12,4,false,
+		                 Classification.Classifications.ELITE,
+		                 true,true,0);
+	}
+
+	static Leader newLeader()
+	{
+		return new Leader(Nationality.Nationalities.GERMAN,
+		                  UnitType.InfantryTypes.NONE,
+		                  9,9,4,-1);
+	}
+}
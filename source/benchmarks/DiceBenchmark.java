@@ -0,0 +1,137 @@
+// ************************************************************************** //
+// DiceBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                      which contains the JMH benchmarks used to measure     //
+//                      the performance of the classes in jASL.               //
+//                                                                            //
+//                      NOTE: This program is based on Advanced Squad         //
+//                            Leader, which was created by The Avalon Hill    //
+//                            Game Company, and lives on at Multi-Man         //
+//                            Publishing.                                     //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.utilities.Dice;
+
+/**
+ * This class contains the benchmarks for rolling the <A HREF="../utilities/Dice.html">Dice</A>.
+ * <P>
+ * A roll is measured both by creating a new instance and through the batch
+ * rollInto() method, which is reported as the time per roll so that the two
+ * can be compared directly. A seeded generator is used where the source of
+ * the random values can be specified, so that each run performs the same
+ * work.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/DiceBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark
+{
+	// Symbolic constants
+
+	// The number of rolls made by each invocation of the batch benchmark.
+
+	private static final int BATCH_SIZE = 1024;
+
+	// The seed of the random number generator.
+
+	private static final long SEED = 1998L;
+
+	// Private data members
+
+	// The random number generator used by the seeded benchmarks.
+
+	private SplittableRandom _generator;
+
+	// The arrays that the results of the batch benchmark are stored in.
+
+	private int[] _white;
+	private int[] _colored;
+	private int[] _subsequent;
+
+	// Setup
+
+	/**
+	 * Create the random number generator and the arrays used by the
+	 * benchmarks.
+	 */
+
+	@Setup
+	public void setup()
+	{
+		_generator  = new SplittableRandom(SEED);
+
+		_white      = new int[BATCH_SIZE];
+		_colored    = new int[BATCH_SIZE];
+		_subsequent = new int[BATCH_SIZE];
+	}
+
+	// Benchmarks
+
+	/**
+	 * Roll the dice by creating a new instance, using the random number
+	 * generator of the current thread.
+	 *
+	 * @return the new instance.
+	 */
+
+	@Benchmark
+	public Dice roll()
+	{
+		return new Dice();
+	}
+
+	/**
+	 * Roll the dice by creating a new instance, using the seeded random
+	 * number generator.
+	 *
+	 * @return the new instance.
+	 */
+
+	@Benchmark
+	public Dice rollSeeded()
+	{
+		return new Dice(_generator);
+	}
+
+	/**
+	 * Roll the dice repeatedly, using the seeded random number generator
+	 * and storing the results in the arrays.
+	 *
+	 * @return the array containing the white die values.
+	 */
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public int[] rollInto()
+	{
+		Dice.rollInto(_generator,_white,_colored,_subsequent,BATCH_SIZE);
+
+		return _white;
+	}
+}
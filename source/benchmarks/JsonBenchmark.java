@@ -0,0 +1,175 @@
+// ************************************************************************** //
+// JsonBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                      which contains the JMH benchmarks used to measure     //
+//                      the performance of the classes in jASL.               //
+//                                                                            //
+//                      NOTE: This program is based on Advanced Squad         //
+//                            Leader, which was created by The Avalon Hill    //
+//                            Game Company, and lives on at Multi-Man         //
+//                            Publishing.                                     //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.counters.Leader;
+import jasl.counters.Squad;
+import jasl.counters.Status;
+
+/**
+ * This class contains the benchmarks for the conversion of counters to and
+ * from their <A HREF="http://www.json.org">JSON</A> representation.
+ * <P>
+ * The round trip benchmarks generate the JSON text for a counter and then
+ * use it to update the state of another one with the same attributes.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/JsonBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark
+{
+	// Private data members
+
+	// The source and destination of the JSON text for each type of
+	// counter.
+
+	private Squad  _squad;
+	private Squad  _squadCopy;
+	private Leader _leader;
+	private Leader _leaderCopy;
+
+	// The JSON text for each of the source counters.
+
+	private String _squadJSON;
+	private String _leaderJSON;
+
+	// Setup
+
+	/**
+	 * Create the counters and JSON text used by the benchmarks. The
+	 * source counters are not in their default state, so that all of the
+	 * values are updated by fromJSON().
+	 */
+
+	@Setup
+	public void setup()
+	{
+		_squad      = CounterBenchmark.newSquad();
+		_squadCopy  = CounterBenchmark.newSquad();
+		_leader     = CounterBenchmark.newLeader();
+		_leaderCopy = CounterBenchmark.newLeader();
+
+		_squad.setStatus(Status.States.DESPERATE);
+		_squad.setPortageLevel(1);
+
+		_leader.setStatus(Status.States.BROKEN);
+		_leader.setPortageLevel(2);
+
+		_squadJSON  = _squad.toJSON();
+		_leaderJSON = _leader.toJSON();
+	}
+
+	// Benchmarks
+
+	/**
+	 * Generate the JSON text for a <CODE>Squad</CODE>.
+	 *
+	 * @return the JSON text.
+	 */
+
+	@Benchmark
+	public String squadToJSON()
+	{
+		return _squad.toJSON();
+	}
+
+	/**
+	 * Update a <CODE>Squad</CODE> from existing JSON text.
+	 *
+	 * @return the updated squad.
+	 */
+
+	@Benchmark
+	public Squad squadFromJSON()
+	{
+		_squadCopy.fromJSON(_squadJSON);
+
+		return _squadCopy;
+	}
+
+	/**
+	 * Generate the JSON text for a <CODE>Squad</CODE> and use it to update another one.
+	 *
+	 * @return the updated squad.
+	 */
+
+	@Benchmark
+	public Squad squadRoundTrip()
+	{
+		_squadCopy.fromJSON(_squad.toJSON());
+
+		return _squadCopy;
+	}
+
+	/**
+	 * Generate the JSON text for a <CODE>Leader</CODE>.
+	 *
+	 * @return the JSON text.
+	 */
+
+	@Benchmark
+	public String leaderToJSON()
+	{
+		return _leader.toJSON();
+	}
+
+	/**
+	 * Update a <CODE>Leader</CODE> from existing JSON text.
+	 *
+	 * @return the updated leader.
+	 */
+
+	@Benchmark
+	public Leader leaderFromJSON()
+	{
+		_leaderCopy.fromJSON(_leaderJSON);
+
+		return _leaderCopy;
+	}
+
+	/**
+	 * Generate the JSON text for a <CODE>Leader</CODE> and use it to update another one.
+	 *
+	 * @return the updated leader.
+	 */
+
+	@Benchmark
+	public Leader leaderRoundTrip()
+	{
+		_leaderCopy.fromJSON(_leader.toJSON());
+
+		return _leaderCopy;
+	}
+}
@@ -0,0 +1,123 @@
+// ************************************************************************** //
+// MessagesBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                          which contains the JMH benchmarks used to measure //
+//                          the performance of the classes in jASL.           //
+//                                                                            //
+//                          NOTE: This program is based on Advanced Squad     //
+//                                Leader, which was created by The Avalon     //
+//                                Hill Game Company, and lives on at          //
+//                                Multi-Man Publishing.                       //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.counters.Squad;
+import jasl.utilities.Messages;
+
+/**
+ * This class contains the benchmarks for the generation of text, both for a
+ * single label (<A HREF="../utilities/Messages.html#formatTextString">Messages.formatTextString()</A>) and for all of the
+ * attributes of a counter (toText()), which formats each of its labels.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/MessagesBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesBenchmark
+{
+	// Private data members
+
+	// The counter whose attributes are formatted.
+
+	private Squad _squad;
+
+	// Setup
+
+	/**
+	 * Create the counter used by the benchmarks.
+	 */
+
+	@Setup
+	public void setup()
+	{
+		_squad = CounterBenchmark.newSquad();
+	}
+
+	// Parameters
+
+	/**
+	 * This class contains the arguments of formatTextString().
+	 */
+
+	@State(Scope.Benchmark)
+	public static class Label
+	{
+		/**
+		 * The string that is formatted. The values are a typical
+		 * label and one that is longer than the column width, which is
+		 * truncated.
+		 */
+
+		@Param({"Description", "Smoke Placement Exponent (Truncated)"})
+		public String text;
+
+		/**
+		 * The column width of the formatted string.
+		 */
+
+		@Param({"25"})
+		public int columnWidth;
+	}
+
+	// Benchmarks
+
+	/**
+	 * Format the string as a label, followed by a new line.
+	 *
+	 * @param label the string and column width.
+	 *
+	 * @return the formatted string.
+	 */
+
+	@Benchmark
+	public String formatTextString(Label label)
+	{
+		return Messages.formatTextString(label.text,label.columnWidth,true,
+		                                 true);
+	}
+
+	/**
+	 * Generate the text representation of a <CODE>Squad</CODE>.
+	 *
+	 * @return the text.
+	 */
+
+	@Benchmark
+	public String squadToText()
+	{
+		return _squad.toText();
+	}
+}
@@ -0,0 +1,136 @@
+// ************************************************************************** //
+// SerializationBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                               which contains the JMH benchmarks used to    //
+//                               measure the performance of the classes in    //
+//                               jASL.                                        //
+//                                                                            //
+//                               NOTE: This program is based on Advanced      //
+//                                     Squad Leader, which was created by     //
+//                                     The Avalon Hill Game Company, and      //
+//                                     lives on at Multi-Man Publishing.      //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.counters.Squad;
+import jasl.counters.Status;
+import jasl.counters.Unit;
+import jasl.utilities.Serialization;
+
+/**
+ * This class contains the benchmarks for the conversion of counters to and
+ * from a byte array, using both Java serialization and the binary format
+ * written and read by <A HREF="../utilities/Serialization.html">Serialization</A>.encode() and decode().
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/SerializationBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark
+{
+	// Private data members
+
+	// The counter that is converted.
+
+	private Squad _squad;
+
+	// The serialized and encoded versions of the counter.
+
+	private byte[] _serializedSquad;
+	private byte[] _encodedSquad;
+
+	// Setup
+
+	/**
+	 * Create the counter and byte arrays used by the benchmarks.
+	 *
+	 * @throws Exception in the case of a serialization failure.
+	 */
+
+	@Setup
+	public void setup() throws Exception
+	{
+		_squad = CounterBenchmark.newSquad();
+
+		_squad.setStatus(Status.States.DESPERATE);
+
+		_serializedSquad = Serialization.serializeToByteArray(_squad);
+		_encodedSquad    = Serialization.encode(_squad);
+	}
+
+	// Benchmarks
+
+	/**
+	 * Serialize a <CODE>Squad</CODE> to a byte array.
+	 *
+	 * @return the serialized squad.
+	 *
+	 * @throws Exception in the case of a serialization failure.
+	 */
+
+	@Benchmark
+	public byte[] serializeToByteArray() throws Exception
+	{
+		return Serialization.serializeToByteArray(_squad);
+	}
+
+	/**
+	 * Deserialize a <CODE>Squad</CODE> from a byte array.
+	 *
+	 * @return the deserialized squad.
+	 *
+	 * @throws Exception in the case of a deserialization failure.
+	 */
+
+	@Benchmark
+	public Object deserializeFromByteArray() throws Exception
+	{
+		return Serialization.deserializeFromByteArray(_serializedSquad);
+	}
+
+	/**
+	 * Encode a <CODE>Squad</CODE> in the binary format.
+	 *
+	 * @return the encoded squad.
+	 */
+
+	@Benchmark
+	public byte[] encode()
+	{
+		return Serialization.encode(_squad);
+	}
+
+	/**
+	 * Decode a <CODE>Squad</CODE> from the binary format.
+	 *
+	 * @return the decoded squad.
+	 */
+
+	@Benchmark
+	public Unit decode()
+	{
+		return Serialization.decode(_encodedSquad,Unit.BINARY_DECODER);
+	}
+}
@@ -0,0 +1,147 @@
+// ************************************************************************** //
+// StackBenchmark.java - This class is a member of the <B>benchmarks</B> package,  //
+//                       which contains the JMH benchmarks used to measure    //
+//                       the performance of the classes in jASL.              //
+//                                                                            //
+//                       NOTE: This program is based on Advanced Squad        //
+//                             Leader, which was created by The Avalon Hill   //
+//                             Game Company, and lives on at Multi-Man        //
+//                             Publishing.                                    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jasl.counters.Squad;
+import jasl.counters.Unit;
+import jasl.counters.UnitTemplate;
+import jasl.ui.data.Stack;
+
+/**
+ * This class contains the benchmarks for the manipulation of a
+ * <A HREF="../ui/data/Stack.html">Stack</A>, which represents the counters in a single location.
+ * <P>
+ * Each benchmark builds a stack from the specified number of squads, each
+ * with a unique ID, and then removes them from it one at a time in the order
+ * they were added. The same is done with the items portaged by a single
+ * squad.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/benchmarks/StackBenchmark.html">Source code</A>
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark
+{
+	// Private data members
+
+	/**
+	 * The number of units added to and removed from the stack.
+	 */
+
+	@Param({"4", "16", "48"})
+	public int units;
+
+	// The units added to the stack, each managed by its own stack.
+
+	private Stack[] _stacks;
+
+	// The unit that portages the others.
+
+	private Unit _carrier;
+
+	// Setup
+
+	/**
+	 * Create the units used by the benchmarks.
+	 */
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		UnitTemplate template = CounterBenchmark.newSquad().template();
+
+		_stacks = new Stack[units];
+
+		for (int i = 0;i < units;i++)
+		{
+			_stacks[i] = new Stack(new Squad(template),i + 1,i + 1);
+		}
+
+		_carrier = new Squad(template);
+	}
+
+	// Benchmarks
+
+	/**
+	 * Add all of the units to a new stack as sub-stacks, and then take
+	 * each of them out again.
+	 *
+	 * @return the (empty) stack.
+	 */
+
+	@Benchmark
+	public Stack subStacks()
+	{
+		Stack stack = new Stack(_stacks[0]);
+
+		for (int i = 1;i < units;i++)
+		{
+			stack.addSubStack(_stacks[i]);
+		}
+
+		for (Stack subStack : _stacks)
+		{
+			stack.takeSubStack(subStack.stackID());
+		}
+
+		return stack;
+	}
+
+	/**
+	 * Add all of the units to a new stack as portaged items, and then take
+	 * each of them out again.
+	 *
+	 * @return the stack managing the unit that portaged the items.
+	 */
+
+	@Benchmark
+	public Stack portagedItems()
+	{
+		Stack stack = new Stack(_carrier,units + 1,units + 1);
+
+		for (Stack item : _stacks)
+		{
+			stack.addPortagedItem(item);
+		}
+
+		for (Stack item : _stacks)
+		{
+			stack.takePortagedItem(item.stackID());
+		}
+
+		return stack;
+	}
+}
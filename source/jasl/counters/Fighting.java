@@ -13,15 +13,24 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.Serialization;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to define the basic characteristics of a combat unit
@@ -50,25 +59,64 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 		Messages.buildErrorMessage("Fighting",Messages.CONSTRUCTOR,
 		                           Messages.NULL_PARAMETER_MSG);
 
-	// Private data members
+	// This value combines the bits of all of the recognized states. Any
+	// status value with other bits set is invalid.
 
-	// This variable contains the nationality of the derived object of this
-	// class (e.g. "American" or "German").
+	private static final int VALID_STATES_MASK;
 
-	private Nationalities _nationality;
+	// The results of status() and statusSet() for each valid status value,
+	// indexed by that value. These are created once, so that the status of
+	// a unit can be checked repeatedly without allocating new objects.
 
-	// This variable is used to store the specific type of the counter. It
-	// is intended for vehicles (Pz VIb, T-34/76, etc.) and weapons
-	// (FlaK 30, ATR, etc.) for more precise identification. Infantry units
-	// may have infantry designations such as SS, Gurkha, Paratroopers, etc.
-	// Examples of possible values for are found in the
-	// <A HREF="UnitType.html">UnitType.InfantryTypes</A> enum. If one of these values is specified, it
-	// will be checked against the specified nationality and, in some cases,
-	// the description.
-	//
-	// This item may be empty, but not null.
+	private static final List<List<States>> STATUS_LISTS;
+	private static final List<Set<States>>  STATUS_SETS;
+
+	static
+	{
+		int validStates = 0;
 
-	private String _unitType;
+		for (States state : States.values())
+		{
+			validStates |= state.value();
+		}
+
+		VALID_STATES_MASK = validStates;
+
+		ArrayList<List<States>> statusLists = new ArrayList<List<States>>();
+		ArrayList<Set<States>>  statusSets  = new ArrayList<Set<States>>();
+
+		for (int status = 0;status <= VALID_STATES_MASK;status++)
+		{
+			ArrayList<States> statesList = new ArrayList<States>();
+			EnumSet<States>   statesSet  = EnumSet.noneOf(States.class);
+
+			if ((status & ~VALID_STATES_MASK) == 0)
+			{
+				for (States state : States.values())
+				{
+					if ((status & state.value()) > 0)
+					{
+						if ((States.BROKEN == state) &&
+						    ((status & States.DESPERATE.value()) > 0))
+						{
+							continue;
+						}
+
+						statesList.add(state);
+						statesSet.add(state);
+					}
+				}
+			}
+
+			statusLists.add(Collections.unmodifiableList(statesList));
+			statusSets.add(Collections.unmodifiableSet(statesSet));
+		}
+
+		STATUS_LISTS = Collections.unmodifiableList(statusLists);
+		STATUS_SETS  = Collections.unmodifiableList(statusSets);
+	}
+
+	// Private data members
 
 	// This variable contains a simple identifier for the unit, typically a
 	// single alphanumeric character. It is also used to store the full name
@@ -80,8 +128,17 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 	// this class. The status values are defined in the <A HREF="Status.html">Status.States</A> enum.
 	// This value is used as a bit-field with the state values corresponding
 	// to the individual bits.
+	//
+	// Changes to it are made with a compare-and-set through the updater
+	// below, rather than a read-modify-write, so that units may be shared
+	// by multiple threads (e.g. during the parallel resolution of a phase)
+	// without a lock. Each change, including the setting of BROKEN along
+	// with DESPERATE, is made as a single update.
+
+	private volatile int _status;
 
-	private int _status;
+	private static final AtomicIntegerFieldUpdater<Fighting> STATUS_UPDATER =
+		AtomicIntegerFieldUpdater.newUpdater(Fighting.class,"_status");
 
 	// Constructor
 
@@ -89,35 +146,35 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 	// are passed up the inheritance tree from the constructor of the object
 	// type being created.
 
-	protected Fighting(Descriptions description,Nationalities nationality,
-	                   String unitType)
+	protected Fighting(UnitTemplate template)
 	{
-		// Pass the first argument to the superclass constructor. If any
-		// exceptions are thrown, assume that they will be caught and
-		// handled by the program creating the object.
+		// Pass the template to the superclass constructor.
 
-		super(description);
+		super(template);
 
-		// Copy the value of each remaining argument to the
-		// corresponding variable if an exception is not found.
-
-		// Nationality
+		// Set the initial status to the default. This value will be set
+		// more specifically through the use of the setStatus() method.
 
-		_nationality = nationality;
+		_status = States.NORMAL.value();
+	}
 
-		// Unit Type
+	// Check the attributes of a new unit that are defined at this level of
+	// the hierarchy. This is done before its template is created, with the
+	// derived classes calling this method before checking their own
+	// attributes.
+	//
+	// The unit type is intended for vehicles (Pz VIb, T-34/76, etc.) and weapons
+	// (FlaK 30, ATR, etc.) for more precise identification. Infantry units
+	// may have infantry designations such as SS, Gurkha, Paratroopers, etc.
+	// Examples of possible values for are found in the
+	// <A HREF="UnitType.html">UnitType.InfantryTypes</A> enum. This item may be empty, but not null.
 
+	static void validate(String unitType)
+	{
 		if (null == unitType)
 		{
 			throw new NullPointerException(nullPointerError);
 		}
-
-		_unitType = unitType;
-
-		// Set the initial status to the default. This value will be set
-		// more specifically through the use of the setStatus() method.
-
-		_status = States.NORMAL.value();
 	}
 
 	// Public access methods
@@ -126,114 +183,91 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
+	 *
+	 * @param textWriter the destination of the text.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		// Nationality
 
-		returnString.append(Messages.formatTextString(NATIONALITY_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(NATIONALITY_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(nationality().toString(),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(nationality().toString(),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Unit Type
 
-		returnString.append(Messages.formatTextString(UNIT_TYPE_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(UNIT_TYPE_LABEL,THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(unitType(),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(unitType(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 
 		// Identity
 
-		returnString.append(Messages.formatTextString(IDENTITY_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(IDENTITY_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(identity(),
-		                                              80 - FIRST_COLUMN_LABEL_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(identity(),
+		                      80 - FIRST_COLUMN_LABEL_WIDTH,true);
 
 		// Status
 
-		returnString.append(Messages.formatTextString(STATUS_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(STATUS_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(status().toString(),
-		                                              80 - FIRST_COLUMN_LABEL_WIDTH,
-		                                              false,true));
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		textWriter.writeValue(status().toString(),
+		                      80 - FIRST_COLUMN_LABEL_WIDTH,true);
 	}
 
 	/**
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "  ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(NATIONALITY_LABEL,nationality().name()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(UNIT_TYPE_LABEL,unitType()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(IDENTITY_LABEL,identity()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(STATUS_LABEL,_status) +
-		                    JSON_OBJECT_SEPARATOR);
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		jsonWriter.writePair(INDENT,NATIONALITY_LABEL,nationality().name());
+		jsonWriter.writePair(INDENT,UNIT_TYPE_LABEL,unitType());
+		jsonWriter.writePair(INDENT,IDENTITY_LABEL,identity());
+		jsonWriter.writePair(INDENT,STATUS_LABEL,_status);
 	}
 
 	/**
@@ -248,7 +282,7 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	public final Nationalities nationality()
 	{
-		return _nationality;
+		return template().nationality();
 	}
 
 	/**
@@ -267,7 +301,7 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	public final String unitType()
 	{
-		return _unitType;
+		return template().unitType();
 	}
 
 	/**
@@ -305,37 +339,79 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	public final List<States> status()
 	{
-		ArrayList<States> statesList = new ArrayList<States>();
+		return STATUS_LISTS.get(_status);
+	}
 
-		for (States state : States.values())
-		{
-			if ((_status & state.value()) > 0)
-			{
-				if ((States.BROKEN == state) &&
-				    ((_status & States.DESPERATE.value()) > 0))
-				{
-					continue;
-				}
+	/**
+	 * Return the current status of a unit as a set.
+	 * <P>
+	 * The contents are the same as the list returned by status(). The set
+	 * is shared by all units with the same status, so no objects are
+	 * created by calling this method.
+	 *
+	 * @return an <B>unmodifiable</B> <CODE>Set</CODE> of States describing the unit status. If
+	 * the current state is NORMAL, the returned set will be empty.
+	 *
+	 * @see #status
+	 */
 
-				statesList.add(state);
-			}
-		}
+	public final Set<States> statusSet()
+	{
+		return STATUS_SETS.get(_status);
+	}
+
+	/**
+	 * Return the current status of a unit as a bit mask, with the bits
+	 * corresponding to the values of the States enum.
+	 *
+	 * @return the status value.
+	 *
+	 * @see #hasStatus
+	 */
 
-		return Collections.unmodifiableList(statesList);
+	public final int statusMask()
+	{
+		return _status;
+	}
+
+	/**
+	 * Determine if a unit is in the specified state.
+	 * <P>
+	 * Unlike status(), a state that is a prerequisite for another one is
+	 * reported as being set. For example, a unit subject to desperation
+	 * morale is also broken.
+	 *
+	 * @param state the state to be checked.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the unit is in the specified
+	 * state. In the case of NORMAL, it is true only if no other state has
+	 * been set.
+	 *
+	 * @see #statusMask
+	 */
+
+	public final boolean hasStatus(States state)
+	{
+		int status = _status;
+
+		return (States.NORMAL == state) ?
+		       (States.NORMAL.value() == status) :
+		       ((status & state.value()) != 0);
 	}
 
 	// Update methods
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching or
 	 * invalid data values are found within the text.
@@ -345,12 +421,13 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
@@ -358,12 +435,10 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 		try
 		{
-			JSONObject jsonObject = new JSONObject(jsonData);
-
 			Nationalities nationality =
 				Nationalities.valueOf(jsonObject.getString(NATIONALITY_LABEL));
 
-			if (nationality != _nationality)
+			if (nationality != nationality())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -374,7 +449,7 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 			String unitType = jsonObject.getString(UNIT_TYPE_LABEL);
 
-			if (!unitType.equals(_unitType))
+			if (!unitType.equals(unitType()))
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -389,7 +464,7 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 			int status = jsonObject.getInt(STATUS_LABEL);
 
-			if (status < 0)
+			if ((status < 0) || (0 != (status & ~VALID_STATES_MASK)))
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NOT_VALID_PREFIX +
@@ -450,6 +525,10 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	/**
 	 * Change the status of a unit.
+	 * <P>
+	 * This method may be called by multiple threads at the same time. The
+	 * change is made atomically, and BROKEN is not cleared while DESPERATE
+	 * is set.
 	 *
 	 * @param state the state to be cleared or removed.
 	 *
@@ -461,23 +540,35 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	public final boolean clearStatus(States state)
 	{
-		if ((_status & state.value()) > 0)
+		int status;
+
+		do
 		{
-			if ((States.BROKEN == state) &&
-			    ((_status & States.DESPERATE.value()) > 0))
+			status = _status;
+
+			if (0 == (status & state.value()))
 			{
 				return false;
 			}
 
-			_status &= ~state.value();
-			return true;
+			if ((States.BROKEN == state) &&
+			    ((status & States.DESPERATE.value()) > 0))
+			{
+				return false;
+			}
 		}
+		while (!STATUS_UPDATER.compareAndSet(this,status,
+		                                     status & ~state.value()));
 
-		return false;
+		return true;
 	}
 
 	/**
 	 * Change the status of a unit.
+	 * <P>
+	 * This method may be called by multiple threads at the same time. The
+	 * change is made atomically, with BROKEN being set along with
+	 * DESPERATE, so no other thread can see the latter without the former.
 	 *
 	 * @param state the state to be set or applied.
 	 *
@@ -489,20 +580,83 @@ abstract class Fighting extends Unit implements Identity, Nationality,
 
 	public final boolean setStatus(States state)
 	{
-		if (0 == (_status & state.value()))
-		{
-			_status ^= state.value();
+		int newStates = (States.DESPERATE == state) ?
+		                (state.value() | States.BROKEN.value()) :
+		                state.value();
+
+		int status;
 
-			if (States.DESPERATE == state) setStatus(States.BROKEN);
+		do
+		{
+			status = _status;
 
-			return true;
+			if (0 != (status & state.value()))
+			{
+				return false;
+			}
 		}
+		while (!STATUS_UPDATER.compareAndSet(this,status,status | newStates));
 
-		return false;
+		return true;
 	}
 
 	// Other methods
 
+	/**
+	 * Write the binary representation of the mutable attributes (identity
+	 * and status) of an instance of this class to the specified buffer.
+	 * <P>
+	 * This method is intended for use by the encode() implementation in
+	 * derived public classes, after the fixed attributes of the unit have
+	 * been written. Classes that extend it must call this implementation
+	 * first.
+	 *
+	 * @param buffer the destination of the data.
+	 *
+	 * @see #decodeState
+	 */
+
+	protected void encodeState(ByteBuffer buffer)
+	{
+		Serialization.putString(buffer,_identity);
+		buffer.put((byte)_status);
+	}
+
+	/**
+	 * Read the mutable attributes (identity and status) of an instance of
+	 * this class, written by encodeState(), from the specified buffer.
+	 * <P>
+	 * This method is intended for use by the decode() implementation in
+	 * derived public classes, after the instance has been created from the
+	 * fixed attributes. Classes that extend it must call this
+	 * implementation first.
+	 *
+	 * @param buffer the source of the data.
+	 * @param version the version of the format in which the data was
+	 * written.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid status
+	 * value.
+	 *
+	 * @see #encodeState
+	 */
+
+	protected void decodeState(ByteBuffer buffer,int version)
+	{
+		setIdentity(Serialization.getString(buffer));
+
+		int status = buffer.get();
+
+		if ((status < 0) || (0 != (status & ~VALID_STATES_MASK)))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "decode",
+			                                                              Messages.INVALID_PARAMETER_MSG + status));
+		}
+
+		_status = status;
+	}
+
 	/**
 	 * Add the identity setting, in parentheses, to the specified buffer.
 	 * <P>
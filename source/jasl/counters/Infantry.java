@@ -13,11 +13,17 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import jasl.utilities.Dice;
+import jasl.utilities.DiceProbability;
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to define the characteristics which are common to all
@@ -60,77 +66,32 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 		Messages.buildErrorMessage(CLASS_NAME,Messages.CONSTRUCTOR,
 		                           Messages.INVALID_PARAMETER_MSG);
 
-	// Private data members
-
-	// This variable stores the firepower of the unit that this object
-	// represents. Note that it is specified to the constructor as
-	// firepower, but this item (which has the matching type, both to the
-	// constructor and for application in the IFT) is used to store it.
-
-	private int _firepowerEquivalent;
-
-	// This variable stores the normal range of the unit that this object
-	// represents.
-
-	private int _normalRange;
-
-	// This variable contains the normal morale value of the derived object
-	// of this class.
-
-	private int _morale;
-
-	// This variable contains the morale value of the derived object of this
-	// class when it is "broken".
-
-	private int _brokenMorale;
-
-	// This variable indicates whether or not it is possible for the derived
-	// object of this class to "self rally". It is applied during the
-	// execution of the restore() method.
-
-	private boolean _canSelfRally;
-
-	// This variable contains the number of portage points associated with a
-	// derived object of this class (how much it costs to carry the unit).
-
-	private int _portageValue;
-
-	// This variable stores the basic point value of the unit that this
-	// object represents. This is used in the calculation of Battlefield
-	// Integrity and for design your own (DYO) scenarios.
-
-	private int _basicPointValue;
-
-	// This variable stores the experience level rating of the unit this
-	// object represents. This is used in unit substitution and replacement.
-
-	private int _experienceLevelRating;
-
-	// This variable stores a more specific type, designation, nationality,
-	// etc. for the unit this object represents. The text equivalent of this
-	// value is passed to the superclass constructor.
-
-	private InfantryTypes _infantryType;
-
 	// Constructor
 
-	// During the instantiation of derived concrete classes the arguments
-	// are passed up the inheritance tree from the constructor of the object
+	// During the instantiation of derived concrete classes the template is
+	// passed up the inheritance tree from the constructor of the object
 	// type being created.
 
-	protected Infantry(Descriptions description,Nationalities nationality,
-	                   InfantryTypes unitType,int movement,
-	                   int portageCapacity,int firepower,int normalRange,
-	                   int morale,int brokenMorale,boolean canSelfRally,
-	                   int portageValue,int basicPointValue,
-	                   int experienceLevelRating)
+	protected Infantry(UnitTemplate template)
+	{
+		super(template);
+	}
+
+	// Check the attributes of a new unit that are defined at this level of
+	// the hierarchy, after those of the superclasses. The values are
+	// stored in the template of the unit. Note that the firepower is
+	// stored as the firepower equivalent, which is the matching type both
+	// to the constructor and for application in the IFT.
+
+	static void validate(Descriptions description,Nationalities nationality,
+	                     InfantryTypes unitType,int movement,
+	                     int portageCapacity,int firepower,int normalRange,
+	                     int morale,int brokenMorale,int portageValue,
+	                     int basicPointValue,int experienceLevelRating)
 	{
-		// Pass the first 5 arguments to the superclass constructor. If
-		// any exceptions are thrown, assume that they will be caught
-		// and handled by the program creating the object.
+		// Check the attributes defined in the superclasses first.
 
-		super(description,nationality,unitType.toString(),movement,
-		      portageCapacity);
+		Mobile.validate(unitType.toString(),movement,portageCapacity);
 
 		// Since the unitType is ultimately stored as a string in a
 		// parent class, check the specified value against any of the
@@ -169,9 +130,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   unitType.toString());
 		}
 
-		// Check the value of each remaining argument and copy the value
-		// to the local copy of the corresponding variable if an
-		// exception is not found.
+		// Check the value of each remaining argument.
 
 		// Firepower
 
@@ -181,8 +140,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   firepower);
 		}
 
-		_firepowerEquivalent = firepower;
-
 		// Normal Range
 
 		if (normalRange < MIN_RANGE)
@@ -191,8 +148,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   normalRange);
 		}
 
-		_normalRange = normalRange;
-
 		// Morale
 
 		if ((morale < MIN_MORALE) || (morale > MAX_MORALE))
@@ -201,8 +156,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   morale);
 		}
 
-		_morale = morale;
-
 		// Broken Morale
 
 		if ((brokenMorale < MIN_MORALE) || (brokenMorale > MAX_MORALE))
@@ -211,12 +164,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   brokenMorale);
 		}
 
-		_brokenMorale = brokenMorale;
-
-		// Self Rally Capability
-
-		_canSelfRally = canSelfRally;
-
 		// Portage Value
 
 		if ((portageValue < MIN_PORTAGE_VALUE) ||
@@ -226,8 +173,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   portageValue);
 		}
 
-		_portageValue = portageValue;
-
 		// Basic Point Value
 
 		if (basicPointValue < MIN_BPV)
@@ -236,8 +181,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			                                   basicPointValue);
 		}
 
-		_basicPointValue = basicPointValue;
-
 		// Experience Level Rating
 
 		if ((experienceLevelRating < MIN_ELR) ||
@@ -246,12 +189,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			throw new IllegalArgumentException(invalidArgumentError +
 			                                   experienceLevelRating);
 		}
-
-		_experienceLevelRating = experienceLevelRating;
-
-		// Infantry Type
-
-		_infantryType = unitType;
 	}
 
 	// Public access methods
@@ -260,192 +197,143 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @param textWriter the destination of the text.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		// Firepower
 
-		returnString.append(Messages.formatTextString(FIREPOWER_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(FIREPOWER_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(firepower(),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(firepower(),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Firepower Equivalent
 
-		returnString.append(Messages.formatTextString(FIREPOWER_EQUIV_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(FIREPOWER_EQUIV_LABEL,
+		                      THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(firepowerEquivalent()),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(firepowerEquivalent(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 
 		// Normal Range
 
-		returnString.append(Messages.formatTextString(NORMAL_RANGE_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(NORMAL_RANGE_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(normalRange()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(normalRange(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 
 		// Morale
 
-		returnString.append(Messages.formatTextString(MORALE_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(MORALE_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(morale()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(morale(),SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Broken Morale
 
-		returnString.append(Messages.formatTextString(BROKEN_MORALE_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(BROKEN_MORALE_LABEL,
+		                      THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(brokenMorale()),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(brokenMorale(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 
 		// Self Rally Capability
 
-		returnString.append(Messages.formatTextString(CAN_SELF_RALLY_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(CAN_SELF_RALLY_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Messages.getChoiceLabel(canSelfRally()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(Messages.getChoiceLabel(canSelfRally()),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 
 		// Portage Value
 
-		returnString.append(Messages.formatTextString(PORTAGE_VALUE_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(PORTAGE_VALUE_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(portageValue()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(portageValue(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 
 		// Basic Point Value
 
-		returnString.append(Messages.formatTextString(BPV_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(BPV_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(basicPointValue()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(basicPointValue(),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Experience Level Rating
 
-		returnString.append(Messages.formatTextString(ELR_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(ELR_LABEL,THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(experienceLevelRating()),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(experienceLevelRating(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 
 		// Infantry Type
 
-		returnString.append(Messages.formatTextString(INFANTRY_TYPE_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
-
-		returnString.append(Messages.formatTextString(infantryType().name(),
-		                                              80 - FIRST_COLUMN_LABEL_WIDTH,
-		                                              false,true));
-
-		// Return the completed string to calling program.
+		textWriter.writeLabel(INFANTRY_TYPE_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		return returnString.toString();
+		textWriter.writeValue(infantryType().name(),
+		                      80 - FIRST_COLUMN_LABEL_WIDTH,true);
 	}
 
 	/**
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "    ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(FIREPOWER_LABEL,firepower()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(FIREPOWER_EQUIV_LABEL,firepowerEquivalent()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(NORMAL_RANGE_LABEL,normalRange()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(MORALE_LABEL,morale()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(BROKEN_MORALE_LABEL,brokenMorale()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(CAN_SELF_RALLY_LABEL,canSelfRally()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(PORTAGE_VALUE_LABEL,portageValue()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(BPV_LABEL,basicPointValue()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(ELR_LABEL,experienceLevelRating()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(INFANTRY_TYPE_LABEL,infantryType().name()) +
-		                    JSON_OBJECT_SEPARATOR);
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		jsonWriter.writePair(INDENT,FIREPOWER_LABEL,firepower());
+		jsonWriter.writePair(INDENT,FIREPOWER_EQUIV_LABEL,firepowerEquivalent());
+		jsonWriter.writePair(INDENT,NORMAL_RANGE_LABEL,normalRange());
+		jsonWriter.writePair(INDENT,MORALE_LABEL,morale());
+		jsonWriter.writePair(INDENT,BROKEN_MORALE_LABEL,brokenMorale());
+		jsonWriter.writePair(INDENT,CAN_SELF_RALLY_LABEL,canSelfRally());
+		jsonWriter.writePair(INDENT,PORTAGE_VALUE_LABEL,portageValue());
+		jsonWriter.writePair(INDENT,BPV_LABEL,basicPointValue());
+		jsonWriter.writePair(INDENT,ELR_LABEL,experienceLevelRating());
+		jsonWriter.writePair(INDENT,INFANTRY_TYPE_LABEL,infantryType().name());
 	}
 
 	/**
@@ -456,7 +344,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final String firepower()
 	{
-		return Integer.toString(_firepowerEquivalent);
+		return Integer.toString(firepowerEquivalent());
 	}
 
 	/**
@@ -469,7 +357,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int firepowerEquivalent()
 	{
-		return _firepowerEquivalent;
+		return template().firepowerEquivalent();
 	}
 
 	/**
@@ -481,7 +369,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int normalRange()
 	{
-		return _normalRange;
+		return template().normalRange();
 	}
 
 	/**
@@ -494,7 +382,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int morale()
 	{
-		return _morale;
+		return template().morale();
 	}
 
 	/**
@@ -507,7 +395,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int brokenMorale()
 	{
-		return _brokenMorale;
+		return template().brokenMorale();
 	}
 
 	/**
@@ -524,7 +412,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final boolean canSelfRally()
 	{
-		return _canSelfRally;
+		return template().canSelfRally();
 	}
 
 	/**
@@ -537,7 +425,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int portageValue()
 	{
-		return _portageValue;
+		return template().portageValue();
 	}
 
 	/**
@@ -551,7 +439,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int basicPointValue()
 	{
-		return _basicPointValue;
+		return template().basicPointValue();
 	}
 
 	/**
@@ -564,7 +452,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final int experienceLevelRating()
 	{
-		return _experienceLevelRating;
+		return template().experienceLevelRating();
 	}
 
 	/**
@@ -580,21 +468,22 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final InfantryTypes infantryType()
 	{
-		return _infantryType;
+		return template().infantryType();
 	}
 
 	// Update methods
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching data
 	 * values are found within the text.
@@ -604,12 +493,13 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
@@ -617,8 +507,6 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 		try
 		{
-			JSONObject jsonObject = new JSONObject(jsonData);
-
 			String firepower =
 				jsonObject.getString(FIREPOWER_LABEL);
 
@@ -634,7 +522,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			int firepowerEquivalent =
 				jsonObject.getInt(FIREPOWER_EQUIV_LABEL);
 
-			if (firepowerEquivalent != _firepowerEquivalent)
+			if (firepowerEquivalent != firepowerEquivalent())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -645,7 +533,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 			int normalRange = jsonObject.getInt(NORMAL_RANGE_LABEL);
 
-			if (normalRange != _normalRange)
+			if (normalRange != normalRange())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -656,7 +544,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 			int morale = jsonObject.getInt(MORALE_LABEL);
 
-			if (morale != _morale)
+			if (morale != morale())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -668,7 +556,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			int brokenMorale =
 				jsonObject.getInt(BROKEN_MORALE_LABEL);
 
-			if (brokenMorale != _brokenMorale)
+			if (brokenMorale != brokenMorale())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -680,7 +568,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			boolean canSelfRally =
 				jsonObject.getBoolean(CAN_SELF_RALLY_LABEL);
 
-			if (canSelfRally != _canSelfRally)
+			if (canSelfRally != canSelfRally())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -692,7 +580,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			int portageValue =
 				jsonObject.getInt(PORTAGE_VALUE_LABEL);
 
-			if (portageValue != _portageValue)
+			if (portageValue != portageValue())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -703,7 +591,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 			int basicPointValue = jsonObject.getInt(BPV_LABEL);
 
-			if (basicPointValue != _basicPointValue)
+			if (basicPointValue != basicPointValue())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -715,7 +603,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			int experienceLevelRating =
 				jsonObject.getInt(ELR_LABEL);
 
-			if (experienceLevelRating != _experienceLevelRating)
+			if (experienceLevelRating != experienceLevelRating())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -727,7 +615,7 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 			InfantryTypes infantryType =
 				InfantryTypes.valueOf(jsonObject.getString(INFANTRY_TYPE_LABEL));
 
-			if (infantryType != _infantryType)
+			if (infantryType != infantryType())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -766,6 +654,9 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	/**
 	 * Perform a morale or task check on a unit.
+	 * <P>
+	 * The dice are rolled using the random number generator of the current
+	 * thread. See check(int,Dice) for the details of the resolution.
 	 *
 	 * @param modifier the applicable dice roll modifier (DRM) for the check.
 	 * This includes leadership DRM as well as other factors.
@@ -779,11 +670,114 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final boolean check(int modifier)
 	{
-		return false;
+		return check(modifier,new Dice());
+	}
+
+	/**
+	 * Perform a morale or task check on a unit, using the result of the
+	 * specified dice roll.
+	 * <P>
+	 * The check fails if the combined result of the white and colored dice,
+	 * plus the modifier, is greater than the current morale level of the
+	 * unit (its broken morale if it is not in the normal state). A unit in
+	 * the normal state that fails becomes broken. The status of a unit that
+	 * is already broken is not changed by a failed check, since the outcome
+	 * (reduction or elimination) is not represented by its status.
+	 *
+	 * @param modifier the applicable dice roll modifier (DRM) for the check.
+	 * This includes leadership DRM as well as other factors.
+	 * @param dice the dice roll used to resolve the check.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @throws NullPointerException in the case of a null dice argument.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public final boolean check(int modifier,Dice dice)
+	{
+		// Check the argument received and throw an exception if
+		// necessary.
+
+		if (null == dice)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "check",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return check(modifier,dice.whiteDieValue(),dice.coloredDieValue());
+	}
+
+	/**
+	 * Perform a morale or task check on a unit, using the specified values
+	 * of the white and colored dice.
+	 * <P>
+	 * This is resolved as described for check(int,Dice). No objects are
+	 * created, so the dice may be rolled in batches (see <A HREF="../utilities/Dice.html#rollInto(java.util.SplittableRandom, int[], int[], int[], int)">Dice.rollInto()</A>).
+	 *
+	 * @param modifier the applicable dice roll modifier (DRM) for the check.
+	 * This includes leadership DRM as well as other factors.
+	 * @param whiteDieValue the value of the white die.
+	 * @param coloredDieValue the value of the colored die.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @throws IllegalArgumentException in the case of a die value that is
+	 * not from 1 to 6.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public final boolean check(int modifier,int whiteDieValue,
+	                           int coloredDieValue)
+	{
+		checkDieValues("check",whiteDieValue,coloredDieValue);
+
+		boolean isBroken = hasStatus(States.BROKEN);
+
+		int currentMorale = isBroken ? brokenMorale() : morale();
+
+		// The unit passes if the final dice roll does not exceed its
+		// current morale.
+
+		if ((whiteDieValue + coloredDieValue + modifier) <= currentMorale)
+		{
+			return false;
+		}
+
+		return isBroken ? false : setStatus(States.BROKEN);
+	}
+
+	/**
+	 * Return the probability that a morale or task check on a unit, with
+	 * the specified modifier, changes its status. This is determined
+	 * exactly, as described for check(int,Dice), without rolling the dice
+	 * or changing the unit.
+	 *
+	 * @param modifier the applicable dice roll modifier (DRM) for the check.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 *
+	 * @see DiceProbability
+	 */
+
+	public final double checkProbability(int modifier)
+	{
+		return hasStatus(States.BROKEN) ? 0.0 : DiceProbability.fails(morale(),modifier);
 	}
 
 	/**
 	 * Attempt to restore a unit's status to normal.
+	 * <P>
+	 * The dice are rolled using the random number generator of the current
+	 * thread. See restore(boolean,int,Dice) for the details of the
+	 * resolution.
 	 *
 	 * @param leaderPresent indicates if a leader is present, which may
 	 * determine if a restoration attempt can be made or not. Note that the
@@ -801,18 +795,112 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 	public final boolean restore(boolean leaderPresent,int modifier)
 	{
+		return restore(leaderPresent,modifier,new Dice());
+	}
+
+	/**
+	 * Attempt to restore a unit's status to normal, using the result of the
+	 * specified dice roll.
+	 * <P>
+	 * An attempt is only made for a broken unit that is capable of self
+	 * rallying, or one with a leader present. It succeeds if the combined
+	 * result of the white and colored dice, plus the modifier, does not
+	 * exceed the broken morale of the unit. A unit subject to desperation
+	 * morale has an additional +4 modifier. If successful, the unit returns
+	 * to the normal state.
+	 *
+	 * @param leaderPresent indicates if a leader is present, which may
+	 * determine if a restoration attempt can be made or not. Note that the
+	 * leader is considered "present" only when in the normal (unbroken)
+	 * state.
+	 * @param modifier the applicable dice roll modifier for the attempt.
+	 * This includes leadership DRM as well as other factors.
+	 * @param dice the dice roll used to resolve the attempt.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @throws NullPointerException in the case of a null dice argument.
+	 *
+	 * @see Leader
+	 * @see Status
+	 */
+
+	public final boolean restore(boolean leaderPresent,int modifier,
+	                             Dice dice)
+	{
+		// Check the argument received and throw an exception if
+		// necessary.
+
+		if (null == dice)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "restore",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return restore(leaderPresent,modifier,dice.whiteDieValue(),
+		               dice.coloredDieValue());
+	}
+
+	/**
+	 * Attempt to restore a unit's status to normal, using the specified
+	 * values of the white and colored dice.
+	 * <P>
+	 * This is resolved as described for restore(boolean,int,Dice). No
+	 * objects are created, so the dice may be rolled in batches (see
+	 * <A HREF="../utilities/Dice.html#rollInto(java.util.SplittableRandom, int[], int[], int[], int)">Dice.rollInto()</A>).
+	 *
+	 * @param leaderPresent indicates if a leader is present, which may
+	 * determine if a restoration attempt can be made or not.
+	 * @param modifier the applicable dice roll modifier for the attempt.
+	 * This includes leadership DRM as well as other factors.
+	 * @param whiteDieValue the value of the white die.
+	 * @param coloredDieValue the value of the colored die.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @throws IllegalArgumentException in the case of a die value that is
+	 * not from 1 to 6.
+	 *
+	 * @see Leader
+	 * @see Status
+	 */
+
+	public final boolean restore(boolean leaderPresent,int modifier,
+	                             int whiteDieValue,int coloredDieValue)
+	{
+		// Define local constants.
+
+		int DESPERATION_MORALE_MODIFIER = 4;
+
+		checkDieValues("restore",whiteDieValue,coloredDieValue);
+
 		// Verify that the "unit" actually needs to be rallied.
 
-		if ((status().contains(States.BROKEN)) ||
-		    (status().contains(States.DESPERATE)))
+		boolean isDesperate = hasStatus(States.DESPERATE);
+
+		if (hasStatus(States.BROKEN))
 		{
 			// If the unit is capable of self-rallying (leaders and
 			// some elite units) or a <B>unbroken</B> leader is present in
 			// the same space, make the rally attempt.
 
-			if (_canSelfRally || leaderPresent)
+			if (canSelfRally() || leaderPresent)
 			{
-				return true;
+				int finalResult = whiteDieValue + coloredDieValue + modifier;
+
+				if (isDesperate)
+				{
+					finalResult += DESPERATION_MORALE_MODIFIER;
+				}
+
+				if (finalResult <= brokenMorale())
+				{
+					clearStatus(States.DESPERATE);
+					return clearStatus(States.BROKEN);
+				}
 			}
 		}
 
@@ -821,4 +909,60 @@ abstract class Infantry extends Mobile implements Firepower, Morale,
 
 		return false;
 	}
+
+	/**
+	 * Return the probability that an attempt to restore a unit's status to
+	 * normal, with the specified modifier, succeeds. This is determined
+	 * exactly, as described for restore(boolean,int,Dice), without rolling
+	 * the dice or changing the unit.
+	 *
+	 * @param leaderPresent indicates if a leader is present.
+	 * @param modifier the applicable dice roll modifier for the attempt.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 *
+	 * @see DiceProbability
+	 */
+
+	public final double restoreProbability(boolean leaderPresent,int modifier)
+	{
+		// Define local constants.
+
+		int DESPERATION_MORALE_MODIFIER = 4;
+
+		if (!hasStatus(States.BROKEN) || !(canSelfRally() || leaderPresent))
+		{
+			return 0.0;
+		}
+
+		if (hasStatus(States.DESPERATE))
+		{
+			modifier += DESPERATION_MORALE_MODIFIER;
+		}
+
+		return DiceProbability.passes(brokenMorale(),modifier);
+	}
+
+	// Private methods
+
+	// Check the die values received by the specified method, throwing an
+	// exception if either of them is not valid.
+
+	private static void checkDieValues(String methodName,int whiteDieValue,
+	                                   int coloredDieValue)
+	{
+		if (!Dice.isValidDieValue(whiteDieValue))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + whiteDieValue));
+		}
+
+		if (!Dice.isValidDieValue(coloredDieValue))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + coloredDieValue));
+		}
+	}
 }
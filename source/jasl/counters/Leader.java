@@ -13,11 +13,16 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to represent a Leader counter.
@@ -31,8 +36,8 @@ public final class Leader extends Infantry implements Leadership
 {
 	// Symbolic constants
 
-	// These constants are used in the constructor to pass the correct value
-	// for a Leader for each attribute. Other types of units may allow the
+	// These constants are used to create the template with the correct
+	// value for a Leader for each attribute. Other types of units may allow the
 	// calling program to set these values but they are the same for all
 	// Leaders.
 
@@ -52,16 +57,7 @@ public final class Leader extends Infantry implements Leadership
 		Messages.buildErrorMessage(CLASS_NAME,Messages.CONSTRUCTOR,
 		                           Messages.INVALID_PARAMETER_MSG);
 
-	// Private data members
-
-	// This variable contains the modifier available to the derived object
-	// of this class (e.g. "-2"). This modifier allows the leader to affect
-	// the outcome of actions that affect other "units" that share the same
-	// "space".
-
-	private int _modifier;
-
-	// Constructor
+	// Constructors
 
 	/**
 	 * Construct a new <CODE>Leader</CODE>.
@@ -85,21 +81,74 @@ public final class Leader extends Infantry implements Leadership
 	              int morale,int brokenMorale,int experienceLevelRating,
 	              int modifier)
 	{
-		// Pass the first 5 arguments to the superclass constructor.
-		// Note that several variables have been set with symbolic
-		// constants. These are defined at the beginning of this class
-		// and its superclasses. If any exceptions are thrown, assume
-		// that they will be caught and handled by the program creating
-		// the object.
-
-		super(Descriptions.LEADER,nationality,unitType,
-		      MOVEMENT_ALLOWANCE,PORTAGE_CAPACITY,MIN_FIREPOWER,
-		      MIN_RANGE,morale,brokenMorale,true,PORTAGE_VALUE,0,
-		      experienceLevelRating);
-
-		// Check the value of the remaining argument and copy the value
-		// to the local copy of the variable if an exception is not
-		// found.
+		this(template(nationality,unitType,morale,brokenMorale,
+		              experienceLevelRating,modifier));
+	}
+
+	/**
+	 * Construct a new <CODE>Leader</CODE> with the attributes in the specified template.
+	 * <P>
+	 * The template is shared with the other leaders created from it. Only
+	 * the identity, status, and portage level are stored separately for
+	 * each one.
+	 *
+	 * @param template the attributes of the leader, as returned by
+	 * template() or the template() method of another leader.
+	 *
+	 * @throws NullPointerException in the case of a null template.
+	 * @throws IllegalArgumentException in the case of a template that is
+	 * not for a leader.
+	 */
+
+	public Leader(UnitTemplate template)
+	{
+		super(checkTemplate(template));
+	}
+
+	/**
+	 * Return the template for leaders with the specified attributes.
+	 * <P>
+	 * The same (shared) instance is returned for all leaders with the same
+	 * attributes. It can be used to create any number of them.
+	 *
+	 * @param nationality the nationality of the leader. Example - <B><A HREF="Nationality.html#_BRITISH_">BRITISH</A></B>
+	 * @param unitType a more specific nationality, type, or capability
+	 * description for the leader. Example - <B><A HREF="Infantry.html#_CANADIAN_">CANADIAN</A></B>
+	 * @param morale the morale level of the leader in its unbroken state.
+	 * Example - <B>8</B>
+	 * @param brokenMorale the morale level of the leader when it is
+	 * broken. Example - <B>9</B>
+	 * @param experienceLevelRating a value used for determining when a
+	 * leader should be replaced with a lower quality leader. Example - <B>4</B>
+	 * @param modifier the dice roll modifier (DRM) of the leader.
+	 * Example - <B>-1</B>
+	 *
+	 * @return the <CODE>UnitTemplate</CODE> with the specified attributes.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid argument.
+	 */
+
+	public static UnitTemplate template(Nationalities nationality,
+	                                    InfantryTypes unitType,int morale,
+	                                    int brokenMorale,
+	                                    int experienceLevelRating,
+	                                    int modifier)
+	{
+		// Check the attributes defined in the superclasses first. Note
+		// that several values have been set with symbolic constants.
+		// These are defined at the beginning of this class and its
+		// superclasses. If any exceptions are thrown, assume that they
+		// will be caught and handled by the program creating the
+		// object.
+
+		Infantry.validate(Descriptions.LEADER,nationality,unitType,
+		                  MOVEMENT_ALLOWANCE,PORTAGE_CAPACITY,MIN_FIREPOWER,
+		                  MIN_RANGE,morale,brokenMorale,PORTAGE_VALUE,0,
+		                  experienceLevelRating);
+
+		// Check the value of the remaining argument. The modifier
+		// allows the leader to affect the outcome of actions that
+		// affect other "units" that share the same "space".
 
 		// Modifier
 
@@ -109,7 +158,18 @@ public final class Leader extends Infantry implements Leadership
 			throw new IllegalArgumentException(invalidArgumentError + modifier);
 		}
 
-		_modifier = modifier;
+		return UnitTemplate.intern(new UnitTemplate(Descriptions.LEADER,
+		                                            nationality,unitType,
+		                                            MOVEMENT_ALLOWANCE,
+		                                            PORTAGE_CAPACITY,
+		                                            MIN_FIREPOWER,MIN_RANGE,
+		                                            morale,brokenMorale,
+		                                            true,PORTAGE_VALUE,0,
+		                                            experienceLevelRating,
+		                                            false,
+		                                            Classification.Classifications.NONE,
+		                                            false,false,0,
+		                                            modifier));
 	}
 
 	// Public access methods
@@ -118,36 +178,31 @@ public final class Leader extends Infantry implements Leadership
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @param textWriter the destination of the text.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
-		returnString.append(Messages.formatTextString(MODIFIER_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
-
-		returnString.append(Messages.formatTextString(Integer.toString(modifier()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
-
-		// Return the completed string to calling program.
+		textWriter.writeLabel(MODIFIER_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		return returnString.toString();
+		textWriter.writeValue(modifier(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 	}
 
 	/**
@@ -169,13 +224,13 @@ public final class Leader extends Infantry implements Leadership
 
 		// For positive modifier values, add the correct "sign".
 
-		if (_modifier > 0)  returnString.append("+");
-		if (0 == _modifier) returnString.append("-");
+		if (modifier() > 0)  returnString.append("+");
+		if (0 == modifier()) returnString.append("-");
 
 		// Add the modifier value and the counter type. For Russian
 		// commissars, replace the description with their title.
 
-		returnString.append(Integer.toString(_modifier) + " ");
+		returnString.append(Integer.toString(modifier()) + " ");
 		returnString.append((InfantryTypes.COMMISSAR == infantryType()) ?
 		                    infantryType() : description());
 
@@ -193,37 +248,74 @@ public final class Leader extends Infantry implements Leadership
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "     ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(MODIFIER_LABEL,modifier()) +
-		                    JSON_OBJECT_END);
+		jsonWriter.writePair(INDENT,MODIFIER_LABEL,modifier());
 
-		// Return the completed string to calling program.
+		// Close the object, since this is the "bottom" (public) class.
 
-		return returnString.toString();
+		jsonWriter.endObject();
+	}
+
+	/**
+	 * Write the binary representation of an instance of this class to the
+	 * specified buffer.
+	 * <P>
+	 * The attributes used to create the unit are written first, followed
+	 * by the ones that may be changed through its interface (identity,
+	 * status, and portage level).
+	 *
+	 * @param buffer the destination of the data, with its byte order set to
+	 * little-endian.
+	 *
+	 * @throws java.nio.BufferOverflowException in the case where the
+	 * buffer does not have enough space remaining.
+	 *
+	 * @see Unit#BINARY_DECODER
+	 */
+
+	public void encode(ByteBuffer buffer)
+	{
+		// Start with the description, written by the top-level class.
+
+		super.encode(buffer);
+
+		// Add the attributes passed to the constructor.
+
+		buffer.put((byte)nationality().ordinal());
+		buffer.put((byte)infantryType().ordinal());
+		buffer.put((byte)morale());
+		buffer.put((byte)brokenMorale());
+		buffer.put((byte)experienceLevelRating());
+		buffer.put((byte)modifier());
+
+		// Finish with the mutable attributes.
+
+		encodeState(buffer);
 	}
 
 	/**
@@ -234,21 +326,22 @@ public final class Leader extends Infantry implements Leadership
 
 	public int modifier()
 	{
-		return _modifier;
+		return template().modifier();
 	}
 
 	// Update methods
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching data
 	 * values are found within the text.
@@ -258,23 +351,23 @@ public final class Leader extends Infantry implements Leadership
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
 		try
 		{
-			JSONObject jsonObject       = new JSONObject(jsonData);
-			String     exceptionDetails = "";
+			String exceptionDetails = "";
 
 			int modifier = jsonObject.getInt(MODIFIER_LABEL);
 
-			if (modifier != _modifier)
+			if (modifier != modifier())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -298,4 +391,51 @@ public final class Leader extends Infantry implements Leadership
 			                                                   exception.getMessage()));
 		}
 	}
+
+	// Other methods
+
+	// Create an instance of this class from the data written by encode().
+	// The description has already been read by Unit.BINARY_DECODER. The
+	// values are checked by the constructor, just as they are when an
+	// instance is created directly.
+
+	static Leader decode(ByteBuffer buffer,int version)
+	{
+		Nationalities nationality  = decodeValue(Nationalities.values(),buffer);
+		InfantryTypes unitType     = decodeValue(InfantryTypes.values(),buffer);
+		int           morale       = buffer.get();
+		int           brokenMorale = buffer.get();
+		int           elr          = buffer.get();
+		int           modifier     = buffer.get();
+
+		Leader leader = new Leader(nationality,unitType,morale,brokenMorale,
+		                           elr,modifier);
+
+		leader.decodeState(buffer,version);
+
+		return leader;
+	}
+
+	// Private methods
+
+	// Check the template passed to the constructor, before it is passed to
+	// the superclass constructor.
+
+	private static UnitTemplate checkTemplate(UnitTemplate template)
+	{
+		if (null == template)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (Descriptions.LEADER != template.description())
+		{
+			throw new IllegalArgumentException(invalidArgumentError +
+			                                   template.description());
+		}
+
+		return template;
+	}
 }
@@ -13,11 +13,18 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to define the characteristics of units that have the
@@ -47,40 +54,46 @@ abstract class Mobile extends Fighting implements Mobility
 
 	// Private data members
 
-	// This variable contains the movement allowance of the derived object
-	// of this class (e.g. "4").
-
-	private int _movement;
-
-	// This variable contains the maximum portage points that the derived
-	// object of this class can carry without affecting the number of
-	// movement points available to it.
-
-	private int _portageCapacity;
-
 	// This variable contains the current number of portage points of
-	// equipment that the derived object of this class is carrying.
+	// equipment that the derived object of this class is carrying. Like the
+	// status (see <A HREF="Fighting.html">Fighting</A>), relative changes to it are made with a
+	// compare-and-set through the updater below, so that they are not lost
+	// when units are shared by multiple threads.
+
+	private volatile int _portageLevel;
 
-	private int _portageLevel;
+	private static final AtomicIntegerFieldUpdater<Mobile> PORTAGE_LEVEL_UPDATER =
+		AtomicIntegerFieldUpdater.newUpdater(Mobile.class,"_portageLevel");
 
 	// Constructor
 
-	// During the instantiation of derived concrete classes the arguments
-	// are passed up the inheritance tree from the constructor of the object
+	// During the instantiation of derived concrete classes the template is
+	// passed up the inheritance tree from the constructor of the object
 	// type being created.
 
-	protected Mobile(Descriptions description,Nationalities nationality,
-	                 String unitType,int movement,int portageCapacity)
+	protected Mobile(UnitTemplate template)
 	{
-		// Pass the first 3 arguments to the superclass constructor. If
-		// any exceptions are thrown, assume that they will be caught
-		// and handled by the program creating the object.
+		// Pass the template to the superclass constructor.
+
+		super(template);
+
+		// Portage Level
 
-		super(description,nationality,unitType);
+		_portageLevel = MIN_PORTAGE_LEVEL; // Assume that this value
+		                                   // will be determined after
+		                                   // the object is
+		                                   // instantiated.
+	}
+
+	// Check the attributes of a new unit that are defined at this level of
+	// the hierarchy, after those of the superclass. The movement allowance
+	// (e.g. "4") and the maximum portage points that the unit can carry
+	// without affecting the number of movement points available to it are
+	// stored in the template of the unit.
 
-		// Check the value of each remaining argument and copy the
-		// value to the local copy of the corresponding variable if an
-		// exception is not found.
+	static void validate(String unitType,int movement,int portageCapacity)
+	{
+		Fighting.validate(unitType);
 
 		// Movement
 
@@ -89,8 +102,6 @@ abstract class Mobile extends Fighting implements Mobility
 			throw new IllegalArgumentException(invalidArgumentError + movement);
 		}
 
-		_movement = movement;
-
 		// Portage Capacity
 
 		if (portageCapacity < MIN_PORTAGE_CAPACITY)
@@ -98,15 +109,6 @@ abstract class Mobile extends Fighting implements Mobility
 			throw new IllegalArgumentException(invalidArgumentError +
 			                                   portageCapacity);
 		}
-
-		_portageCapacity = portageCapacity;
-
-		// Portage Level
-
-		_portageLevel = MIN_PORTAGE_LEVEL; // Assume that this value
-		                                   // will be determined after
-		                                   // the object is
-		                                   // instantiated.
 	}
 
 	// Public access methods
@@ -115,101 +117,84 @@ abstract class Mobile extends Fighting implements Mobility
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
+	 *
+	 * @param textWriter the destination of the text.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		// Movement
 
-		returnString.append(Messages.formatTextString(MOVEMENT_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(MOVEMENT_LABEL,FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(movement()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(movement(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 
 		// Portage Capacity
 
-		returnString.append(Messages.formatTextString(PORTAGE_CAPACITY_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(PORTAGE_CAPACITY_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(portageCapacity()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(portageCapacity(),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Portage Level
 
-		returnString.append(Messages.formatTextString(PORTAGE_LEVEL_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(PORTAGE_LEVEL_LABEL,
+		                      THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Integer.toString(portageLevel()),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		textWriter.writeValue(portageLevel(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 	}
 
 	/**
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "   ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(MOVEMENT_LABEL,movement()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(PORTAGE_CAPACITY_LABEL,portageCapacity()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(PORTAGE_LEVEL_LABEL,portageLevel()) +
-		                    JSON_OBJECT_SEPARATOR);
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		jsonWriter.writePair(INDENT,MOVEMENT_LABEL,movement());
+		jsonWriter.writePair(INDENT,PORTAGE_CAPACITY_LABEL,portageCapacity());
+		jsonWriter.writePair(INDENT,PORTAGE_LEVEL_LABEL,portageLevel());
 	}
 
 	/**
@@ -228,7 +213,7 @@ abstract class Mobile extends Fighting implements Mobility
 
 	public int movement()
 	{
-		return _movement;
+		return template().movement();
 	}
 
 	/**
@@ -241,7 +226,7 @@ abstract class Mobile extends Fighting implements Mobility
 
 	public final int portageCapacity()
 	{
-		return _portageCapacity;
+		return template().portageCapacity();
 	}
 
 	/**
@@ -260,14 +245,15 @@ abstract class Mobile extends Fighting implements Mobility
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching or
 	 * invalid data values are found within the text.
@@ -277,19 +263,19 @@ abstract class Mobile extends Fighting implements Mobility
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
 		try
 		{
-			JSONObject jsonObject       = new JSONObject(jsonData);
-		        String     exceptionDetails = "";
+			String exceptionDetails = "";
 
 			int movement = jsonObject.getInt(MOVEMENT_LABEL);
 
@@ -305,7 +291,7 @@ abstract class Mobile extends Fighting implements Mobility
 			int portageCapacity =
 				jsonObject.getInt(PORTAGE_CAPACITY_LABEL);
 
-			if (portageCapacity != _portageCapacity)
+			if (portageCapacity != portageCapacity())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -368,4 +354,86 @@ abstract class Mobile extends Fighting implements Mobility
 
 		_portageLevel = portageLevel;
 	}
+
+	/**
+	 * Add the specified number of portage points (PP) to those that a unit
+	 * is currently carrying, or remove them in the case of a negative
+	 * value.
+	 * <P>
+	 * This method may be called by multiple threads at the same time. The
+	 * change is made atomically, so none of the simultaneous changes are
+	 * lost.
+	 *
+	 * @param change the number of portage points to be added (positive) or
+	 * removed (negative).
+	 *
+	 * @return an <CODE>int</CODE> specifying the new portage level of the unit.
+	 *
+	 * @throws IllegalArgumentException in the case of a change that would
+	 * make the level less than zero. The level is not changed.
+	 */
+
+	public final int changePortageLevel(int change)
+	{
+		int portageLevel;
+		int newPortageLevel;
+
+		do
+		{
+			portageLevel    = _portageLevel;
+			newPortageLevel = portageLevel + change;
+
+			if (newPortageLevel < MIN_PORTAGE_LEVEL)
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              "changePortageLevel",
+				                                                              Messages.INVALID_PARAMETER_MSG + change));
+			}
+		}
+		while (!PORTAGE_LEVEL_UPDATER.compareAndSet(this,portageLevel,
+		                                            newPortageLevel));
+
+		return newPortageLevel;
+	}
+
+	// Other methods
+
+	/**
+	 * Write the binary representation of the mutable attributes of an
+	 * instance of this class, beginning with those of the parent class, to
+	 * the specified buffer.
+	 *
+	 * @param buffer the destination of the data.
+	 *
+	 * @see #decodeState
+	 */
+
+	protected void encodeState(ByteBuffer buffer)
+	{
+		super.encodeState(buffer);
+
+		buffer.putInt(_portageLevel);
+	}
+
+	/**
+	 * Read the mutable attributes of an instance of this class, beginning
+	 * with those of the parent class, from the specified buffer.
+	 *
+	 * @param buffer the source of the data.
+	 * @param version the version of the format in which the data was
+	 * written.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid value.
+	 *
+	 * @see #encodeState
+	 */
+
+	protected void decodeState(ByteBuffer buffer,int version)
+	{
+		super.decodeState(buffer,version);
+
+		// Version 1 of the format stored the portage level in a short.
+
+		setPortageLevel((version < 2) ? buffer.getShort() : buffer.getInt());
+	}
 }
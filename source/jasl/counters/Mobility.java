@@ -109,4 +109,16 @@ public interface Mobility
 	 */
 
 	public abstract void setPortageLevel(int portageLevel);
+
+	/**
+	 * Add the specified number of portage points (PP) to those that a unit
+	 * is currently carrying, or remove them in the case of a negative
+	 * value.
+	 *
+	 * @param change the number of portage points to be added or removed.
+	 *
+	 * @return an <CODE>int</CODE> specifying the new portage level of the unit.
+	 */
+
+	public abstract int changePortageLevel(int change);
 }
@@ -13,14 +13,16 @@
 
 package jasl.counters;
 
+import jasl.utilities.Dice;
+
 /**
  * This interface is used to define the public constants and required methods
  * associated with the morale of an <A HREF="Infantry.html">Infantry</A> unit.
  * The methods are intended for operation on integer and boolean member
  * variables within the implementing class.
  *
- * @version 1.0
- * @author Copyright (C) 2012-2015 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.1
+ * @author Copyright (C) 2012-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../source/jasl/counters/Morale.html">Source code</A>
  */
 
@@ -117,6 +119,48 @@ public interface Morale
 
 	public abstract boolean check(int modifier);
 
+	/**
+	 * Perform a morale or task check on a unit, using the result of the
+	 * specified dice roll.
+	 * <P>
+	 * This allows the caller to control the source of the random values
+	 * (e.g. to reproduce a sequence of results).
+	 *
+	 * @param modifier the applicable dice roll modifier (DRM) for the check.
+	 * This includes leadership DRM as well as other factors.
+	 * @param dice the dice roll used to resolve the check.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public abstract boolean check(int modifier,Dice dice);
+
+	/**
+	 * Perform a morale or task check on a unit, using the specified values
+	 * of the white and colored dice.
+	 * <P>
+	 * This allows the caller to roll the dice without creating a <B><A HREF="../utilities/Dice.html">Dice</A></B>
+	 * object for each check (e.g. in a simulation).
+	 *
+	 * @param modifier the applicable dice roll modifier (DRM) for the check.
+	 * This includes leadership DRM as well as other factors.
+	 * @param whiteDieValue the value of the white die.
+	 * @param coloredDieValue the value of the colored die.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public abstract boolean check(int modifier,int whiteDieValue,
+	                              int coloredDieValue);
+
 	/**
 	 * Attempt to restore a unit's status to normal.
 	 *
@@ -133,4 +177,51 @@ public interface Morale
 	 */
 
 	public abstract boolean restore(boolean leaderPresent,int modifier);
+
+	/**
+	 * Attempt to restore a unit's status to normal, using the result of the
+	 * specified dice roll.
+	 * <P>
+	 * This allows the caller to control the source of the random values
+	 * (e.g. to reproduce a sequence of results).
+	 *
+	 * @param leaderPresent indicates if a leader is present, which may
+	 * determine if a restoration attempt can be made or not.
+	 * @param modifier the applicable dice roll modifier for the attempt.
+	 * This includes leadership DRM as well as other factors.
+	 * @param dice the dice roll used to resolve the attempt.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public abstract boolean restore(boolean leaderPresent,int modifier,
+	                                Dice dice);
+
+	/**
+	 * Attempt to restore a unit's status to normal, using the specified
+	 * values of the white and colored dice.
+	 * <P>
+	 * This allows the caller to roll the dice without creating a <B><A HREF="../utilities/Dice.html">Dice</A></B>
+	 * object for each attempt (e.g. in a simulation).
+	 *
+	 * @param leaderPresent indicates if a leader is present, which may
+	 * determine if a restoration attempt can be made or not.
+	 * @param modifier the applicable dice roll modifier for the attempt.
+	 * This includes leadership DRM as well as other factors.
+	 * @param whiteDieValue the value of the white die.
+	 * @param coloredDieValue the value of the colored die.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the status of the unit was changed as
+	 * a result of calling this method.
+	 *
+	 * @see Leadership
+	 * @see Status
+	 */
+
+	public abstract boolean restore(boolean leaderPresent,int modifier,
+	                                int whiteDieValue,int coloredDieValue);
 }
@@ -13,11 +13,15 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to define the characteristics which are common to all
@@ -34,17 +38,17 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 {
 	// Symbolic constants
 
-	// These constants are used in the constructor to pass the correct value
-	// of a Personnel unit (multi-man counter) for each attribute. Other
+	// These constants are used to create the template with the correct
+	// value of a Personnel unit (multi-man counter) for each attribute. Other
 	// types of <A HREF="Unit.html">Unit</A>s may allow the calling program to set these values, but
 	// they are the same for all MMCs. The movement allowance is reduced by
 	// one if the unit is inexperienced (green or conscript) AND a leader is
 	// not present. Since this reduction is based on situation, it is
 	// (obviously) not applied in this class.
 
-	private static final int MOVEMENT_ALLOWANCE = 4;
-	private static final int PORTAGE_CAPACITY = 3;
-	private static final int PORTAGE_VALUE = 10;
+	static final int MOVEMENT_ALLOWANCE = 4;
+	static final int PORTAGE_CAPACITY = 3;
+	static final int PORTAGE_VALUE = 10;
 
 	// This constant is used as part of the error messages (see below) that
 	// are generated when an exception is thrown.
@@ -58,53 +62,39 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 		Messages.buildErrorMessage(CLASS_NAME,Messages.CONSTRUCTOR,
 		                           Messages.INVALID_PARAMETER_MSG);
 
-	// Private data members
-
-	// This variable is used to indicate that the unit that this object
-	// represents is automatically given the <A HREF="ExperienceLevelRating.html#_MAX_ELR_">maximum ELR</A>. This flag affects
-	// how the unit is replaced/reduced. It is indicated on the physical
-	// counter by an underscored morale value.
-
-	private boolean _hasMaximumELR;
-
-	// The purpose of the classification variable is to describe the
-	// experience level of the object that it represents. It applies only to
-	// multi-man units (squads, crews, etc).
-
-	private Classifications _classification;
-
 	// Constructor
 
-	// During the instantiation of derived concrete classes the arguments
-	// are passed up the inheritance tree from the constructor of the object
+	// During the instantiation of derived concrete classes the template is
+	// passed up the inheritance tree from the constructor of the object
 	// type being created.
 
-	protected Personnel(Descriptions description,Nationalities nationality,
-	                    InfantryTypes unitType,int firepower,
-	                    int normalRange,int morale,int brokenMorale,
-	                    boolean canSelfRally,int basicPointValue,
-	                    int experienceLevelRating,boolean hasMaximumELR,
-	                    Classifications classification)
+	protected Personnel(UnitTemplate template)
 	{
-		// Pass the first 10 arguments to the superclass constructor.
-		// Note that one or more variables has been set with symbolic
-		// constants. These are defined at the beginning of this class
-		// and its superclasses. If any exceptions are thrown, assume
-		// that they will be caught and handled by the program creating
-		// the object.
-
-		super(description,nationality,unitType,MOVEMENT_ALLOWANCE,
-		      PORTAGE_CAPACITY,firepower,normalRange,morale,
-		      brokenMorale,canSelfRally,PORTAGE_VALUE,basicPointValue,
-		      experienceLevelRating);
-
-		// Check the value of each remaining argument and copy the value
-		// to the local copy of the corresponding variable if an
-		// exception is not found.
-
-		// Maximum ELR flag
+		super(template);
+	}
 
-		_hasMaximumELR = hasMaximumELR;
+	// Check the attributes of a new unit that are defined at this level of
+	// the hierarchy, after those of the superclasses. Note that one or more
+	// of the superclass attributes has been set with symbolic constants.
+	// These are defined at the beginning of this class and its
+	// superclasses.
+	//
+	// The maximum ELR flag, which affects how the unit is replaced/reduced,
+	// may be any value. It is indicated on the physical counter by an
+	// underscored morale value. The classification describes the experience
+	// level of the unit. It applies only to multi-man units (squads, crews,
+	// etc).
+
+	static void validate(Descriptions description,Nationalities nationality,
+	                     InfantryTypes unitType,int firepower,
+	                     int normalRange,int morale,int brokenMorale,
+	                     int basicPointValue,int experienceLevelRating,
+	                     Classifications classification)
+	{
+		Infantry.validate(description,nationality,unitType,
+		                  MOVEMENT_ALLOWANCE,PORTAGE_CAPACITY,firepower,
+		                  normalRange,morale,brokenMorale,PORTAGE_VALUE,
+		                  basicPointValue,experienceLevelRating);
 
 		// Classification
 
@@ -118,8 +108,6 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 			                                   Messages.AND_SEPARATOR +
 			                                   classification.toString());
 		}
-
-		_classification = classification;
 	}
 
 	// Public access methods
@@ -128,48 +116,42 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
+	 *
+	 * @param textWriter the destination of the text.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		// Maximum ELR flag
 
-		returnString.append(Messages.formatTextString(HAS_MAXIMUM_ELR_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(HAS_MAXIMUM_ELR_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Messages.getChoiceLabel(hasMaximumELR()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(Messages.getChoiceLabel(hasMaximumELR()),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Classification
 
-		returnString.append(Messages.formatTextString(Classification.CLASSIFICATION_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
-
-		returnString.append(Messages.formatTextString(classification().toString(),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
-
-		// Return the completed string to calling program.
+		textWriter.writeLabel(Classification.CLASSIFICATION_LABEL,
+		                      THIRD_COLUMN_LABEL_WIDTH);
 
-		return returnString.toString();
+		textWriter.writeValue(classification().toString(),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 	}
 
 	/**
@@ -209,40 +191,34 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "     ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(HAS_MAXIMUM_ELR_LABEL,hasMaximumELR()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(CLASSIFICATION_LABEL,classification().name()) +
-		                    JSON_OBJECT_SEPARATOR);
-
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		jsonWriter.writePair(INDENT,HAS_MAXIMUM_ELR_LABEL,hasMaximumELR());
+		jsonWriter.writePair(INDENT,CLASSIFICATION_LABEL,classification().name());
 	}
 
 	/**
@@ -262,8 +238,8 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 	{
 		int movementAllowance = super.movement();
 
-		if ((Classifications.GREEN     == _classification) ||
-		    (Classifications.CONSCRIPT == _classification))
+		if ((Classifications.GREEN     == classification()) ||
+		    (Classifications.CONSCRIPT == classification()))
 		{
 			movementAllowance--;
 		}
@@ -283,7 +259,7 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 
 	public final boolean hasMaximumELR()
 	{
-		return _hasMaximumELR;
+		return template().hasMaximumELR();
 	}
 
 	/**
@@ -301,21 +277,22 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 
 	public final Classifications classification()
 	{
-		return _classification;
+		return template().classification();
 	}
 
 	// Update methods
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching data
 	 * values are found within the text.
@@ -325,12 +302,13 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
@@ -338,12 +316,10 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 
 		try
 		{
-			JSONObject jsonObject = new JSONObject(jsonData);
-
 			boolean hasMaximumELR =
 				jsonObject.getBoolean(HAS_MAXIMUM_ELR_LABEL);
 
-			if (hasMaximumELR != _hasMaximumELR)
+			if (hasMaximumELR != hasMaximumELR())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -355,7 +331,7 @@ abstract class Personnel extends Infantry implements MaximumELR, Classification
 			Classifications classification =
 				Classifications.valueOf(jsonObject.getString(CLASSIFICATION_LABEL));
 
-			if (classification != _classification)
+			if (classification != classification())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
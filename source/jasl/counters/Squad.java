@@ -12,11 +12,16 @@
 
 package jasl.counters;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to represent a Squad counter.
@@ -64,27 +69,7 @@ public final class Squad extends Personnel implements SprayingFire
 		Messages.buildErrorMessage(CLASS_NAME,Messages.CONSTRUCTOR,
 		                           Messages.INVALID_PARAMETER_MSG);
 
-	// Private data members
-
-	// This flag variable indicates whether or not the squad that this
-	// object represents is capable of assault fire and movement. This is
-	// indicated on the physical counter by an underscored firepower value.
-
-	private boolean _canAssaultFire;
-
-	// This flag variable indicates whether or not the squad that this
-	// object represents is capable of spraying fire. This is indicated on
-	// the physical counter by an underscored range value.
-
-	private boolean _canSprayFire;
-
-	// This variable is used to indicate if the squad that this object
-	// represents is capable of placing smoke grenades and the chance of
-	// success.
-
-	private int _smokePlacementExponent;
-
-	// Constructor
+	// Constructors
 
 	/**
 	 * Construct a new <CODE>Squad</CODE>.
@@ -127,26 +112,96 @@ public final class Squad extends Personnel implements SprayingFire
 	             Classifications classification,boolean canAssaultFire,
 	             boolean canSprayFire,int smokePlacementExponent)
 	{
-		// Pass the first 11 arguments to the superclass constructor.
-		// If any exceptions are thrown, assume that they will be caught
-		// and handled by the program creating the object.
+		this(template(nationality,unitType,firepower,normalRange,morale,
+		              brokenMorale,canSelfRally,basicPointValue,
+		              experienceLevelRating,hasMaximumELR,classification,
+		              canAssaultFire,canSprayFire,smokePlacementExponent));
+	}
 
-		super(Descriptions.SQUAD,nationality,unitType,firepower,
-		      normalRange,morale,brokenMorale,canSelfRally,
-		      basicPointValue,experienceLevelRating,hasMaximumELR,
-		      classification);
+	/**
+	 * Construct a new <CODE>Squad</CODE> with the attributes in the specified template.
+	 * <P>
+	 * The template is shared with the other squads created from it. Only
+	 * the identity, status, and portage level are stored separately for
+	 * each one.
+	 *
+	 * @param template the attributes of the squad, as returned by
+	 * template() or the template() method of another squad.
+	 *
+	 * @throws NullPointerException in the case of a null template.
+	 * @throws IllegalArgumentException in the case of a template that is
+	 * not for a squad.
+	 */
 
-		// Check the value of each remaining argument and copy the value
-		// to the local copy of the corresponding variable if an
-		// exception is not found.
+	public Squad(UnitTemplate template)
+	{
+		super(checkTemplate(template));
+	}
 
-		// Assault Fire Capability
+	/**
+	 * Return the template for squads with the specified attributes.
+	 * <P>
+	 * The same (shared) instance is returned for all squads with the same
+	 * attributes. It can be used to create any number of them.
+	 *
+	 * @param nationality the nationality of the squad. Example - <B><A HREF="Nationality.html#_GERMAN_">GERMAN</A></B>
+	 * @param unitType a more specific nationality, type, or capability
+	 * description for the squad. Example - <B><A HREF="Infantry.html#_ENGINEERS_">ENGINEERS</A></B>
+	 * @param firepower the inherent firepower of the squad. Example - <B>8</B>
+	 * @param normalRange the maximum range that the squad's inherent
+	 * firepower can be used at full strength. Example - <B>3</B>
+	 * @param morale the morale level of the squad in its unbroken state.
+	 * Example - <B>8</B>
+	 * @param brokenMorale the morale level of the squad when it is broken.
+	 * Example - <B>9</B>
+	 * @param canSelfRally indicates if the squad can rally without the
+	 * presence of a <A HREF="Leader.html">Leader</A>. Example - <B>false</B>
+	 * @param basicPointValue the point "value" of the squad for the
+	 * purpose of determining battlefield integrity and for design your own
+	 * (DYO) scenarios. Example - <B>15</B>
+	 * @param experienceLevelRating a value used for determining when a
+	 * squad should be replaced with a lower quality squad or half squad(s).
+	 * Example - <B>5</B>
+	 * @param hasMaximumELR indicates if the squad inherently has the
+	 * maximum experience level rating. Example - <B>true</B>
+	 * @param classification the quality of the squad. Example - <B><A HREF="Classification.html#_FIRST_LINE_">FIRST_LINE</A></B>
+	 * @param canAssaultFire indicates if the squad can use assault
+	 * fire and movement. Example - <B>false</B>
+	 * @param canSprayFire indicates if the squad can engage targets in
+	 * multiple locations in a single fire action. Example - <B>true</B>
+	 * @param smokePlacementExponent a value used to indicate the inherent
+	 * smoke generation ability of the squad. Example - <B>2</B>
+	 *
+	 * @return the <CODE>UnitTemplate</CODE> with the specified attributes.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid argument.
+	 */
 
-		_canAssaultFire = canAssaultFire;
+	public static UnitTemplate template(Nationalities nationality,
+	                                    InfantryTypes unitType,int firepower,
+	                                    int normalRange,int morale,
+	                                    int brokenMorale,boolean canSelfRally,
+	                                    int basicPointValue,
+	                                    int experienceLevelRating,
+	                                    boolean hasMaximumELR,
+	                                    Classifications classification,
+	                                    boolean canAssaultFire,
+	                                    boolean canSprayFire,
+	                                    int smokePlacementExponent)
+	{
+		// Check the attributes defined in the superclasses first. If
+		// any exceptions are thrown, assume that they will be caught
+		// and handled by the program creating the object.
 
-		// Spraying Fire Capability
+		Personnel.validate(Descriptions.SQUAD,nationality,unitType,
+		                   firepower,normalRange,morale,brokenMorale,
+		                   basicPointValue,experienceLevelRating,
+		                   classification);
 
-		_canSprayFire = canSprayFire;
+		// Check the value of each remaining argument. The assault fire
+		// capability is indicated on the physical counter by an
+		// underscored firepower value and the spraying fire capability
+		// by an underscored range value.
 
 		// Smoke Placement Capability
 
@@ -157,7 +212,22 @@ public final class Squad extends Personnel implements SprayingFire
 			                                   smokePlacementExponent);
 		}
 
-		_smokePlacementExponent = smokePlacementExponent;
+		return UnitTemplate.intern(new UnitTemplate(Descriptions.SQUAD,
+		                                            nationality,unitType,
+		                                            MOVEMENT_ALLOWANCE,
+		                                            PORTAGE_CAPACITY,
+		                                            firepower,normalRange,
+		                                            morale,brokenMorale,
+		                                            canSelfRally,
+		                                            PORTAGE_VALUE,
+		                                            basicPointValue,
+		                                            experienceLevelRating,
+		                                            hasMaximumELR,
+		                                            classification,
+		                                            canAssaultFire,
+		                                            canSprayFire,
+		                                            smokePlacementExponent,
+		                                            0));
 	}
 
 	// Public access methods
@@ -166,101 +236,134 @@ public final class Squad extends Personnel implements SprayingFire
 	 * Display a plain text representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label defined in this
-	 * class or the interface associated with the item. There are no more
-	 * than two values, including labels, in each line of output.
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label defined in
+	 * this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
+	 *
+	 * @param textWriter the destination of the text.
 	 *
-	 * @return a multi-line tabular <CODE>String</CODE>, 80 characters wide.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 */
 
-	public String toText()
+	public void toText(TextWriter textWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the lines written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toText());
+		super.toText(textWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		// Assault Fire Capability
 
-		returnString.append(Messages.formatTextString(CAN_ASSAULT_FIRE_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(CAN_ASSAULT_FIRE_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Messages.getChoiceLabel(canAssaultFire()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,false));
+		textWriter.writeValue(Messages.getChoiceLabel(canAssaultFire()),
+		                      SECOND_COLUMN_VALUE_WIDTH,false);
 
 		// Spraying Fire Capability
 
-		returnString.append(Messages.formatTextString(CAN_SPRAY_FIRE_LABEL,
-		                                              THIRD_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		textWriter.writeLabel(CAN_SPRAY_FIRE_LABEL,
+		                      THIRD_COLUMN_LABEL_WIDTH);
 
-		returnString.append(Messages.formatTextString(Messages.getChoiceLabel(canSprayFire()),
-		                                              FOURTH_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeValue(Messages.getChoiceLabel(canSprayFire()),
+		                      FOURTH_COLUMN_VALUE_WIDTH,true);
 
 		// Smoke Placement Capability
 
-		returnString.append(Messages.formatTextString(SMOKE_PLACEMENT_EXP_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
-
-		returnString.append(Messages.formatTextString(Integer.toString(smokePlacementExponent()),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+		textWriter.writeLabel(SMOKE_PLACEMENT_EXP_LABEL,
+		                      FIRST_COLUMN_LABEL_WIDTH);
 
-		// Return the completed string to calling program.
-
-		return returnString.toString();
+		textWriter.writeValue(smokePlacementExponent(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
 	}
 
 	/**
 	 * Generate a JSON representation of an instance of this class.
 	 * <P>
 	 * All of the attributes, beginning with the top-level class (<B><A HREF="Unit.html">Unit</A></B>) and
-	 * continuing down the hierarchy to this level, are appended to the
-	 * returned string. Each value is preceded by a label (key) defined in
+	 * continuing down the hierarchy to this level, are written to the
+	 * specified destination. Each value is preceded by a label (key) defined in
 	 * this class or the interface associated with the item. Entries at each
 	 * level are successively indented to provide hierarchical formatting of
 	 * the output.
 	 *
-	 * @return a <CODE>String</CODE> containing the JSON data.
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
 	 *
 	 * @see #fromJSON
 	 */
 
-	public String toJSON()
+	public void toJSON(JsonWriter jsonWriter) throws IOException
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the string defined in the parent class
-		// version of this method.
+		// Start with the entries written by the parent class version of
+		// this method.
 
-		StringBuffer returnString = new StringBuffer(super.toJSON());
+		super.toJSON(jsonWriter);
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = "      ";
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(CAN_ASSAULT_FIRE_LABEL,canAssaultFire()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(CAN_SPRAY_FIRE_LABEL,canSprayFire()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(SMOKE_PLACEMENT_EXP_LABEL,smokePlacementExponent()) +
-		                    JSON_OBJECT_END);
+		jsonWriter.writePair(INDENT,CAN_ASSAULT_FIRE_LABEL,canAssaultFire());
+		jsonWriter.writePair(INDENT,CAN_SPRAY_FIRE_LABEL,canSprayFire());
+		jsonWriter.writePair(INDENT,SMOKE_PLACEMENT_EXP_LABEL,smokePlacementExponent());
 
-		// Return the completed string to calling program.
+		// Close the object, since this is the "bottom" (public) class.
 
-		return returnString.toString();
+		jsonWriter.endObject();
+	}
+
+	/**
+	 * Write the binary representation of an instance of this class to the
+	 * specified buffer.
+	 * <P>
+	 * The attributes used to create the unit are written first, followed
+	 * by the ones that may be changed through its interface (identity,
+	 * status, and portage level).
+	 *
+	 * @param buffer the destination of the data, with its byte order set to
+	 * little-endian.
+	 *
+	 * @throws java.nio.BufferOverflowException in the case where the
+	 * buffer does not have enough space remaining.
+	 *
+	 * @see Unit#BINARY_DECODER
+	 */
+
+	public void encode(ByteBuffer buffer)
+	{
+		// Start with the description, written by the top-level class.
+
+		super.encode(buffer);
+
+		// Add the attributes passed to the constructor.
+
+		buffer.put((byte)nationality().ordinal());
+		buffer.put((byte)infantryType().ordinal());
+		buffer.put((byte)firepowerEquivalent());
+		buffer.putInt(normalRange());
+		buffer.put((byte)morale());
+		buffer.put((byte)brokenMorale());
+		buffer.put((byte)(canSelfRally() ? 1 : 0));
+		buffer.putInt(basicPointValue());
+		buffer.put((byte)experienceLevelRating());
+		buffer.put((byte)(hasMaximumELR() ? 1 : 0));
+		buffer.put((byte)classification().ordinal());
+		buffer.put((byte)(canAssaultFire() ? 1 : 0));
+		buffer.put((byte)(canSprayFire() ? 1 : 0));
+		buffer.put((byte)smokePlacementExponent());
+
+		// Finish with the mutable attributes.
+
+		encodeState(buffer);
 	}
 
 	/**
@@ -274,7 +377,7 @@ public final class Squad extends Personnel implements SprayingFire
 
 	public boolean canAssaultFire()
 	{
-		return _canAssaultFire;
+		return template().canAssaultFire();
 	}
 
 	/**
@@ -289,7 +392,7 @@ public final class Squad extends Personnel implements SprayingFire
 
 	public boolean canSprayFire()
 	{
-		return _canSprayFire;
+		return template().canSprayFire();
 	}
 
 	/**
@@ -303,21 +406,22 @@ public final class Squad extends Personnel implements SprayingFire
 
 	public int smokePlacementExponent()
 	{
-		return _smokePlacementExponent;
+		return template().smokePlacementExponent();
 	}
 
 	// Update methods
 
 	/**
 	 * Update an instance of this class to reflect the settings within the
-	 * specified JSON data.
+	 * specified (parsed) JSON data.
 	 * <P>
 	 * The setting for each attribute, beginning with the top-level class
 	 * (<B><A HREF="Unit.html">Unit</A></B>) and continuing down the hierarchy to this level, is either
 	 * checked against the corresponding input value (the majority of cases)
 	 * or updated with it.
 	 *
-	 * @param jsonData JSON formatted text <CODE>String</CODE>.
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
 	 *
 	 * @throws IllegalArgumentException in the case where non-matching data
 	 * values are found within the text.
@@ -327,24 +431,24 @@ public final class Squad extends Personnel implements SprayingFire
 	 * @see #toJSON
 	 */
 
-	public void fromJSON(String jsonData)
+	protected void fromJSONObject(JSONObject jsonObject)
 	{
 		// Start by going up the (class) hierarchy. Checks for a null or
-		// zero length argument will be made at the top level (Unit).
+		// zero length argument, and the conversion of the text, will be
+		// made at the top level (Unit).
 
-		super.fromJSON(jsonData);
+		super.fromJSONObject(jsonObject);
 
 		// Check the values specific to this class.
 
 		try
 		{
-			JSONObject jsonObject       = new JSONObject(jsonData);
-			String     exceptionDetails = "";
+			String exceptionDetails = "";
 
 			boolean canAssaultFire =
 				jsonObject.getBoolean(CAN_ASSAULT_FIRE_LABEL);
 
-			if (canAssaultFire != _canAssaultFire)
+			if (canAssaultFire != canAssaultFire())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -356,7 +460,7 @@ public final class Squad extends Personnel implements SprayingFire
 			boolean canSprayFire =
 				jsonObject.getBoolean(CAN_SPRAY_FIRE_LABEL);
 
-			if (canSprayFire != _canSprayFire)
+			if (canSprayFire != canSprayFire())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -368,7 +472,7 @@ public final class Squad extends Personnel implements SprayingFire
 			int smokePlacementExponent =
 				jsonObject.getInt(SMOKE_PLACEMENT_EXP_LABEL);
 
-			if (smokePlacementExponent != _smokePlacementExponent)
+			if (smokePlacementExponent != smokePlacementExponent())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -392,4 +496,62 @@ public final class Squad extends Personnel implements SprayingFire
 			                                                   exception.getMessage()));
 		}
 	}
+
+	// Other methods
+
+	// Create an instance of this class from the data written by encode().
+	// The description has already been read by Unit.BINARY_DECODER. The
+	// values are checked by the constructor, just as they are when an
+	// instance is created directly. Version 1 of the format stored the
+	// normal range in a byte, and the BPV in a short.
+
+	static Squad decode(ByteBuffer buffer,int version)
+	{
+		Nationalities   nationality    = decodeValue(Nationalities.values(),buffer);
+		InfantryTypes   unitType       = decodeValue(InfantryTypes.values(),buffer);
+		int             firepower      = buffer.get();
+		int             normalRange    = (version < 2) ? buffer.get() : buffer.getInt();
+		int             morale         = buffer.get();
+		int             brokenMorale   = buffer.get();
+		boolean         canSelfRally   = (0 != buffer.get());
+		int             bpv            = (version < 2) ? buffer.getShort() : buffer.getInt();
+		int             elr            = buffer.get();
+		boolean         hasMaximumELR  = (0 != buffer.get());
+		Classifications classification = decodeValue(Classifications.values(),buffer);
+		boolean         canAssaultFire = (0 != buffer.get());
+		boolean         canSprayFire   = (0 != buffer.get());
+		int             spe            = buffer.get();
+
+		Squad squad = new Squad(nationality,unitType,firepower,normalRange,
+		                        morale,brokenMorale,canSelfRally,bpv,elr,
+		                        hasMaximumELR,classification,
+		                        canAssaultFire,canSprayFire,spe);
+
+		squad.decodeState(buffer,version);
+
+		return squad;
+	}
+
+	// Private methods
+
+	// Check the template passed to the constructor, before it is passed to
+	// the superclass constructor.
+
+	private static UnitTemplate checkTemplate(UnitTemplate template)
+	{
+		if (null == template)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (Descriptions.SQUAD != template.description())
+		{
+			throw new IllegalArgumentException(invalidArgumentError +
+			                                   template.description());
+		}
+
+		return template;
+	}
 }
@@ -14,6 +14,7 @@
 package jasl.counters;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * This interface is used to define the public constants, using an enum, and
@@ -128,6 +129,36 @@ public interface Status
 
 	public abstract List<States> status();
 
+	/**
+	 * Return the current status of a unit as a set.
+	 *
+	 * @return an <B>unmodifiable</B> <CODE>Set</CODE> of States describing the unit status.
+	 *
+	 * @see #status
+	 */
+
+	public abstract Set<States> statusSet();
+
+	/**
+	 * Return the current status of a unit as a bit mask.
+	 *
+	 * @return the status value, with the bits corresponding to the values
+	 * of the States enum.
+	 */
+
+	public abstract int statusMask();
+
+	/**
+	 * Determine if a unit is in the specified state.
+	 *
+	 * @param state the state to be checked.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the unit is in the specified
+	 * state.
+	 */
+
+	public abstract boolean hasStatus(States state);
+
 	// Update methods
 
 	/**
@@ -27,8 +27,8 @@ public interface TextOutput
 {
 	// Public symbolic constants
 
-	// These items are intended to be used as a parameter to the
-	// formatTextString() method of the <A HREF="../utilities/Messages.html">Messages</A> class.
+	// These items are intended to be used as a parameter to the methods of
+	// the <A HREF="../utilities/TextWriter.html">TextWriter</A> class (or formatTextString() in <A HREF="../utilities/Messages.html">Messages</A>).
 
 	/**
 	 * The width of the first column of output from the toText() method in
@@ -12,13 +12,18 @@
 
 package jasl.counters;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import jasl.utilities.BinaryData;
 import jasl.utilities.JsonData;
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
+import jasl.utilities.TextWriter;
 
 /**
  * This class is used to define the basic components of a counter. It is
@@ -30,7 +35,7 @@ import jasl.utilities.Messages;
  */
 
 public abstract class Unit implements Serializable, TextOutput, JsonData,
-                                      Description
+                                      BinaryData, Description
 {
 	// Symbolic constants
 
@@ -52,13 +57,25 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 
 	private static final String CLASS_NAME = Unit.class.getSimpleName();
 
+	/**
+	 * Creates the appropriate derived public class instance (<A HREF="Squad.html">Squad</A>,
+	 * <A HREF="Leader.html">Leader</A>, etc.) from the data written by encode(). It is intended to
+	 * be passed to the decode() methods of <B>Serialization</B>.
+	 *
+	 * @see #encode
+	 * @see jasl.utilities.Serialization#decode(byte[],BinaryData.Decoder)
+	 */
+
+	public static final BinaryData.Decoder<Unit> BINARY_DECODER =
+		new UnitDecoder();
+
 	// Private data members
 
-	// This item provides a descriptive name for the derived object of this
-	// class. It is set to the enum value associated with name of the class
-	// being instantiated (e.g. <A HREF="Description.html#_SQUAD_">"Squad"</A>).
+	// This item contains the attributes of the derived object of this class
+	// that do not change, including the descriptive name (e.g.
+	// <A HREF="Description.html#_SQUAD_">"Squad"</A>). It is shared by all of the units with the same attributes.
 
-	private Descriptions _description;
+	private UnitTemplate _template;
 
 	// Constructors.
 
@@ -66,9 +83,9 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 	// is passed up the inheritance tree from the constructor of the object
 	// type being created.
 
-	protected Unit(Descriptions description)
+	protected Unit(UnitTemplate template)
 	{
-		_description = description;
+		_template = template;
 	}
 
 	// This declaration is redundant for Java and C++ usage, but it is
@@ -91,28 +108,70 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 
 	public String toText()
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the values that define the header (since
-		// this is the top level of the class hierarchy).
+		// Create a buffer to store the string to be returned, and
+		// write the lines of the entire class hierarchy to it.
 
-		StringBuffer returnString = new StringBuffer();
+		StringBuilder returnString = new StringBuilder();
 
-		// Add the information describing the data stored in this class
-		// instance.
+		try
+		{
+			toText(new TextWriter(returnString));
+		}
 
-		returnString.append(Messages.formatTextString(DESCRIPTION_LABEL,
-		                                              FIRST_COLUMN_LABEL_WIDTH,
-		                                              true,false));
+		catch (IOException exception)
+		{
+			// A StringBuilder does not generate I/O errors, but the
+			// exception must be handled regardless.
 
-		returnString.append(Messages.formatTextString(description().toString(),
-		                                              SECOND_COLUMN_VALUE_WIDTH,
-		                                              false,true));
+			throw new IllegalStateException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                           "toText",
+			                                                           exception.getMessage()));
+		}
 
 		// Return the completed string to calling program.
 
 		return returnString.toString();
 	}
 
+	/**
+	 * Display a plain text representation of an instance of this class,
+	 * writing it directly to the specified destination.
+	 * <P>
+	 * This is the implementation behind toText(). It allows the output to
+	 * be sent to a <CODE>Writer</CODE>, <CODE>StringBuilder</CODE>, etc. without creating a string
+	 * for each label and value. Each value is preceded by a label defined
+	 * in this class or the interface associated with the item. There are no
+	 * more than two values, including labels, in each line of output.
+	 *
+	 * @param textWriter the destination of the text.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void toText(TextWriter textWriter) throws IOException
+	{
+		// Check the argument received and throw the appropriate
+		// exception if necessary.
+
+		if (null == textWriter)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "toText",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		// Add the information describing the data stored in this class
+		// instance (since this is the top level of the class hierarchy,
+		// nothing precedes it).
+
+		textWriter.writeLabel(DESCRIPTION_LABEL,FIRST_COLUMN_LABEL_WIDTH);
+
+		textWriter.writeValue(description().toString(),
+		                      SECOND_COLUMN_VALUE_WIDTH,true);
+	}
+
 	// The toString() method implementation is included here for the same
 	// reason as the empty constructor above.
 
@@ -149,29 +208,78 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 
 	public String toJSON()
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the values that define the header (since
-		// this is the top level of the class hierarchy).
+		// Create a buffer to store the string to be returned, and
+		// write the entries of the entire class hierarchy to it.
 
-		StringBuffer returnString = new StringBuffer(JSON_OBJECT_START);
+		StringBuilder returnString = new StringBuilder();
 
-		// Add the information describing the data stored in this class
-		// instance.
+		try
+		{
+			toJSON(new JsonWriter(returnString));
+		}
 
-		String INDENT = " ";
+		catch (IOException exception)
+		{
+			// A StringBuilder does not generate I/O errors, but the
+			// exception must be handled regardless.
 
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(DESCRIPTION_LABEL,description().name()) +
-		                    JSON_OBJECT_SEPARATOR);
-		returnString.append(INDENT +
-		                    JsonOutput.buildJSONPair(UNIT_LABEL,toString()) +
-		                    JSON_OBJECT_SEPARATOR);
+			throw new IllegalStateException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                           "toJSON",
+			                                                           exception.getMessage()));
+		}
 
 		// Return the completed string to calling program.
 
 		return returnString.toString();
 	}
 
+	/**
+	 * Generate a JSON representation of an instance of this class, writing
+	 * it directly to the specified destination.
+	 * <P>
+	 * This is the implementation behind toJSON(). It allows the output to
+	 * be sent to a <CODE>Writer</CODE>, <CODE>ByteBuffer</CODE>, etc. without creating an intermediate
+	 * string. Each value is preceded by a label (key) defined in this class
+	 * or the interface associated with the item. The elements are grouped
+	 * in a JSON object, with this method (the top level) adding the initial
+	 * '{' and the "bottom" (public) class implementation appending the
+	 * closing '}'.
+	 *
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 *
+	 * @see #fromJSON
+	 */
+
+	public void toJSON(JsonWriter jsonWriter) throws IOException
+	{
+		// Check the argument received and throw the appropriate
+		// exception if necessary.
+
+		if (null == jsonWriter)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "toJSON",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		// Write the values that define the header (since this is the
+		// top level of the class hierarchy).
+
+		jsonWriter.beginObject();
+
+		// Add the information describing the data stored in this class
+		// instance.
+
+		String INDENT = " ";
+
+		jsonWriter.writePair(INDENT,DESCRIPTION_LABEL,description().name());
+		jsonWriter.writePair(INDENT,UNIT_LABEL,toString());
+	}
+
 	/**
 	 * Return the description of a unit.
 	 * <P>
@@ -184,7 +292,42 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 
 	public final Descriptions description()
 	{
-		return _description;
+		return _template.description();
+	}
+
+	/**
+	 * Return the template containing the fixed attributes of a unit.
+	 * <P>
+	 * The template may be used to construct additional units with the same
+	 * attributes (e.g. <CODE>new Squad(squad.template())</CODE>).
+	 *
+	 * @return the (shared) <CODE>UnitTemplate</CODE> of the unit.
+	 */
+
+	public final UnitTemplate template()
+	{
+		return _template;
+	}
+
+	/**
+	 * Write the binary representation of an instance of this class to the
+	 * specified buffer.
+	 * <P>
+	 * This implementation writes the description, which identifies the
+	 * class of the object when it is read by <A HREF="#BINARY_DECODER">BINARY_DECODER</A>. The derived
+	 * public classes extend it to write the remaining attributes, calling
+	 * it first.
+	 *
+	 * @param buffer the destination of the data, with its byte order set to
+	 * little-endian.
+	 *
+	 * @throws java.nio.BufferOverflowException in the case where the
+	 * buffer does not have enough space remaining.
+	 */
+
+	public void encode(ByteBuffer buffer)
+	{
+		buffer.put((byte)description().ordinal());
 	}
 
 	// Update methods
@@ -226,18 +369,58 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 			                                                              Messages.ZERO_LENGTH_PARAMETER_MSG));
 		}
 
+		// Convert the text to a JSON object once, here at the top level,
+		// and pass the result down the (class) hierarchy.
+
+		JSONObject jsonObject = null;
+
+		try
+		{
+			jsonObject = new JSONObject(jsonData);
+		}
+
+		catch (JSONException exception)
+		{
+			throw new JSONException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                   JsonData.FROM_JSON_METHOD_NAME,
+			                                                   exception.getMessage()));
+		}
+
+		fromJSONObject(jsonObject);
+	}
+
+	/**
+	 * Update an instance of this class to reflect the settings within the
+	 * specified (parsed) JSON data.
+	 * <P>
+	 * This method is called by fromJSON() once the text has been converted,
+	 * so that it is only parsed a single time, regardless of the depth of
+	 * the class hierarchy. Derived classes that extend it must call this
+	 * implementation first.
+	 *
+	 * @param jsonObject the JSON data, parsed from the text received by
+	 * fromJSON().
+	 *
+	 * @throws IllegalArgumentException in the case where non-matching data
+	 * values are found within it.
+	 * @throws JSONException in the case where an expected "key" is not
+	 * found.
+	 *
+	 * @see #fromJSON
+	 */
+
+	protected void fromJSONObject(JSONObject jsonObject)
+	{
 		// Check the values specific to this class.
 
 		String exceptionDetails = "";
 
 		try
 		{
-			JSONObject jsonObject = new JSONObject(jsonData);
-
 			Descriptions description =
 				Descriptions.valueOf(jsonObject.getString(DESCRIPTION_LABEL));
 
-			if (description != _description)
+			if (description != description())
 			{
 				exceptionDetails =
 					JsonData.FROM_JSON_NON_MATCH_PREFIX +
@@ -271,4 +454,66 @@ public abstract class Unit implements Serializable, TextOutput, JsonData,
 			                                                   exception.getMessage()));
 		}
 	}
+
+	// Other methods
+
+	/**
+	 * Read an enum value, written as a single byte containing its ordinal,
+	 * from the specified buffer.
+	 * <P>
+	 * This method is intended for use by the decode() implementations in
+	 * derived public classes.
+	 *
+	 * @param <E> the enum type.
+	 * @param values all of the values of the enum, in declaration order.
+	 * @param buffer the source of the data.
+	 *
+	 * @return the enum value.
+	 *
+	 * @throws IllegalArgumentException in the case of an ordinal that does
+	 * not correspond to any of the values.
+	 */
+
+	static <E extends Enum<E>> E decodeValue(E[] values,ByteBuffer buffer)
+	{
+		int ordinal = buffer.get();
+
+		if ((ordinal < 0) || (ordinal >= values.length))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "decode",
+			                                                              Messages.INVALID_PARAMETER_MSG + ordinal));
+		}
+
+		return values[ordinal];
+	}
+
+	// Binary data conversion class
+
+	// This class creates an instance of the derived public class identified
+	// by the description at the beginning of the data. The remainder of the
+	// data is read by the decode() method of that class.
+
+	private static final class UnitDecoder implements BinaryData.Decoder<Unit>
+	{
+		public Unit decode(ByteBuffer buffer,int version)
+		{
+			Descriptions description =
+				decodeValue(Descriptions.values(),buffer);
+
+			switch (description)
+			{
+				case SQUAD:
+					return Squad.decode(buffer,version);
+
+				case LEADER:
+					return Leader.decode(buffer,version);
+
+				default:
+					throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+					                                                              "decode",
+					                                                              Messages.INVALID_PARAMETER_MSG + description));
+			}
+		}
+	}
 }
@@ -0,0 +1,312 @@
+// ************************************************************************** //
+// UnitState.java - This class is a member of the <B>counters</B> package, which     //
+//                  contains the class definitions and implementations for    //
+//                  objects used to represent the virtual playing pieces in   //
+//                  jASL.                                                     //
+//                                                                            //
+//                  NOTE: This program is based on Advanced Squad Leader,     //
+//                        which was created by The Avalon Hill Game           //
+//                        Company, and lives on at Multi-Man Publishing.      //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.counters;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to write the attributes and current state of a number of
+ * <A HREF="Unit.html">Unit</A>s that are shown on their counters (nationality, firepower,
+ * morale, status, etc.) to a buffer, in a single call, so that they can be read
+ * directly by a C/C++ program through the JNI (Java Native Interface).
+ * <P>
+ * Each unit is written to a record of <A HREF="#RECORD_SIZE">RECORD_SIZE</A> bytes, at the position
+ * matching its position in the list. Each value in a record is a single byte,
+ * except for the status, which is a little-endian short. The offset of each
+ * value is defined below. A value that does not apply to a unit (e.g. the
+ * leadership modifier of a squad) is written as <A HREF="#NOT_APPLICABLE">NOT_APPLICABLE</A>, which is not
+ * a valid value for any item. The normal range and portage level, which have
+ * no upper limit, are written as 127 if they are greater than that.
+ * <P>
+ * The buffer should be created by <A HREF="#allocate(int)">allocate()</A>, which returns a direct buffer
+ * whose contents can be accessed without copying them.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/counters/UnitState.html">Source code</A>
+ */
+
+public final class UnitState
+{
+	// Symbolic constants
+
+	/**
+	 * The size (in bytes) of the record written for each unit : <B>16</B>
+	 */
+
+	public static final int RECORD_SIZE = 16;
+
+	/**
+	 * The value written for an item that does not apply to a unit :
+	 * <B>-128</B>
+	 */
+
+	public static final byte NOT_APPLICABLE = Byte.MIN_VALUE;
+
+	/** The offset of the description (enum ordinal) : <B>0</B> */
+
+	public static final int DESCRIPTION_OFFSET = 0;
+
+	/** The offset of the nationality (enum ordinal) : <B>1</B> */
+
+	public static final int NATIONALITY_OFFSET = 1;
+
+	/** The offset of the infantry type (enum ordinal) : <B>2</B> */
+
+	public static final int INFANTRY_TYPE_OFFSET = 2;
+
+	/** The offset of the classification (enum ordinal) : <B>3</B> */
+
+	public static final int CLASSIFICATION_OFFSET = 3;
+
+	/** The offset of the firepower equivalent : <B>4</B> */
+
+	public static final int FIREPOWER_OFFSET = 4;
+
+	/** The offset of the normal range : <B>5</B> */
+
+	public static final int NORMAL_RANGE_OFFSET = 5;
+
+	/** The offset of the morale : <B>6</B> */
+
+	public static final int MORALE_OFFSET = 6;
+
+	/** The offset of the broken morale : <B>7</B> */
+
+	public static final int BROKEN_MORALE_OFFSET = 7;
+
+	/** The offset of the movement : <B>8</B> */
+
+	public static final int MOVEMENT_OFFSET = 8;
+
+	/** The offset of the portage level : <B>9</B> */
+
+	public static final int PORTAGE_LEVEL_OFFSET = 9;
+
+	/** The offset of the portage value : <B>10</B> */
+
+	public static final int PORTAGE_VALUE_OFFSET = 10;
+
+	/** The offset of the leadership modifier : <B>11</B> */
+
+	public static final int MODIFIER_OFFSET = 11;
+
+	/** The offset of the experience level rating : <B>12</B> */
+
+	public static final int ELR_OFFSET = 12;
+
+	/** The offset of the capabilities (see the flags below) : <B>13</B> */
+
+	public static final int CAPABILITIES_OFFSET = 13;
+
+	/** The offset of the status (see <A HREF="Fighting.html#statusMask()">statusMask()</A>) : <B>14</B> */
+
+	public static final int STATUS_OFFSET = 14;
+
+	/** The capability flag set for a unit that can self rally : <B>0x01</B> */
+
+	public static final int CAN_SELF_RALLY = 0x01;
+
+	/** The capability flag set for a unit with a maximum ELR : <B>0x02</B> */
+
+	public static final int HAS_MAXIMUM_ELR = 0x02;
+
+	/** The capability flag set for a squad that can assault fire : <B>0x04</B> */
+
+	public static final int CAN_ASSAULT_FIRE = 0x04;
+
+	/** The capability flag set for a squad that can spray fire : <B>0x08</B> */
+
+	public static final int CAN_SPRAY_FIRE = 0x08;
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = UnitState.class.getSimpleName();
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private UnitState()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Create a direct buffer large enough for the records of the specified
+	 * number of units, with its byte order set to little-endian.
+	 *
+	 * @param count the number of units.
+	 *
+	 * @return the new <CODE>ByteBuffer</CODE>.
+	 *
+	 * @throws IllegalArgumentException in the case of a negative count, or
+	 * one that is too large for a buffer.
+	 */
+
+	public static ByteBuffer allocate(int count)
+	{
+		if ((count < 0) || (count > (Integer.MAX_VALUE / RECORD_SIZE)))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "allocate",
+			                                                              Messages.INVALID_PARAMETER_MSG + count));
+		}
+
+		return ByteBuffer.allocateDirect(count * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Write a record for each of the specified units to the buffer,
+	 * beginning at its start. The position and limit of the buffer are not
+	 * changed.
+	 *
+	 * @param units the units to be written.
+	 * @param buffer the destination of the data.
+	 *
+	 * @return the number of records written.
+	 *
+	 * @throws NullPointerException in the case of a null argument or a null
+	 * unit in the list.
+	 * @throws IllegalArgumentException in the case of a buffer that is too
+	 * small for all of the records.
+	 */
+
+	public static int encode(List<? extends Unit> units,ByteBuffer buffer)
+	{
+		String METHOD_NAME = "encode";
+
+		if ((null == units) || (null == buffer))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (buffer.capacity() < ((long)units.size() * RECORD_SIZE))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              buffer.capacity() + Messages.AND_SEPARATOR + units.size()));
+		}
+
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		int offset = 0;
+
+		for (Unit unit : units)
+		{
+			if (null == unit)
+			{
+				throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                          METHOD_NAME,
+				                                                          Messages.NULL_PARAMETER_MSG));
+			}
+
+			encode(unit,buffer,offset);
+
+			offset += RECORD_SIZE;
+		}
+
+		return units.size();
+	}
+
+	// Private methods
+
+	// Write the record for the specified unit at the specified offset,
+	// beginning with the items that do not apply to every type of unit.
+
+	private static void encode(Unit unit,ByteBuffer buffer,int offset)
+	{
+		for (int index = 0;index < RECORD_SIZE;index++)
+		{
+			buffer.put(offset + index,NOT_APPLICABLE);
+		}
+
+		buffer.put(offset + DESCRIPTION_OFFSET,(byte)unit.description().ordinal());
+
+		if (unit instanceof Fighting)
+		{
+			Fighting fighting = (Fighting)unit;
+
+			buffer.put(offset + NATIONALITY_OFFSET,(byte)fighting.nationality().ordinal());
+			buffer.putShort(offset + STATUS_OFFSET,(short)fighting.statusMask());
+		}
+
+		if (unit instanceof Mobile)
+		{
+			Mobile mobile = (Mobile)unit;
+
+			buffer.put(offset + MOVEMENT_OFFSET,(byte)mobile.movement());
+			buffer.put(offset + PORTAGE_LEVEL_OFFSET,limit(mobile.portageLevel()));
+		}
+
+		int capabilities = 0;
+
+		if (unit instanceof Infantry)
+		{
+			Infantry infantry = (Infantry)unit;
+
+			buffer.put(offset + INFANTRY_TYPE_OFFSET,(byte)infantry.infantryType().ordinal());
+			buffer.put(offset + FIREPOWER_OFFSET,(byte)infantry.firepowerEquivalent());
+			buffer.put(offset + NORMAL_RANGE_OFFSET,limit(infantry.normalRange()));
+			buffer.put(offset + MORALE_OFFSET,(byte)infantry.morale());
+			buffer.put(offset + BROKEN_MORALE_OFFSET,(byte)infantry.brokenMorale());
+			buffer.put(offset + PORTAGE_VALUE_OFFSET,(byte)infantry.portageValue());
+			buffer.put(offset + ELR_OFFSET,(byte)infantry.experienceLevelRating());
+
+			if (infantry.canSelfRally()) capabilities |= CAN_SELF_RALLY;
+		}
+
+		if (unit instanceof Personnel)
+		{
+			Personnel personnel = (Personnel)unit;
+
+			buffer.put(offset + CLASSIFICATION_OFFSET,(byte)personnel.classification().ordinal());
+
+			if (personnel.hasMaximumELR()) capabilities |= HAS_MAXIMUM_ELR;
+		}
+
+		if (unit instanceof Squad)
+		{
+			Squad squad = (Squad)unit;
+
+			if (squad.canAssaultFire()) capabilities |= CAN_ASSAULT_FIRE;
+			if (squad.canSprayFire()) capabilities |= CAN_SPRAY_FIRE;
+		}
+
+		if (unit instanceof Leader)
+		{
+			buffer.put(offset + MODIFIER_OFFSET,(byte)((Leader)unit).modifier());
+		}
+
+		buffer.put(offset + CAPABILITIES_OFFSET,(byte)capabilities);
+	}
+
+	// Return the specified value as a byte, replacing one that is too large
+	// with the largest that can be written. This is only required for the
+	// values that have no upper limit, which are never negative.
+
+	private static byte limit(int value)
+	{
+		return (byte)Math.min(value,Byte.MAX_VALUE);
+	}
+}
@@ -0,0 +1,475 @@
+// ************************************************************************** //
+// UnitTemplate.java - This class is a member of the <B>counters</B> package, which  //
+//                     contains the class definitions and implementations for //
+//                     objects used to represent the virtual playing pieces   //
+//                     in jASL.                                               //
+//                                                                            //
+//                     NOTE: This program is based on Advanced Squad Leader,  //
+//                           which was created by The Avalon Hill Game        //
+//                           Company, and lives on at Multi-Man Publishing.   //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.counters;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to store the attributes of a counter that are printed on
+ * it, and therefore never change (nationality, firepower, morale, etc.).
+ * <P>
+ * Instances are shared by all of the <A HREF="Unit.html">Unit</A>s with the same attributes, so that
+ * each unit only stores the items that change during play (identity, status,
+ * and portage level). Templates are created by the template() method of the
+ * public class associated with the type of counter (e.g. <A HREF="Squad.html#template">Squad.template()</A>),
+ * which checks the attributes and returns the shared instance for them. They
+ * are used to construct any number of units with the same profile.
+ * <P>
+ * Instances of this class are immutable. The attributes that do not apply to
+ * a type of counter are set to their default values (false, 0, or <B>NONE</B>).
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/counters/UnitTemplate.html">Source code</A>
+ */
+
+public final class UnitTemplate implements Serializable
+{
+	// Symbolic constants
+
+	// The shared instance for each distinct set of attributes.
+
+	private static final ConcurrentHashMap<UnitTemplate,UnitTemplate> TEMPLATES =
+		new ConcurrentHashMap<UnitTemplate,UnitTemplate>();
+
+	// Private data members
+
+	// Unit
+
+	private final Description.Descriptions _description;
+
+	// Fighting
+
+	private final Nationality.Nationalities _nationality;
+	private final String                    _unitType;
+
+	// Mobile
+
+	private final int _movement;
+	private final int _portageCapacity;
+
+	// Infantry
+
+	private final int                      _firepowerEquivalent;
+	private final int                      _normalRange;
+	private final int                      _morale;
+	private final int                      _brokenMorale;
+	private final boolean                  _canSelfRally;
+	private final int                      _portageValue;
+	private final int                      _basicPointValue;
+	private final int                      _experienceLevelRating;
+	private final UnitType.InfantryTypes   _infantryType;
+
+	// Personnel
+
+	private final boolean                          _hasMaximumELR;
+	private final Classification.Classifications   _classification;
+
+	// Squad
+
+	private final boolean _canAssaultFire;
+	private final boolean _canSprayFire;
+	private final int     _smokePlacementExponent;
+
+	// Leader
+
+	private final int _modifier;
+
+	// Constructor
+
+	// The arguments are assumed to have been checked by the caller. New
+	// instances are passed to intern() to retrieve the shared one.
+
+	UnitTemplate(Description.Descriptions description,
+	             Nationality.Nationalities nationality,
+	             UnitType.InfantryTypes infantryType,int movement,
+	             int portageCapacity,int firepower,int normalRange,
+	             int morale,int brokenMorale,boolean canSelfRally,
+	             int portageValue,int basicPointValue,
+	             int experienceLevelRating,boolean hasMaximumELR,
+	             Classification.Classifications classification,
+	             boolean canAssaultFire,boolean canSprayFire,
+	             int smokePlacementExponent,int modifier)
+	{
+		_description            = description;
+		_nationality            = nationality;
+		_unitType               = infantryType.toString();
+		_movement               = movement;
+		_portageCapacity        = portageCapacity;
+		_firepowerEquivalent    = firepower;
+		_normalRange            = normalRange;
+		_morale                 = morale;
+		_brokenMorale           = brokenMorale;
+		_canSelfRally           = canSelfRally;
+		_portageValue           = portageValue;
+		_basicPointValue        = basicPointValue;
+		_experienceLevelRating  = experienceLevelRating;
+		_infantryType           = infantryType;
+		_hasMaximumELR          = hasMaximumELR;
+		_classification         = classification;
+		_canAssaultFire         = canAssaultFire;
+		_canSprayFire           = canSprayFire;
+		_smokePlacementExponent = smokePlacementExponent;
+		_modifier               = modifier;
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the description of the counters created from the template.
+	 *
+	 * @return a <CODE>Descriptions</CODE> value (e.g. <B>SQUAD</B> or <B>LEADER</B>).
+	 */
+
+	public Description.Descriptions description()
+	{
+		return _description;
+	}
+
+	/**
+	 * Return the nationality of the counters created from the template.
+	 *
+	 * @return a <CODE>Nationalities</CODE> value.
+	 */
+
+	public Nationality.Nationalities nationality()
+	{
+		return _nationality;
+	}
+
+	/**
+	 * Return the text representation of the unit type.
+	 *
+	 * @return a <CODE>String</CODE> specifying the unit type.
+	 */
+
+	public String unitType()
+	{
+		return _unitType;
+	}
+
+	/**
+	 * Return the (unmodified) movement allowance.
+	 *
+	 * @return an <CODE>int</CODE> specifying the movement allowance.
+	 */
+
+	public int movement()
+	{
+		return _movement;
+	}
+
+	/**
+	 * Return the portage capacity.
+	 *
+	 * @return an <CODE>int</CODE> specifying the portage capacity.
+	 */
+
+	public int portageCapacity()
+	{
+		return _portageCapacity;
+	}
+
+	/**
+	 * Return the firepower (equivalent).
+	 *
+	 * @return an <CODE>int</CODE> specifying the firepower.
+	 */
+
+	public int firepowerEquivalent()
+	{
+		return _firepowerEquivalent;
+	}
+
+	/**
+	 * Return the normal range.
+	 *
+	 * @return an <CODE>int</CODE> specifying the normal range.
+	 */
+
+	public int normalRange()
+	{
+		return _normalRange;
+	}
+
+	/**
+	 * Return the morale level in the unbroken state.
+	 *
+	 * @return an <CODE>int</CODE> specifying the morale level.
+	 */
+
+	public int morale()
+	{
+		return _morale;
+	}
+
+	/**
+	 * Return the morale level in the broken state.
+	 *
+	 * @return an <CODE>int</CODE> specifying the broken morale level.
+	 */
+
+	public int brokenMorale()
+	{
+		return _brokenMorale;
+	}
+
+	/**
+	 * Indicate if the counters are capable of self rallying.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the counters have this capability.
+	 */
+
+	public boolean canSelfRally()
+	{
+		return _canSelfRally;
+	}
+
+	/**
+	 * Return the portage value.
+	 *
+	 * @return an <CODE>int</CODE> specifying the portage value.
+	 */
+
+	public int portageValue()
+	{
+		return _portageValue;
+	}
+
+	/**
+	 * Return the basic point value.
+	 *
+	 * @return an <CODE>int</CODE> specifying the basic point value.
+	 */
+
+	public int basicPointValue()
+	{
+		return _basicPointValue;
+	}
+
+	/**
+	 * Return the experience level rating.
+	 *
+	 * @return an <CODE>int</CODE> specifying the experience level rating.
+	 */
+
+	public int experienceLevelRating()
+	{
+		return _experienceLevelRating;
+	}
+
+	/**
+	 * Return the infantry type.
+	 *
+	 * @return an <CODE>InfantryTypes</CODE> value.
+	 */
+
+	public UnitType.InfantryTypes infantryType()
+	{
+		return _infantryType;
+	}
+
+	/**
+	 * Indicate if the counters inherently have the maximum experience
+	 * level rating.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the counters have this attribute.
+	 */
+
+	public boolean hasMaximumELR()
+	{
+		return _hasMaximumELR;
+	}
+
+	/**
+	 * Return the classification.
+	 *
+	 * @return a <CODE>Classifications</CODE> value.
+	 */
+
+	public Classification.Classifications classification()
+	{
+		return _classification;
+	}
+
+	/**
+	 * Indicate if the counters are capable of assault fire.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the counters have this capability.
+	 */
+
+	public boolean canAssaultFire()
+	{
+		return _canAssaultFire;
+	}
+
+	/**
+	 * Indicate if the counters are capable of spraying fire.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the counters have this capability.
+	 */
+
+	public boolean canSprayFire()
+	{
+		return _canSprayFire;
+	}
+
+	/**
+	 * Return the smoke placement exponent.
+	 *
+	 * @return an <CODE>int</CODE> specifying the smoke placement exponent.
+	 */
+
+	public int smokePlacementExponent()
+	{
+		return _smokePlacementExponent;
+	}
+
+	/**
+	 * Return the leadership modifier.
+	 *
+	 * @return an <CODE>int</CODE> specifying the modifier.
+	 */
+
+	public int modifier()
+	{
+		return _modifier;
+	}
+
+	// Other methods
+
+	/**
+	 * Return the designation printed on a counter with these attributes,
+	 * followed by its type (e.g. "4-6-7 Squad" or "9-2 Leader").
+	 * <P>
+	 * This matches the toString() result of a unit created from the
+	 * template before an identity is set, without creating one.
+	 *
+	 * @return a <CODE>String</CODE> specifying a simple description of the counter.
+	 */
+
+	public String toString()
+	{
+		StringBuilder returnString = new StringBuilder();
+
+		if (Description.Descriptions.LEADER == _description)
+		{
+			// Morale and modifier, with the correct "sign" for positive
+			// and zero values. Russian commissars are identified by
+			// their title.
+
+			returnString.append(_morale);
+
+			if (_modifier > 0)  returnString.append("+");
+			if (0 == _modifier) returnString.append("-");
+
+			returnString.append(_modifier + " ");
+			returnString.append((UnitType.InfantryTypes.COMMISSAR == _infantryType) ?
+			                    _infantryType : _description);
+		}
+
+		else
+		{
+			// Firepower, range, and morale.
+
+			returnString.append(_firepowerEquivalent + "-" + _normalRange +
+			                    "-" + _morale + " " + _description);
+		}
+
+		// Return the completed string to calling program.
+
+		return returnString.toString();
+	}
+
+	/**
+	 * Determine if the specified item is a template with the same
+	 * attributes as this one.
+	 *
+	 * @param object the item to be compared.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if all of the attributes match.
+	 */
+
+	public boolean equals(Object object)
+	{
+		if (this == object)
+		{
+			return true;
+		}
+
+		if (!(object instanceof UnitTemplate))
+		{
+			return false;
+		}
+
+		UnitTemplate other = (UnitTemplate)object;
+
+		return (_description            == other._description)            &&
+		       (_nationality            == other._nationality)            &&
+		       (_movement               == other._movement)               &&
+		       (_portageCapacity        == other._portageCapacity)        &&
+		       (_firepowerEquivalent    == other._firepowerEquivalent)    &&
+		       (_normalRange            == other._normalRange)            &&
+		       (_morale                 == other._morale)                 &&
+		       (_brokenMorale           == other._brokenMorale)           &&
+		       (_canSelfRally           == other._canSelfRally)           &&
+		       (_portageValue           == other._portageValue)           &&
+		       (_basicPointValue        == other._basicPointValue)        &&
+		       (_experienceLevelRating  == other._experienceLevelRating)  &&
+		       (_infantryType           == other._infantryType)           &&
+		       (_hasMaximumELR          == other._hasMaximumELR)          &&
+		       (_classification         == other._classification)         &&
+		       (_canAssaultFire         == other._canAssaultFire)         &&
+		       (_canSprayFire           == other._canSprayFire)           &&
+		       (_smokePlacementExponent == other._smokePlacementExponent) &&
+		       (_modifier               == other._modifier);
+	}
+
+	/**
+	 * Return a hash code derived from all of the attributes.
+	 *
+	 * @return the hash code.
+	 */
+
+	public int hashCode()
+	{
+		return Objects.hash(_description,_nationality,_movement,
+		                    _portageCapacity,_firepowerEquivalent,
+		                    _normalRange,_morale,_brokenMorale,
+		                    _canSelfRally,_portageValue,_basicPointValue,
+		                    _experienceLevelRating,_infantryType,
+		                    _hasMaximumELR,_classification,
+		                    _canAssaultFire,_canSprayFire,
+		                    _smokePlacementExponent,_modifier);
+	}
+
+	// Return the shared instance with the same attributes as the specified
+	// template, registering it if there isn't one.
+
+	static UnitTemplate intern(UnitTemplate template)
+	{
+		UnitTemplate existingTemplate = TEMPLATES.putIfAbsent(template,template);
+
+		return (null == existingTemplate) ? template : existingTemplate;
+	}
+
+	// Replace a deserialized template with the shared instance.
+
+	private Object readResolve()
+	{
+		return intern(this);
+	}
+}
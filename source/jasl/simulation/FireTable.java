@@ -0,0 +1,685 @@
+// ************************************************************************** //
+// FireTable.java - This class is a member of the <B>simulation</B> package, which   //
+//                  contains the class definitions and implementations for    //
+//                  objects used to estimate the outcomes of game actions by  //
+//                  repeating them many times.                                //
+//                                                                            //
+//                  NOTE: This program is based on Advanced Squad Leader,     //
+//                        which was created by The Avalon Hill Game Company,  //
+//                        and lives on at Multi-Man Publishing.               //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.simulation;
+
+import java.util.HashMap;
+import java.util.List;
+
+import jasl.counters.Firepower;
+import jasl.counters.SprayingFire;
+import jasl.counters.Squad;
+import jasl.counters.Unit;
+import jasl.utilities.DiceProbability;
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to resolve attacks on the Infantry Fire Table (IFT).
+ * <P>
+ * An attack is resolved in two steps. First, the firepower of the units in a
+ * firing group is totaled, and converted to the column of the table with the
+ * largest firepower that does not exceed it, which may then be shifted left
+ * or right. The result is then found in that column, on the row of the final
+ * (modified) dice roll.
+ * <P>
+ * The results are stored in a table that is built once, when the class is
+ * loaded, and indexed by column and dice roll, so resolving an attack does
+ * not involve any calculation. The same <A HREF="#Result">Result</A> instance is returned for
+ * each occurrence of a result, so no objects are created either.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/simulation/FireTable.html">Source code</A>
+ */
+
+public final class FireTable
+{
+	// Symbolic constants
+
+	/**
+	 * The column used when the total firepower is less than that of the
+	 * first column of the table, which has no effect : <B>0</B>
+	 */
+
+	public static final int NO_COLUMN = 0;
+
+	/**
+	 * The lowest dice roll on the table. Any lower roll uses this row : <B>0</B>
+	 */
+
+	public static final int MIN_DICE_ROLL = 0;
+
+	/**
+	 * The highest dice roll on the table. Any higher roll uses this row : <B>15</B>
+	 */
+
+	public static final int MAX_DICE_ROLL = 15;
+
+	/**
+	 * Recognized types of result.
+	 */
+
+	public enum Effects
+	{
+		/** <A NAME="_NO_EFFECT_"></A>
+		 * Indicates that the attack has <B>No Effect</B>.
+		 */
+
+		NO_EFFECT("No Effect"),
+
+		/** <A NAME="_PIN_TASK_CHECK_"></A>
+		 * Indicates that the target must take a <B>Pin Task Check</B>.
+		 */
+
+		PIN_TASK_CHECK("Pin Task Check"),
+
+		/** <A NAME="_NORMAL_MORALE_CHECK_"></A>
+		 * Indicates that the target must take a
+		 * <B>Normal Morale Check</B>.
+		 */
+
+		NORMAL_MORALE_CHECK("Normal Morale Check"),
+
+		/** <A NAME="_MORALE_CHECK_"></A>
+		 * Indicates that the target must take a <B>Morale Check</B> with
+		 * the modifier given by the value of the result.
+		 */
+
+		MORALE_CHECK("Morale Check"),
+
+		/** <A NAME="_CASUALTY_REDUCTION_"></A>
+		 * Indicates that one unit of the target suffers
+		 * <B>Casualty Reduction</B>, and the remainder take a morale check
+		 * with the modifier given by the value of the result.
+		 */
+
+		CASUALTY_REDUCTION("Casualty Reduction"),
+
+		/** <A NAME="_KILLED_IN_ACTION_"></A>
+		 * Indicates that the number of units of the target given by the
+		 * value of the result are <B>Killed In Action</B>.
+		 */
+
+		KILLED_IN_ACTION("Killed In Action");
+
+		// Private data members
+
+		// The label associated with the enum constant.
+
+		private final String _label;
+
+		// Constructor
+
+		Effects(String label)
+		{
+			_label = label;
+		}
+
+		// Public access method
+
+		/**
+		 * Returns the label associated with the enum constant.
+		 *
+		 * @return the <CODE>String</CODE> associated with the constant.
+		 */
+
+		public String toString()
+		{
+			return _label;
+		}
+	}
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = FireTable.class.getSimpleName();
+
+	// The firepower at the top of each column of the table, following the
+	// entry for NO_COLUMN.
+
+	private static final int[] COLUMN_FIREPOWER = { 0, 1, 2, 4, 6, 8, 12, 16,
+	                                                20, 24, 30, 36 };
+
+	// The results, as printed on the table. Each row contains the results
+	// for a dice roll, and each column matches one in COLUMN_FIREPOWER
+	// (excluding NO_COLUMN).
+
+	private static final String[][] RESULT_LABELS =
+	{
+		/*  0 */ { "1KIA", "1KIA", "1KIA", "2KIA", "2KIA", "3KIA", "3KIA", "4KIA", "4KIA", "5KIA", "6KIA" },
+		/*  1 */ { "K/1",  "1KIA", "1KIA", "1KIA", "1KIA", "2KIA", "2KIA", "3KIA", "3KIA", "4KIA", "5KIA" },
+		/*  2 */ { "1MC",  "K/1",  "K/1",  "K/2",  "K/2",  "1KIA", "1KIA", "2KIA", "2KIA", "3KIA", "4KIA" },
+		/*  3 */ { "NMC",  "1MC",  "2MC",  "K/2",  "K/2",  "K/3",  "K/3",  "1KIA", "1KIA", "2KIA", "3KIA" },
+		/*  4 */ { "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "K/3",  "K/3",  "K/4",  "K/4",  "1KIA", "2KIA" },
+		/*  5 */ { "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "4MC",  "K/4",  "K/4",  "K/4",  "1KIA" },
+		/*  6 */ { "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "4MC",  "5MC",  "K/4",  "K/4"  },
+		/*  7 */ { "-",    "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "4MC",  "5MC",  "K/4"  },
+		/*  8 */ { "-",    "-",    "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "4MC",  "5MC"  },
+		/*  9 */ { "-",    "-",    "-",    "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC",  "4MC"  },
+		/* 10 */ { "-",    "-",    "-",    "-",    "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC",  "3MC"  },
+		/* 11 */ { "-",    "-",    "-",    "-",    "-",    "-",    "-",    "PTC",  "NMC",  "1MC",  "2MC"  },
+		/* 12 */ { "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "PTC",  "NMC",  "1MC"  },
+		/* 13 */ { "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "PTC",  "NMC"  },
+		/* 14 */ { "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "PTC"  },
+		/* 15 */ { "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-",    "-"    }
+	};
+
+	// The number of columns (including NO_COLUMN) and rows in the table.
+
+	private static final int COLUMNS = COLUMN_FIREPOWER.length;
+	private static final int ROWS    = MAX_DICE_ROLL - MIN_DICE_ROLL + 1;
+
+	// The result for each column and dice roll, indexed by
+	// (column * ROWS) + (dice roll - MIN_DICE_ROLL). Built from the labels
+	// above when the class is loaded.
+
+	private static final Result[] RESULTS = new Result[COLUMNS * ROWS];
+
+	// The column used for each whole number of firepower, up to that of the
+	// last column.
+
+	private static final int[] FIREPOWER_COLUMN = new int[COLUMN_FIREPOWER[COLUMNS - 1] + 1];
+
+	// Build the tables.
+
+	static
+	{
+		HashMap<String,Result> results = new HashMap<String,Result>();
+
+		for (int column = 0;column < COLUMNS;column++)
+		{
+			for (int row = 0;row < ROWS;row++)
+			{
+				String label = (NO_COLUMN == column) ? "-" :
+				               RESULT_LABELS[row][column - 1];
+
+				Result result = results.get(label);
+
+				if (null == result)
+				{
+					result = parseResult(label);
+
+					results.put(label,result);
+				}
+
+				RESULTS[(column * ROWS) + row] = result;
+			}
+		}
+
+		// A higher dice roll can never produce a more severe result in
+		// the same column, and a column with more firepower can never
+		// produce a less severe result with the same dice roll. Check
+		// that the table follows these rules, so that an error in it is
+		// found as soon as the class is loaded.
+
+		for (int column = 1;column < COLUMNS;column++)
+		{
+			for (int row = 0;row < ROWS;row++)
+			{
+				int severity = severity(RESULTS[(column * ROWS) + row]);
+
+				if (((row > 0) &&
+				     (severity > severity(RESULTS[(column * ROWS) + row - 1]))) ||
+				    ((column > 1) &&
+				     (severity < severity(RESULTS[((column - 1) * ROWS) + row]))))
+				{
+					throw new IllegalStateException(Messages.buildErrorMessage(CLASS_NAME,
+					                                                           "RESULT_LABELS",
+					                                                           Messages.INVALID_PARAMETER_MSG +
+					                                                           RESULT_LABELS[row][column - 1]));
+				}
+			}
+		}
+
+		for (int firepower = 0,column = NO_COLUMN;firepower < FIREPOWER_COLUMN.length;firepower++)
+		{
+			if (((column + 1) < COLUMNS) && (firepower >= COLUMN_FIREPOWER[column + 1]))
+			{
+				column++;
+			}
+
+			FIREPOWER_COLUMN[firepower] = column;
+		}
+	}
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private FireTable()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the number of columns in the table, including <A HREF="#NO_COLUMN">NO_COLUMN</A>.
+	 *
+	 * @return the number of columns.
+	 */
+
+	public static int columns()
+	{
+		return COLUMNS;
+	}
+
+	/**
+	 * Return the firepower at the top of the specified column.
+	 *
+	 * @param column the column of the table.
+	 *
+	 * @return the firepower, which is zero for <A HREF="#NO_COLUMN">NO_COLUMN</A>.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid column.
+	 */
+
+	public static int columnFirepower(int column)
+	{
+		checkColumn("columnFirepower",column);
+
+		return COLUMN_FIREPOWER[column];
+	}
+
+	/**
+	 * Return the column used for the specified total firepower.
+	 *
+	 * @param firepower the total firepower of the attack.
+	 *
+	 * @return the column with the largest firepower that does not exceed
+	 * that specified, or <A HREF="#NO_COLUMN">NO_COLUMN</A> if it is less than 1.
+	 */
+
+	public static int column(double firepower)
+	{
+		if (firepower < 1.0) return NO_COLUMN;
+
+		return FIREPOWER_COLUMN[(int)Math.min(firepower,FIREPOWER_COLUMN.length - 1)];
+	}
+
+	/**
+	 * Return the column used for the specified total firepower, after it is
+	 * shifted by the specified number of columns.
+	 *
+	 * @param firepower the total firepower of the attack.
+	 * @param shift the number of columns to shift to the right (positive)
+	 * or left (negative).
+	 *
+	 * @return the shifted column, limited to the first and last columns of
+	 * the table, or <A HREF="#NO_COLUMN">NO_COLUMN</A> if the firepower is less than 1.
+	 */
+
+	public static int column(double firepower,int shift)
+	{
+		int column = column(firepower);
+
+		if (NO_COLUMN == column) return NO_COLUMN;
+
+		return Math.max(1,Math.min(column + shift,COLUMNS - 1));
+	}
+
+	/**
+	 * Return the total firepower of a firing group at the specified range.
+	 * <P>
+	 * The firepower of each unit is halved at long range (beyond its normal
+	 * range), and the unit cannot fire beyond twice its normal range. It is
+	 * doubled for point blank fire (at a range of 1) and tripled in the same
+	 * hex (at a range of 0). During advancing fire it is halved again, after
+	 * which one is added for a unit capable of assault fire. When spraying
+	 * fire, only the units capable of it contribute, at half firepower.
+	 * Fractions are kept until the total is converted to a column.
+	 *
+	 * @param units the units in the firing group. Each one must implement
+	 * the <A HREF="../counters/Firepower.html">Firepower</A> interface.
+	 * @param range the range to the target, in hexes.
+	 * @param isAdvancingFire indicates if the attack is made during the
+	 * advancing fire phase.
+	 * @param isSprayingFire indicates if the attack is spraying fire.
+	 *
+	 * @return the total firepower of the group.
+	 *
+	 * @throws NullPointerException in the case of a null list or unit.
+	 * @throws IllegalArgumentException in the case of a negative range or a
+	 * unit that does not have firepower.
+	 */
+
+	public static double groupFirepower(List<? extends Unit> units,int range,
+	                                    boolean isAdvancingFire,
+	                                    boolean isSprayingFire)
+	{
+		String METHOD_NAME = "groupFirepower";
+
+		if (null == units)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (range < 0)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + range));
+		}
+
+		double total = 0.0;
+
+		for (Unit unit : units)
+		{
+			if (null == unit)
+			{
+				throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                          METHOD_NAME,
+				                                                          Messages.NULL_PARAMETER_MSG));
+			}
+
+			if (!(unit instanceof Firepower))
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              METHOD_NAME,
+				                                                              Messages.INVALID_PARAMETER_MSG +
+				                                                              unit.description()));
+			}
+
+			Firepower firepower = (Firepower)unit;
+
+			double unitFirepower = firepower.firepowerEquivalent();
+			int    normalRange   = firepower.normalRange();
+
+			if ((0.0 == unitFirepower) || (range > (2 * normalRange)))
+			{
+				continue;
+			}
+
+			if (isSprayingFire)
+			{
+				if (!(unit instanceof SprayingFire) || !((SprayingFire)unit).canSprayFire())
+				{
+					continue;
+				}
+
+				unitFirepower /= 2.0;
+			}
+
+			if (range > normalRange)
+			{
+				unitFirepower /= 2.0;
+			}
+
+			else if (range <= 1)
+			{
+				unitFirepower *= (0 == range) ? 3.0 : 2.0;
+			}
+
+			if (isAdvancingFire)
+			{
+				unitFirepower /= 2.0;
+
+				if ((unit instanceof Squad) && ((Squad)unit).canAssaultFire())
+				{
+					unitFirepower += 1.0;
+				}
+			}
+
+			total += unitFirepower;
+		}
+
+		return total;
+	}
+
+	/**
+	 * Return the result of an attack on the specified column with the
+	 * specified final dice roll.
+	 *
+	 * @param column the column of the table.
+	 * @param diceRoll the final dice roll, including all modifiers. A roll
+	 * outside the range of the table uses its first or last row.
+	 *
+	 * @return the <CODE>Result</CODE> of the attack.
+	 *
+	 * @throws IllegalArgumentException in the case of an invalid column.
+	 */
+
+	public static Result resolve(int column,int diceRoll)
+	{
+		checkColumn("resolve",column);
+
+		return RESULTS[index(column,diceRoll)];
+	}
+
+	/**
+	 * Resolve a number of attacks at once, storing the result of each one in
+	 * the corresponding element of the results array.
+	 *
+	 * @param columns the column of each attack.
+	 * @param diceRolls the final dice roll of each attack.
+	 * @param results the array that the results are stored in.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of arrays of different
+	 * lengths or an invalid column.
+	 */
+
+	public static void resolve(int[] columns,int[] diceRolls,Result[] results)
+	{
+		String METHOD_NAME = "resolve";
+
+		if ((null == columns) || (null == diceRolls) || (null == results))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if ((diceRolls.length != columns.length) || (results.length != columns.length))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              diceRolls.length + Messages.AND_SEPARATOR +
+			                                                              results.length));
+		}
+
+		for (int i = 0;i < columns.length;i++)
+		{
+			checkColumn(METHOD_NAME,columns[i]);
+
+			results[i] = RESULTS[index(columns[i],diceRolls[i])];
+		}
+	}
+
+	/**
+	 * Return the exact probability that an attack on the specified column,
+	 * with the specified dice roll modifier, has the specified effect.
+	 *
+	 * @param column the column of the table.
+	 * @param modifier the total dice roll modifier (DRM) of the attack.
+	 * @param effect the effect of interest.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 *
+	 * @throws NullPointerException in the case of a null effect.
+	 * @throws IllegalArgumentException in the case of an invalid column.
+	 *
+	 * @see DiceProbability
+	 */
+
+	public static double probability(int column,int modifier,Effects effect)
+	{
+		String METHOD_NAME = "probability";
+
+		checkColumn(METHOD_NAME,column);
+
+		if (null == effect)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		int ways = 0;
+
+		for (int diceRoll = DiceProbability.MIN_COMBINED_RESULT;
+		     diceRoll <= DiceProbability.MAX_COMBINED_RESULT;diceRoll++)
+		{
+			if (RESULTS[index(column,diceRoll + modifier)].effect() == effect)
+			{
+				ways += DiceProbability.combinedResultWays(diceRoll);
+			}
+		}
+
+		return (double)ways / DiceProbability.COMBINATIONS;
+	}
+
+	// Private methods
+
+	// Throw an exception if the specified column is not in the table.
+
+	private static void checkColumn(String methodName,int column)
+	{
+		if ((column < 0) || (column >= COLUMNS))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + column));
+		}
+	}
+
+	// Return the index in RESULTS of the specified (valid) column and dice
+	// roll, limiting the roll to the rows of the table.
+
+	private static int index(int column,int diceRoll)
+	{
+		return (column * ROWS) +
+		       (Math.max(MIN_DICE_ROLL,Math.min(diceRoll,MAX_DICE_ROLL)) - MIN_DICE_ROLL);
+	}
+
+	// Return a value that increases with the severity of the specified
+	// result. Morale checks are ordered by their modifier, and the other
+	// effects by their number of casualties.
+
+	private static int severity(Result result)
+	{
+		switch (result.effect())
+		{
+			case NO_EFFECT:           return 0;
+			case PIN_TASK_CHECK:      return 1;
+			case NORMAL_MORALE_CHECK: return 2;
+			case MORALE_CHECK:        return 2 + result.value();
+			case CASUALTY_REDUCTION:  return 100 + result.value();
+			default:                  return 200 + result.value();
+		}
+	}
+
+	// Create the result represented by the specified label from the table.
+
+	private static Result parseResult(String label)
+	{
+		if (label.equals("-"))
+		{
+			return new Result(Effects.NO_EFFECT,0,label);
+		}
+
+		if (label.equals("PTC"))
+		{
+			return new Result(Effects.PIN_TASK_CHECK,0,label);
+		}
+
+		if (label.equals("NMC"))
+		{
+			return new Result(Effects.NORMAL_MORALE_CHECK,0,label);
+		}
+
+		if (label.startsWith("K/"))
+		{
+			return new Result(Effects.CASUALTY_REDUCTION,
+			                  Integer.parseInt(label.substring(2)),label);
+		}
+
+		if (label.endsWith("KIA"))
+		{
+			return new Result(Effects.KILLED_IN_ACTION,
+			                  Integer.parseInt(label.substring(0,label.length() - 3)),
+			                  label);
+		}
+
+		return new Result(Effects.MORALE_CHECK,
+		                  Integer.parseInt(label.substring(0,label.length() - 2)),
+		                  label);
+	}
+
+	// Public classes
+
+	/**
+	 * This class represents a result on the table, which is the type of
+	 * effect and an associated value. Instances of this class are immutable,
+	 * and each result on the table is represented by a single instance, so
+	 * they can be compared using ==.
+	 */
+
+	public static final class Result
+	{
+		// Private data members
+
+		private final Effects _effect;
+		private final int     _value;
+		private final String  _label;
+
+		// Constructor
+
+		private Result(Effects effect,int value,String label)
+		{
+			_effect = effect;
+			_value  = value;
+			_label  = label;
+		}
+
+		// Public access methods
+
+		/**
+		 * Return the type of effect of the result.
+		 *
+		 * @return the <CODE>Effects</CODE> value for the result.
+		 */
+
+		public Effects effect()
+		{
+			return _effect;
+		}
+
+		/**
+		 * Return the value associated with the result, which is the
+		 * morale check modifier for <A HREF="FireTable.Effects.html#_MORALE_CHECK_">MORALE_CHECK</A> and
+		 * <A HREF="FireTable.Effects.html#_CASUALTY_REDUCTION_">CASUALTY_REDUCTION</A>, or the number of units killed for
+		 * <A HREF="FireTable.Effects.html#_KILLED_IN_ACTION_">KILLED_IN_ACTION</A>.
+		 *
+		 * @return the value, which is zero for the other effects.
+		 */
+
+		public int value()
+		{
+			return _value;
+		}
+
+		/**
+		 * Return the result as it is printed on the table.
+		 *
+		 * @return a <CODE>String</CODE> such as <B>1MC</B>, <B>K/2</B> or <B>-</B>.
+		 */
+
+		public String toString()
+		{
+			return _label;
+		}
+	}
+}
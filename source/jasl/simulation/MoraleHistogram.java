@@ -0,0 +1,208 @@
+// ************************************************************************** //
+// MoraleHistogram.java - This class is a member of the <B>simulation</B> package,   //
+//                        which contains the class definitions and            //
+//                        implementations for objects used to estimate the    //
+//                        outcomes of game actions by repeating them many     //
+//                        times.                                              //
+//                                                                            //
+//                        NOTE: This program is based on Advanced Squad       //
+//                              Leader, which was created by The Avalon Hill  //
+//                              Game Company, and lives on at Multi-Man       //
+//                              Publishing.                                   //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.simulation;
+
+import java.util.Locale;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to store the results of a <A HREF="MoraleSimulation.html">morale simulation</A>. For each
+ * dice roll modifier in the simulated range, it records the number of attempts
+ * made (morale checks or rally attempts) and the number of those that changed
+ * the status of the unit involved.
+ * <P>
+ * Instances of this class are immutable.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/simulation/MoraleHistogram.html">Source code</A>
+ */
+
+public final class MoraleHistogram
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = MoraleHistogram.class.getSimpleName();
+
+	// These are used to generate the text representation of the histogram.
+
+	private static final String MODIFIER_LABEL    = "Modifier";
+	private static final String TRIALS_LABEL      = "Trials";
+	private static final String CHANGED_LABEL     = "Changed";
+	private static final String PROBABILITY_LABEL = "Probability";
+
+	private static final int    LABEL_WIDTH       = 14;
+	private static final int    VALUE_WIDTH       = 12;
+
+	// Private data members
+
+	// The range of modifiers represented by the histogram.
+
+	private final int _minimumModifier;
+	private final int _maximumModifier;
+
+	// The number of attempts made and the number of status changes for
+	// each modifier, indexed by (modifier - _minimumModifier).
+
+	private final long[] _trials;
+	private final long[] _statusChanges;
+
+	// Constructor
+
+	// Instances of this class are only created by the simulation.
+
+	MoraleHistogram(int minimumModifier,long[] trials,long[] statusChanges)
+	{
+		_minimumModifier = minimumModifier;
+		_maximumModifier = minimumModifier + trials.length - 1;
+		_trials          = trials.clone();
+		_statusChanges   = statusChanges.clone();
+	}
+
+	// Public access methods
+
+	/**
+	 * Returns the lowest dice roll modifier included in the histogram.
+	 *
+	 * @return the minimum modifier.
+	 */
+
+	public int minimumModifier()
+	{
+		return _minimumModifier;
+	}
+
+	/**
+	 * Returns the highest dice roll modifier included in the histogram.
+	 *
+	 * @return the maximum modifier.
+	 */
+
+	public int maximumModifier()
+	{
+		return _maximumModifier;
+	}
+
+	/**
+	 * Returns the number of attempts made with the specified modifier.
+	 *
+	 * @param modifier the dice roll modifier.
+	 *
+	 * @return the number of attempts.
+	 *
+	 * @throws IllegalArgumentException in the case of a modifier outside
+	 * the range of the histogram.
+	 */
+
+	public long trials(int modifier)
+	{
+		return _trials[index(modifier,"trials")];
+	}
+
+	/**
+	 * Returns the number of attempts made with the specified modifier that
+	 * resulted in a change of status (a unit breaking or being rallied).
+	 *
+	 * @param modifier the dice roll modifier.
+	 *
+	 * @return the number of status changes.
+	 *
+	 * @throws IllegalArgumentException in the case of a modifier outside
+	 * the range of the histogram.
+	 */
+
+	public long statusChanges(int modifier)
+	{
+		return _statusChanges[index(modifier,"statusChanges")];
+	}
+
+	/**
+	 * Returns the fraction of the attempts made with the specified
+	 * modifier that resulted in a change of status.
+	 *
+	 * @param modifier the dice roll modifier.
+	 *
+	 * @return the estimated probability (0.0 - 1.0) of a status change.
+	 *
+	 * @throws IllegalArgumentException in the case of a modifier outside
+	 * the range of the histogram.
+	 */
+
+	public double probability(int modifier)
+	{
+		int i = index(modifier,"probability");
+
+		return (0 == _trials[i]) ?
+		       0.0 : (double)_statusChanges[i] / (double)_trials[i];
+	}
+
+	/**
+	 * Generate a formatted text representation of the histogram, with one
+	 * line for each modifier.
+	 *
+	 * @return a <CODE>String</CODE> containing the results.
+	 */
+
+	public String toText()
+	{
+		StringBuilder returnString = new StringBuilder();
+
+		returnString.append(Messages.formatTextString(MODIFIER_LABEL,
+		                                              LABEL_WIDTH,false,false));
+		returnString.append(Messages.formatTextString(TRIALS_LABEL,
+		                                              VALUE_WIDTH,false,false));
+		returnString.append(Messages.formatTextString(CHANGED_LABEL,
+		                                              VALUE_WIDTH,false,false));
+		returnString.append(PROBABILITY_LABEL).append('\n');
+
+		for (int modifier = _minimumModifier;
+		     modifier <= _maximumModifier;
+		     modifier++)
+		{
+			returnString.append(Messages.formatTextString(Integer.toString(modifier),
+			                                              LABEL_WIDTH,false,false));
+			returnString.append(Messages.formatTextString(Long.toString(trials(modifier)),
+			                                              VALUE_WIDTH,false,false));
+			returnString.append(Messages.formatTextString(Long.toString(statusChanges(modifier)),
+			                                              VALUE_WIDTH,false,false));
+			returnString.append(String.format(Locale.ROOT,"%.4f",probability(modifier)))
+			            .append('\n');
+		}
+
+		return returnString.toString();
+	}
+
+	// Private methods
+
+	// Convert a modifier to an index in the arrays, throwing an exception
+	// if it is outside the range of the histogram.
+
+	private int index(int modifier,String methodName)
+	{
+		if ((modifier < _minimumModifier) || (modifier > _maximumModifier))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + modifier));
+		}
+
+		return modifier - _minimumModifier;
+	}
+}
@@ -0,0 +1,393 @@
+// ************************************************************************** //
+// MoraleSimulation.java - This class is a member of the <B>simulation</B> package,  //
+//                         which contains the class definitions and           //
+//                         implementations for objects used to estimate the   //
+//                         outcomes of game actions by repeating them many    //
+//                         times.                                             //
+//                                                                            //
+//                         NOTE: This program is based on Advanced Squad      //
+//                               Leader, which was created by The Avalon Hill //
+//                               Game Company, and lives on at Multi-Man      //
+//                               Publishing.                                  //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jasl.counters.Morale;
+import jasl.counters.Status;
+import jasl.counters.Status.States;
+import jasl.counters.Unit;
+import jasl.utilities.Dice;
+import jasl.utilities.Messages;
+import jasl.utilities.Serialization;
+
+/**
+ * This class is used to estimate the outcome of morale checks and rally
+ * attempts by performing them repeatedly on a population of units (<A HREF="../counters/Squad.html">Squad</A>s
+ * and/or <A HREF="../counters/Leader.html">Leader</A>s) over a range of dice roll modifiers.
+ * <P>
+ * The trials are divided among the worker threads of a fork/join pool. Each
+ * task operates on its own copies of the units, so the items passed to the
+ * simulation are never modified. The dice are rolled using a generator that is
+ * split from the seed specified at construction, in the same way regardless of
+ * the number of threads, so a simulation with a given seed always produces the
+ * same results.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/simulation/MoraleSimulation.html">Source code</A>
+ */
+
+public final class MoraleSimulation
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = MoraleSimulation.class.getSimpleName();
+
+	// The number of trials performed by a task without dividing its work
+	// any further.
+
+	private static final int TRIALS_PER_TASK = 4096;
+
+	// Private data members
+
+	// The pool used to run the simulation tasks.
+
+	private final ForkJoinPool _pool;
+
+	// The number of times each unit is tested with each modifier.
+
+	private final int _trials;
+
+	// The seed for the random number generator used to roll the dice.
+
+	private final long _seed;
+
+	// Constructors
+
+	/**
+	 * Construct a new <CODE>MoraleSimulation</CODE> using the common fork/join pool.
+	 *
+	 * @param trials the number of times each unit is tested with each
+	 * modifier.
+	 * @param seed the seed for the random number generator used to roll
+	 * the dice.
+	 *
+	 * @throws IllegalArgumentException in the case of a number of trials
+	 * that is less than 1.
+	 */
+
+	public MoraleSimulation(int trials,long seed)
+	{
+		this(ForkJoinPool.commonPool(),trials,seed);
+	}
+
+	/**
+	 * Construct a new <CODE>MoraleSimulation</CODE>.
+	 *
+	 * @param pool the fork/join pool used to run the simulation.
+	 * @param trials the number of times each unit is tested with each
+	 * modifier.
+	 * @param seed the seed for the random number generator used to roll
+	 * the dice.
+	 *
+	 * @throws NullPointerException in the case of a null pool.
+	 * @throws IllegalArgumentException in the case of a number of trials
+	 * that is less than 1.
+	 */
+
+	public MoraleSimulation(ForkJoinPool pool,int trials,long seed)
+	{
+		if (null == pool)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (trials < 1)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG + trials));
+		}
+
+		_pool   = pool;
+		_trials = trials;
+		_seed   = seed;
+	}
+
+	// Public access methods
+
+	/**
+	 * Perform morale checks on each of the specified units, with each
+	 * modifier in the specified range.
+	 *
+	 * @param units the population of units. Each one must implement the
+	 * <A HREF="../counters/Morale.html">Morale</A> interface.
+	 * @param minimumModifier the lowest dice roll modifier used.
+	 * @param maximumModifier the highest dice roll modifier used.
+	 *
+	 * @return a <CODE>MoraleHistogram</CODE> containing the number of checks made and
+	 * the number of units broken for each modifier.
+	 *
+	 * @throws NullPointerException in the case of a null list or unit.
+	 * @throws IllegalArgumentException in the case of an empty list, a
+	 * unit that is not subject to morale checks, or a minimum modifier
+	 * that is greater than the maximum.
+	 */
+
+	public MoraleHistogram checkMorale(List<? extends Unit> units,
+	                                   int minimumModifier,
+	                                   int maximumModifier)
+	{
+		return run("checkMorale",units,false,false,
+		           minimumModifier,maximumModifier);
+	}
+
+	/**
+	 * Perform rally attempts for each of the specified units, with each
+	 * modifier in the specified range.
+	 *
+	 * @param units the population of units. Each one must implement the
+	 * <A HREF="../counters/Morale.html">Morale</A> interface. Units that are not broken, or are unable to
+	 * self rally when a leader is not present, are counted as failures.
+	 * @param leaderPresent indicates if a leader is present for the rally
+	 * attempts.
+	 * @param minimumModifier the lowest dice roll modifier used.
+	 * @param maximumModifier the highest dice roll modifier used.
+	 *
+	 * @return a <CODE>MoraleHistogram</CODE> containing the number of attempts made
+	 * and the number of units rallied for each modifier.
+	 *
+	 * @throws NullPointerException in the case of a null list or unit.
+	 * @throws IllegalArgumentException in the case of an empty list, a
+	 * unit that is not subject to morale checks, or a minimum modifier
+	 * that is greater than the maximum.
+	 */
+
+	public MoraleHistogram rally(List<? extends Unit> units,
+	                             boolean leaderPresent,
+	                             int minimumModifier,int maximumModifier)
+	{
+		return run("rally",units,true,leaderPresent,
+		           minimumModifier,maximumModifier);
+	}
+
+	// Private methods
+
+	// Check the arguments received, run the tasks, and package the
+	// results.
+
+	private MoraleHistogram run(String methodName,List<? extends Unit> units,
+	                            boolean isRally,boolean leaderPresent,
+	                            int minimumModifier,int maximumModifier)
+	{
+		if (null == units)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (units.isEmpty())
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.ZERO_LENGTH_PARAMETER_MSG));
+		}
+
+		if (minimumModifier > maximumModifier)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              minimumModifier + Messages.AND_SEPARATOR +
+			                                                              maximumModifier));
+		}
+
+		// Convert each unit to its binary form. The tasks create their
+		// own copies of the units from this data.
+
+		List<byte[]> population = new ArrayList<byte[]>(units.size());
+
+		for (Unit unit : units)
+		{
+			if (null == unit)
+			{
+				throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                          methodName,
+				                                                          Messages.NULL_PARAMETER_MSG));
+			}
+
+			if (!(unit instanceof Morale) || !(unit instanceof Status))
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              methodName,
+				                                                              Messages.INVALID_PARAMETER_MSG +
+				                                                              unit.description()));
+			}
+
+			population.add(Serialization.encode(unit));
+		}
+
+		int modifierCount = maximumModifier - minimumModifier + 1;
+
+		long[] statusChanges = _pool.invoke(new MoraleTask(population,isRally,
+		                                                   leaderPresent,
+		                                                   minimumModifier,
+		                                                   modifierCount,
+		                                                   _trials,
+		                                                   new SplittableRandom(_seed)));
+
+		long[] trials = new long[modifierCount];
+
+		for (int i = 0;i < modifierCount;i++)
+		{
+			trials[i] = (long)_trials * population.size();
+		}
+
+		return new MoraleHistogram(minimumModifier,trials,statusChanges);
+	}
+
+	// This class represents a portion of the trials in a simulation. A task
+	// with more than TRIALS_PER_TASK trials divides them in half, giving
+	// each half its own generator, which is split from the parent's before
+	// the work is forked. The results are therefore independent of the
+	// order in which the tasks are executed.
+
+	private static final class MoraleTask extends RecursiveTask<long[]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final List<byte[]>     _population;
+		private final boolean          _isRally;
+		private final boolean          _leaderPresent;
+		private final int              _minimumModifier;
+		private final int              _modifierCount;
+		private final int              _trials;
+		private final SplittableRandom _random;
+
+		MoraleTask(List<byte[]> population,boolean isRally,
+		           boolean leaderPresent,int minimumModifier,
+		           int modifierCount,int trials,SplittableRandom random)
+		{
+			_population      = population;
+			_isRally         = isRally;
+			_leaderPresent   = leaderPresent;
+			_minimumModifier = minimumModifier;
+			_modifierCount   = modifierCount;
+			_trials          = trials;
+			_random          = random;
+		}
+
+		protected long[] compute()
+		{
+			if (_trials > TRIALS_PER_TASK)
+			{
+				int firstHalf = _trials / 2;
+
+				MoraleTask first  = new MoraleTask(_population,_isRally,
+				                                   _leaderPresent,
+				                                   _minimumModifier,
+				                                   _modifierCount,
+				                                   firstHalf,
+				                                   _random.split());
+				MoraleTask second = new MoraleTask(_population,_isRally,
+				                                   _leaderPresent,
+				                                   _minimumModifier,
+				                                   _modifierCount,
+				                                   _trials - firstHalf,
+				                                   _random);
+
+				first.fork();
+
+				long[] results      = second.compute();
+				long[] firstResults = first.join();
+
+				for (int i = 0;i < _modifierCount;i++)
+				{
+					results[i] += firstResults[i];
+				}
+
+				return results;
+			}
+
+			long[] statusChanges = new long[_modifierCount];
+
+			// The dice for each trial (one roll for each modifier) are
+			// rolled together, into arrays that are reused for all of the
+			// trials. The subsequent die is not used.
+
+			int[] white      = new int[_modifierCount];
+			int[] colored    = new int[_modifierCount];
+			int[] subsequent = new int[_modifierCount];
+
+			for (byte[] data : _population)
+			{
+				Unit unit = Serialization.decode(data,Unit.BINARY_DECODER);
+
+				Morale morale = (Morale)unit;
+				Status status = (Status)unit;
+
+				int initialStatus = status.statusMask();
+
+				for (int trial = 0;trial < _trials;trial++)
+				{
+					Dice.rollInto(_random,white,colored,subsequent,
+					              _modifierCount);
+
+					for (int i = 0;i < _modifierCount;i++)
+					{
+						int modifier = _minimumModifier + i;
+
+						boolean changed = _isRally ?
+						                  morale.restore(_leaderPresent,modifier,
+						                                 white[i],colored[i]) :
+						                  morale.check(modifier,white[i],colored[i]);
+
+						if (changed)
+						{
+							statusChanges[i]++;
+						}
+
+						if (status.statusMask() != initialStatus)
+						{
+							resetStatus(status,initialStatus);
+						}
+					}
+				}
+			}
+
+			return statusChanges;
+		}
+
+		// Return a unit to the status it had at the start of the
+		// simulation.
+
+		private static void resetStatus(Status status,int initialStatus)
+		{
+			status.clearStatus(States.DESPERATE);
+			status.clearStatus(States.BROKEN);
+
+			for (States state : States.values())
+			{
+				if ((initialStatus & state.value()) != 0)
+				{
+					status.setStatus(state);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,349 @@
+// ************************************************************************** //
+// PhaseScheduler.java - This class is a member of the <B>simulation</B> package,    //
+//                       which contains the class definitions and             //
+//                       implementations for objects used to estimate the     //
+//                       outcomes of game actions by repeating them many      //
+//                       times.                                               //
+//                                                                            //
+//                       NOTE: This program is based on Advanced Squad        //
+//                             Leader, which was created by The Avalon Hill   //
+//                             Game Company, and lives on at Multi-Man        //
+//                             Publishing.                                    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jasl.counters.Morale;
+import jasl.counters.Status;
+import jasl.counters.Status.States;
+import jasl.counters.Unit;
+import jasl.ui.data.Phase;
+import jasl.utilities.Dice;
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to resolve the independent actions that make up a phase
+ * of a turn (e.g. the rally attempt of each broken unit, or the close combat in
+ * each hex) by dividing them among the worker threads of a fork/join pool.
+ * <P>
+ * Each action (work item) is given its own random number generator, which is
+ * split from the one belonging to the scheduler, in the order of the items,
+ * before any of the work is started. The results are returned in the same
+ * order as the items. A scheduler created with a given seed therefore always
+ * produces the same results for the same sequence of phases, regardless of
+ * the number of threads or the order in which the items are resolved.
+ * <P>
+ * The items resolved in a phase must be independent of each other. They may
+ * be resolved at the same time, so an item must not change anything belonging
+ * to another one.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/simulation/PhaseScheduler.html">Source code</A>
+ */
+
+public final class PhaseScheduler implements Phase
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = PhaseScheduler.class.getSimpleName();
+
+	// The number of items resolved by a task without dividing its work any
+	// further. This is kept small, since a single item (e.g. the close
+	// combat in a hex) may involve a significant amount of work.
+
+	private static final int ITEMS_PER_TASK = 8;
+
+	// Private data members
+
+	// The pool used to resolve the items.
+
+	private final ForkJoinPool _pool;
+
+	// The random number generator that the generators of the items in each
+	// phase are split from.
+
+	private final SplittableRandom _random;
+
+	// The phase currently (or most recently) being resolved, which is null
+	// until the first one is started.
+
+	private Phases _phase;
+
+	// Resolution interface
+
+	/**
+	 * This interface is used to define the action taken for each item
+	 * resolved in a phase.
+	 */
+
+	public interface Action<T,R>
+	{
+		/**
+		 * Resolve the specified item.
+		 * <P>
+		 * This method may be called by multiple threads at the same
+		 * time, each with a different item.
+		 *
+		 * @param item the item to be resolved.
+		 * @param random the random number generator belonging to the
+		 * item, which should be used to roll any dice that it requires
+		 * (see <A HREF="../utilities/Dice.html#Dice(java.util.SplittableRandom)">Dice(SplittableRandom)</A>).
+		 *
+		 * @return the result of the resolution.
+		 */
+
+		public abstract R resolve(T item,SplittableRandom random);
+	}
+
+	// Constructors
+
+	/**
+	 * Construct a new <CODE>PhaseScheduler</CODE> using the common fork/join pool.
+	 *
+	 * @param seed the seed for the random number generator used to roll
+	 * the dice.
+	 */
+
+	public PhaseScheduler(long seed)
+	{
+		this(ForkJoinPool.commonPool(),seed);
+	}
+
+	/**
+	 * Construct a new <CODE>PhaseScheduler</CODE>.
+	 *
+	 * @param pool the fork/join pool used to resolve the items in each
+	 * phase.
+	 * @param seed the seed for the random number generator used to roll
+	 * the dice.
+	 *
+	 * @throws NullPointerException in the case of a null pool.
+	 */
+
+	public PhaseScheduler(ForkJoinPool pool,long seed)
+	{
+		if (null == pool)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_pool   = pool;
+		_random = new SplittableRandom(seed);
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the phase currently (or most recently) being resolved.
+	 *
+	 * @return a <CODE>String</CODE> specifying the phase, which is empty if none has
+	 * been resolved.
+	 */
+
+	public synchronized String phase()
+	{
+		return (null == _phase) ? "" : _phase.toString();
+	}
+
+	// Update methods
+
+	/**
+	 * Resolve each of the specified items in the specified phase.
+	 * <P>
+	 * Phases are resolved one at a time. A call made while another phase
+	 * is being resolved waits for it to be completed.
+	 *
+	 * @param phase the phase being resolved.
+	 * @param items the items to be resolved. The list may be empty.
+	 * @param action the action taken for each item.
+	 *
+	 * @return an <B>unmodifiable</B> <CODE>List</CODE> of the results, in the same order as the
+	 * items.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws RuntimeException in the case of an exception thrown by the
+	 * action, which is passed on to the caller after the items being
+	 * resolved at the time have been completed.
+	 */
+
+	public synchronized <T,R> List<R> resolve(Phases phase,
+	                                          List<? extends T> items,
+	                                          Action<? super T,? extends R> action)
+	{
+		if ((null == phase) || (null == items) || (null == action))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "resolve",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_phase = phase;
+
+		// Split a generator for each item, in order, before any of the
+		// work is started. The generators, and therefore the results,
+		// do not depend on the way that the work is divided.
+
+		List<T>                itemList   = new ArrayList<T>(items);
+		List<SplittableRandom> generators = new ArrayList<SplittableRandom>(itemList.size());
+
+		for (int i = 0;i < itemList.size();i++)
+		{
+			generators.add(_random.split());
+		}
+
+		Object[] results = new Object[itemList.size()];
+
+		if (!itemList.isEmpty())
+		{
+			_pool.invoke(new PhaseTask<T,R>(itemList,generators,action,results,
+			                                0,itemList.size()));
+		}
+
+		// Each element was set by the action of the corresponding item.
+
+		@SuppressWarnings("unchecked")
+		List<R> resultList = (List<R>)Arrays.asList(results);
+
+		return Collections.unmodifiableList(resultList);
+	}
+
+	/**
+	 * Make a rally attempt for each of the specified units that is broken.
+	 * <P>
+	 * This is the resolution of the <A HREF="../ui/data/Phase.html#_RALLY_">RALLY</A> phase, with the same leader
+	 * presence and modifier applying to every unit. Units that are not
+	 * broken are not changed.
+	 *
+	 * @param units the units, each of which must implement the <A HREF="../counters/Morale.html">Morale</A>
+	 * and <A HREF="../counters/Status.html">Status</A> interfaces. A unit may only appear in the list once.
+	 * @param leaderPresent indicates if a leader is present for the rally
+	 * attempts.
+	 * @param modifier the dice roll modifier for the rally attempts.
+	 *
+	 * @return an <B>unmodifiable</B> <CODE>List</CODE> of Boolean values, in the same order as the
+	 * units, each of which is true if the unit was rallied.
+	 *
+	 * @throws NullPointerException in the case of a null list or unit.
+	 * @throws IllegalArgumentException in the case of a unit that is not
+	 * subject to morale checks.
+	 */
+
+	public List<Boolean> rally(List<? extends Unit> units,
+	                           final boolean leaderPresent,final int modifier)
+	{
+		String METHOD_NAME = "rally";
+
+		if (null == units)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		// Check all of the units before any of them are changed.
+
+		for (Unit unit : units)
+		{
+			if (null == unit)
+			{
+				throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                          METHOD_NAME,
+				                                                          Messages.NULL_PARAMETER_MSG));
+			}
+
+			if (!(unit instanceof Morale) || !(unit instanceof Status))
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              METHOD_NAME,
+				                                                              Messages.INVALID_PARAMETER_MSG +
+				                                                              unit.description()));
+			}
+		}
+
+		return resolve(Phases.RALLY,units,new Action<Unit,Boolean>()
+		{
+			public Boolean resolve(Unit unit,SplittableRandom random)
+			{
+				if (!((Status)unit).hasStatus(States.BROKEN))
+				{
+					return Boolean.FALSE;
+				}
+
+				// Roll the white and colored dice without creating a
+				// Dice object.
+
+				int white   = Dice.rollDie(random);
+				int colored = Dice.rollDie(random);
+
+				return Boolean.valueOf(((Morale)unit).restore(leaderPresent,
+				                                              modifier,white,
+				                                              colored));
+			}
+		});
+	}
+
+	// This class represents a range of the items in a phase. A task with
+	// more than ITEMS_PER_TASK items divides them in half. Each item is
+	// resolved with its own generator, and its result is stored at its own
+	// index, so the tasks do not share anything that they change.
+
+	private static final class PhaseTask<T,R> extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final List<T>                       _items;
+		private final List<SplittableRandom>        _generators;
+		private final Action<? super T,? extends R> _action;
+		private final Object[]                      _results;
+		private final int                           _start;
+		private final int                           _end;
+
+		PhaseTask(List<T> items,List<SplittableRandom> generators,
+		          Action<? super T,? extends R> action,Object[] results,
+		          int start,int end)
+		{
+			_items      = items;
+			_generators = generators;
+			_action     = action;
+			_results    = results;
+			_start      = start;
+			_end        = end;
+		}
+
+		protected void compute()
+		{
+			if ((_end - _start) > ITEMS_PER_TASK)
+			{
+				int middle = (_start + _end) >>> 1;
+
+				invokeAll(new PhaseTask<T,R>(_items,_generators,_action,
+				                             _results,_start,middle),
+				          new PhaseTask<T,R>(_items,_generators,_action,
+				                             _results,middle,_end));
+
+				return;
+			}
+
+			for (int i = _start;i < _end;i++)
+			{
+				_results[i] = _action.resolve(_items.get(i),_generators.get(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,266 @@
+// ************************************************************************** //
+// Designation.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import jasl.counters.Description.Descriptions;
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to store the values printed on a counter, which are used
+ * to identify it (e.g. "4-6-7 Squad" or "9-2 Leader"), in a form that can be
+ * used without examining the text.
+ * <P>
+ * The values of a squad are its firepower, normal range, and morale. The values
+ * of a leader are its morale and leadership modifier, which is negative when it
+ * is preceded by a '-' (e.g. -2 for "9-2") and positive when it is preceded by
+ * a '+' (e.g. +1 for "6+1"). The values that do not apply to a type of unit are
+ * zero.
+ * <P>
+ * Instances of this class cannot be changed after they are created.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/Designation.html">Source code</A>
+ */
+
+public final class Designation
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = Designation.class.getSimpleName();
+
+	// The characters separating the values, and the values from the type.
+
+	private static final char VALUE_SEPARATOR = '-';
+	private static final char PLUS_SIGN       = '+';
+	private static final char TYPE_SEPARATOR  = ' ';
+
+	// Private data members
+
+	// The designation, as printed on the counter, followed by the type.
+
+	private final String _label;
+
+	// The type of unit, and the values identifying it.
+
+	private final Descriptions _description;
+
+	private final int _firepower;
+	private final int _normalRange;
+	private final int _morale;
+	private final int _modifier;
+
+	// Constructor
+
+	private Designation(String label,Descriptions description,int firepower,
+	                    int normalRange,int morale,int modifier)
+	{
+		_label       = label;
+		_description = description;
+		_firepower   = firepower;
+		_normalRange = normalRange;
+		_morale      = morale;
+		_modifier    = modifier;
+	}
+
+	// Public access methods
+
+	/**
+	 * Create a new <CODE>Designation</CODE> from the specified text.
+	 *
+	 * @param designation the designation of a squad or leader.
+	 * Example - <B>"4-6-7 Squad"</B>
+	 *
+	 * @return the <CODE>Designation</CODE> containing the values.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of text that is not the
+	 * designation of a squad or leader.
+	 */
+
+	public static Designation parse(String designation)
+	{
+		String METHOD_NAME = "parse";
+
+		if (null == designation)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		int typeIndex = designation.indexOf(TYPE_SEPARATOR);
+
+		if (typeIndex > 0)
+		{
+			String values = designation.substring(0,typeIndex);
+			String type   = designation.substring(typeIndex + 1);
+
+			try
+			{
+				if (Descriptions.SQUAD.toString().equals(type))
+				{
+					int rangeIndex  = values.indexOf(VALUE_SEPARATOR);
+					int moraleIndex = values.indexOf(VALUE_SEPARATOR,rangeIndex + 1);
+
+					if ((rangeIndex > 0) && (moraleIndex > (rangeIndex + 1)))
+					{
+						return new Designation(designation,Descriptions.SQUAD,
+						                       parseValue(values,0,rangeIndex),
+						                       parseValue(values,rangeIndex + 1,moraleIndex),
+						                       parseValue(values,moraleIndex + 1,values.length()),
+						                       0);
+					}
+				}
+
+				else if (Descriptions.LEADER.toString().equals(type))
+				{
+					int modifierIndex = Math.max(values.indexOf(VALUE_SEPARATOR),
+					                             values.indexOf(PLUS_SIGN));
+
+					if (modifierIndex > 0)
+					{
+						int modifier = parseValue(values,modifierIndex + 1,values.length());
+
+						return new Designation(designation,Descriptions.LEADER,0,0,
+						                       parseValue(values,0,modifierIndex),
+						                       (PLUS_SIGN == values.charAt(modifierIndex)) ?
+						                       modifier : -modifier);
+					}
+				}
+			}
+
+			catch (NumberFormatException exception)
+			{
+				// Handled below.
+			}
+		}
+
+		throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+		                                                              METHOD_NAME,
+		                                                              Messages.INVALID_PARAMETER_MSG + designation));
+	}
+
+	/**
+	 * Return the designation, in the form that it was created from.
+	 *
+	 * @return a <CODE>String</CODE> containing the designation.
+	 */
+
+	public String toString()
+	{
+		return _label;
+	}
+
+	/**
+	 * Return the type of unit.
+	 *
+	 * @return a <CODE>Descriptions</CODE> value, which is either SQUAD or LEADER.
+	 */
+
+	public Descriptions description()
+	{
+		return _description;
+	}
+
+	/**
+	 * Return the firepower of a squad.
+	 *
+	 * @return the firepower, or zero for a leader.
+	 */
+
+	public int firepower()
+	{
+		return _firepower;
+	}
+
+	/**
+	 * Return the normal range of a squad.
+	 *
+	 * @return the normal range, or zero for a leader.
+	 */
+
+	public int normalRange()
+	{
+		return _normalRange;
+	}
+
+	/**
+	 * Return the morale of a unit.
+	 *
+	 * @return the morale.
+	 */
+
+	public int morale()
+	{
+		return _morale;
+	}
+
+	/**
+	 * Return the leadership modifier of a leader.
+	 *
+	 * @return the modifier, or zero for a squad.
+	 */
+
+	public int modifier()
+	{
+		return _modifier;
+	}
+
+	/**
+	 * Compare this designation to another object.
+	 *
+	 * @param object the object to be compared.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the object is a designation with the
+	 * same text.
+	 */
+
+	public boolean equals(Object object)
+	{
+		return (object instanceof Designation) &&
+		       _label.equals(((Designation)object)._label);
+	}
+
+	/**
+	 * Return the hash code of this designation.
+	 *
+	 * @return the hash code of the text.
+	 */
+
+	public int hashCode()
+	{
+		return _label.hashCode();
+	}
+
+	// Private methods
+
+	// Return the (non-negative) value found between the specified indices.
+
+	private static int parseValue(String values,int beginIndex,int endIndex)
+	{
+		for (int index = beginIndex;index < endIndex;index++)
+		{
+			if (!Character.isDigit(values.charAt(index)))
+			{
+				throw new NumberFormatException(values);
+			}
+		}
+
+		return Integer.parseInt(values.substring(beginIndex,endIndex));
+	}
+}
@@ -0,0 +1,369 @@
+// ************************************************************************** //
+// Formation.java - This class is a member of the <B>ui.data</B> package, which      //
+//                  contains the class definitions and implementations for    //
+//                  objects used to store and manage the state of an instance //
+//                  of jASL.                                                  //
+//                                                                            //
+//                  NOTE: This program is based on Advanced Squad Leader,     //
+//                        which was created by The Avalon Hill Game Company,  //
+//                        and lives on at Multi-Man Publishing.               //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.ArrayList;
+
+import jasl.counters.Description;
+import jasl.counters.Leader;
+import jasl.counters.Squad;
+import jasl.counters.Unit;
+import jasl.counters.UnitTemplate;
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to store the units of a named formation (company,
+ * battalion, etc.) in a <A HREF="Scenario.html">scenario</A>.
+ * <P>
+ * Each entry in the order of battle is held as a <A HREF="../../counters/UnitTemplate.html">template</A> and the number of
+ * copies of it. The individual counters are not created until they are
+ * accessed through unit(), so the memory used by a formation depends on the
+ * number of units actually in use rather than the size of the order of battle.
+ * Once created, the same instance is returned for each subsequent access.
+ * <P>
+ * The order of battle itself may be examined through entries(), template(),
+ * and copies(), none of which create any units. The entries cannot be changed,
+ * although the units themselves can be.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/Formation.html">Source code</A>
+ */
+
+public final class Formation
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = Formation.class.getSimpleName();
+
+	// The number of entries that the array of first indices (see below) is
+	// initially allocated for. It is doubled whenever it is full.
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	// Private data members
+
+	// The name of the formation (e.g. "308th Rifle Division").
+
+	private final String _name;
+
+	// The template for each entry in the order of battle.
+
+	private final ArrayList<UnitTemplate> _templates = new ArrayList<UnitTemplate>();
+
+	// The index in the formation of the first unit of each entry. An
+	// additional element, following that of the last entry, contains the
+	// total number of units. The remaining elements are unused.
+
+	private int[] _firstIndex = new int[INITIAL_CAPACITY + 1];
+
+	// The units that have been created for each entry, indexed by their
+	// position within it. The array for an entry is not allocated until
+	// one of its units is accessed, and each element is null until the
+	// corresponding unit is accessed.
+
+	private final ArrayList<Unit[]> _units = new ArrayList<Unit[]>();
+
+	// Constructor
+
+	/**
+	 * Construct a new (empty) <CODE>Formation</CODE>.
+	 *
+	 * @param name the name of the formation.
+	 *
+	 * @throws NullPointerException in the case of a null name.
+	 */
+
+	public Formation(String name)
+	{
+		if (null == name)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_name = name;
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the name of a formation.
+	 *
+	 * @return a <CODE>String</CODE> specifying the formation name.
+	 */
+
+	public String name()
+	{
+		return _name;
+	}
+
+	/**
+	 * Return the name of a formation.
+	 *
+	 * @return a <CODE>String</CODE> specifying the formation name.
+	 *
+	 * @see #name
+	 */
+
+	public String toString()
+	{
+		return _name;
+	}
+
+	/**
+	 * Return the total number of units in a formation, including those that
+	 * have not been created yet.
+	 *
+	 * @return the number of units.
+	 */
+
+	public int size()
+	{
+		return _firstIndex[_templates.size()];
+	}
+
+	/**
+	 * Return the number of entries in the order of battle of a formation.
+	 * Each entry is a template and the number of copies of it.
+	 *
+	 * @return the number of entries.
+	 */
+
+	public int entries()
+	{
+		return _templates.size();
+	}
+
+	/**
+	 * Return the template of the units in the specified entry of the order
+	 * of battle. This does not create any units.
+	 *
+	 * @param entry the (zero-based) index of the entry.
+	 *
+	 * @return the <CODE>UnitTemplate</CODE> of the entry.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid entry.
+	 */
+
+	public UnitTemplate template(int entry)
+	{
+		checkEntry("template",entry);
+
+		return _templates.get(entry);
+	}
+
+	/**
+	 * Return the number of copies of the template in the specified entry of
+	 * the order of battle.
+	 *
+	 * @param entry the (zero-based) index of the entry.
+	 *
+	 * @return the number of units in the entry.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid entry.
+	 */
+
+	public int copies(int entry)
+	{
+		checkEntry("copies",entry);
+
+		return _firstIndex[entry + 1] - _firstIndex[entry];
+	}
+
+	/**
+	 * Return the unit at the specified position, creating it from its
+	 * template if it has not been accessed before.
+	 *
+	 * @param index the position of the unit in the formation, which runs
+	 * through the copies of each entry in turn.
+	 *
+	 * @return the <CODE>Unit</CODE> at the specified position.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 */
+
+	public Unit unit(int index)
+	{
+		if ((index < 0) || (index >= size()))
+		{
+			throw new IndexOutOfBoundsException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                               "unit",
+			                                                               Messages.INVALID_PARAMETER_MSG + index));
+		}
+
+		int entry = entry(index);
+
+		Unit[] units = _units.get(entry);
+
+		if (null == units)
+		{
+			units = new Unit[_firstIndex[entry + 1] - _firstIndex[entry]];
+
+			_units.set(entry,units);
+		}
+
+		int copy = index - _firstIndex[entry];
+
+		if (null == units[copy])
+		{
+			units[copy] = newUnit(_templates.get(entry));
+		}
+
+		return units[copy];
+	}
+
+	/**
+	 * Return the number of units that have been created, which are those
+	 * that have been accessed through unit().
+	 *
+	 * @return the number of units created.
+	 */
+
+	public int unitsCreated()
+	{
+		int unitsCreated = 0;
+
+		for (Unit[] units : _units)
+		{
+			if (null == units)
+			{
+				continue;
+			}
+
+			for (Unit unit : units)
+			{
+				if (null != unit)
+				{
+					unitsCreated++;
+				}
+			}
+		}
+
+		return unitsCreated;
+	}
+
+	/**
+	 * Return a text representation of the attributes of a formation.
+	 *
+	 * @return a multi-line <CODE>String</CODE> specifying the formation name, followed by
+	 * the description of each entry and the number of copies of it. Units
+	 * that have not been accessed are not created by this method.
+	 */
+
+	public String toText()
+	{
+		StringBuilder returnString = new StringBuilder();
+
+		returnString.append("Formation:\t" + _name + "\n");
+
+		for (int i = 0;i < _templates.size();i++)
+		{
+			returnString.append("\t" + (_firstIndex[i + 1] - _firstIndex[i]) +
+			                    " x " + _templates.get(i).toString() + "\n");
+		}
+
+		// Return the completed string to calling program.
+
+		return returnString.toString();
+	}
+
+	// Update methods
+
+	// Add an entry with the specified number of copies of a template to the
+	// end of the order of battle. This is used by Scenario when the file is
+	// loaded.
+
+	void addUnits(UnitTemplate template,int copies)
+	{
+		if ((null == template) || (copies < 1))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "addUnits",
+			                                                              Messages.INVALID_PARAMETER_MSG + copies));
+		}
+
+		int entries = _templates.size();
+
+		// Make room for another entry, doubling the capacity of the
+		// array if it is full.
+
+		if ((entries + 2) > _firstIndex.length)
+		{
+			int[] firstIndex = new int[(2 * (_firstIndex.length - 1)) + 1];
+
+			System.arraycopy(_firstIndex,0,firstIndex,0,entries + 1);
+
+			_firstIndex = firstIndex;
+		}
+
+		_firstIndex[entries + 1] = _firstIndex[entries] + copies;
+
+		_templates.add(template);
+		_units.add(null);
+	}
+
+	// Private methods
+
+	// Throw an exception if the specified entry is not in the order of
+	// battle.
+
+	private void checkEntry(String methodName,int entry)
+	{
+		if ((entry < 0) || (entry >= _templates.size()))
+		{
+			throw new IndexOutOfBoundsException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                               methodName,
+			                                                               Messages.INVALID_PARAMETER_MSG + entry));
+		}
+	}
+
+	// Create a new unit of the type indicated by the specified template.
+
+	private static Unit newUnit(UnitTemplate template)
+	{
+		return (Description.Descriptions.LEADER == template.description()) ?
+		       new Leader(template) : new Squad(template);
+	}
+
+	// Return the entry containing the unit at the specified (valid) index,
+	// using a binary search of the first index of each entry.
+
+	private int entry(int index)
+	{
+		int low  = 0;
+		int high = _templates.size() - 1;
+
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+
+			if (_firstIndex[middle] <= index)
+			{
+				low = middle;
+			}
+
+			else
+			{
+				high = middle - 1;
+			}
+		}
+
+		return low;
+	}
+}
@@ -21,11 +21,16 @@ import java.util.TreeMap;
 import jasl.counters.Nationality;
 
 /**
- * This is a singleton class used to provide overall management of an instance
- * of the game.
+ * This class is used to provide overall management of an instance of the
+ * game.
+ * <P>
+ * Each instance holds its own sides and players, so any number of games can
+ * exist at the same time (see <A HREF="GameSession.html">GameSession</A>). A program that only needs a
+ * single game can use the shared instance returned by game(). The methods
+ * are synchronized, so an instance may be used by multiple threads.
  *
- * @version 1.3
- * @author Copyright (C) 2013-2014 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.4
+ * @author Copyright (C) 2013-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Game.html">Source code</A>
  */
 
@@ -40,9 +45,15 @@ public final class Game
 
 	private boolean _setupComplete = false;
 
-	private static Game _game = null;
+	// The shared instance is created when game() is first called. The class
+	// loader guarantees that this happens exactly once, without locking.
 
-	private Game()
+	private static final class DefaultGame
+	{
+		static final Game GAME = new Game();
+	}
+
+	public Game()
 	{
 		_sides = new TreeMap<Side.Sides,Side>();
 
@@ -52,36 +63,34 @@ public final class Game
 
 	public static Game game()
 	{
-		if (null == _game) _game = new Game();
-
-		return _game;
+		return DefaultGame.GAME;
 	}
 
-	public Side.Sides activeSide()
+	public synchronized Side.Sides activeSide()
 	{
 		return _activeSide;
 	}
 
-	public void setStartingSide(Side.Sides side)
+	public synchronized void setStartingSide(Side.Sides side)
 	{
 		if (!_setupComplete) _activeSide = side;
 	}
 
-	public ArrayList<Nationality.Nationalities> nationalities(Side.Sides side)
+	public List<Nationality.Nationalities> nationalities(Side.Sides side)
 	{
 		return (Side.Sides.ALLIES == side) ?
 		       Side.alliedNationalities() : Side.axisNationalities();
 	}
 
-	public ArrayList<String> availableUnits(Nationality.Nationalities nationality)
+	public List<String> availableUnits(Nationality.Nationalities nationality)
 	{
 		return Side.unitList(nationality);
 	}
 
-	public boolean addPlayer(Side.Sides side,
-	                         String name,
-	                         Nationality.Nationalities nationality,
-	                         int entryTurn)
+	public synchronized boolean addPlayer(Side.Sides side,
+	                                      String name,
+	                                      Nationality.Nationalities nationality,
+	                                      int entryTurn)
 	{
 		if ((!_setupComplete) &&
 		    _sides.get(side).addPlayer(name,nationality,entryTurn))
@@ -97,23 +106,25 @@ public final class Game
 		return false;
 	}
 
-	public List<String> playerList(Side.Sides side)
+	public synchronized List<String> playerList(Side.Sides side)
 	{
-		return Collections.unmodifiableList((Side.Sides.ALLIES == side) ?
-		                                    _alliedPlayers : _axisPlayers);
+		// Return a copy, since the lists may be changed by another thread.
+
+		return Collections.unmodifiableList(new ArrayList<String>((Side.Sides.ALLIES == side) ?
+		                                                          _alliedPlayers : _axisPlayers));
 	}
 
-	public Player player(Side.Sides side,String name)
+	public synchronized Player player(Side.Sides side,String name)
 	{
 		return _sides.get(side).player(name);
 	}
 
-	public boolean setupComplete()
+	public synchronized boolean setupComplete()
 	{
 		return _setupComplete;
 	}
 
-	public void setSetupComplete()
+	public synchronized void setSetupComplete()
 	{
 		_alliedPlayers.clear();
 		_alliedPlayers.addAll(_sides.get(Side.Sides.ALLIES).playerList());
@@ -124,7 +135,7 @@ public final class Game
 		_setupComplete = true;
 	}
 
-	public String toText()
+	public synchronized String toText()
 	{
 		StringBuffer returnString = new StringBuffer();
 
@@ -0,0 +1,1036 @@
+// ************************************************************************** //
+// GameLog.java - This class is a member of the <B>ui.data</B> package, which        //
+//                contains the class definitions and implementations for      //
+//                objects used to store and manage the state of an instance   //
+//                of jASL.                                                    //
+//                                                                            //
+//                NOTE: This program is based on Advanced Squad Leader, which //
+//                      was created by The Avalon Hill Game Company, and      //
+//                      lives on at Multi-Man Publishing.                     //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jasl.counters.Mobility;
+import jasl.counters.Nationality;
+import jasl.counters.Status;
+import jasl.counters.Unit;
+import jasl.utilities.Messages;
+import jasl.utilities.Serialization;
+
+/**
+ * This class is used to record the changes made to the state of a game, so
+ * that it can be recovered without saving the entire game after each change.
+ * <P>
+ * The log holds the units in the game, each identified by a unit ID, the
+ * groups of units that are stacked together, and the <A HREF="Game.html">Game</A> containing the
+ * sides and players. Each change made through the methods of this class is
+ * applied to that state and then appended to an event file, so the cost of
+ * recording it does not depend on the size of the game.
+ * <P>
+ * After a specified number of events, a snapshot of the entire state is
+ * written to a separate file, which replaces the previous one, and the event
+ * file is started again. When a log is opened, the state is recovered by
+ * loading the snapshot and replaying the events that follow it. An event
+ * that was only partially written (e.g. when the program was terminated) is
+ * discarded.
+ * <P>
+ * Each event is passed to the operating system as soon as it is written, so
+ * it survives the termination of the program, but is not forced to the
+ * storage device.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/GameLog.html">Source code</A>
+ */
+
+public final class GameLog implements Closeable
+{
+	// Symbolic constants
+
+	/**
+	 * The name of the file containing the snapshot : <B>game.snapshot</B>
+	 */
+
+	public static final String SNAPSHOT_FILE = "game.snapshot";
+
+	/**
+	 * The name of the file containing the events : <B>game.events</B>
+	 */
+
+	public static final String EVENT_FILE = "game.events";
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = GameLog.class.getSimpleName();
+
+	// The values written at the start of a snapshot to identify it.
+
+	private static final int SNAPSHOT_ID      = 0x4A534C47;
+	private static final int SNAPSHOT_VERSION = 1;
+
+	// The type of each event, which is written before its data.
+
+	private static final int UNIT_ADDED        = 1;
+	private static final int STATUS_SET        = 2;
+	private static final int STATUS_CLEARED    = 3;
+	private static final int PORTAGE_LEVEL_SET = 4;
+	private static final int SUB_STACK_ADDED   = 5;
+	private static final int SUB_STACK_TAKEN   = 6;
+	private static final int PLAYER_ADDED      = 7;
+	private static final int STARTING_SIDE_SET = 8;
+	private static final int SETUP_COMPLETED   = 9;
+
+	// The message used when a file does not contain a snapshot.
+
+	private static final String NOT_SNAPSHOT_MSG = "Not a game snapshot.";
+
+	// Private data members
+
+	// The files that the log is written to.
+
+	private final File _snapshotFile;
+	private final File _eventFile;
+
+	// The number of events written between snapshots (zero if they are only
+	// written when requested).
+
+	private final int _snapshotInterval;
+
+	// The state of the game. Each unit is managed by a stack, using its unit
+	// ID as the stack ID, and the groups contain those stacks as sub-stacks.
+	// Both are kept in the order they were added.
+
+	private final LinkedHashMap<Integer,Stack> _units  = new LinkedHashMap<Integer,Stack>();
+	private final LinkedHashMap<Integer,Stack> _groups = new LinkedHashMap<Integer,Stack>();
+
+	// The ID of the group that each unit is in, if any.
+
+	private final HashMap<Integer,Integer> _unitGroups = new HashMap<Integer,Integer>();
+
+	private final Game _game = new Game();
+
+	// The sequence number of the last event applied, and that of the last
+	// event included in the snapshot. Events with a sequence number that is
+	// not greater than the snapshot's are ignored when they are replayed.
+
+	private long _sequence         = 0;
+	private long _snapshotSequence = 0;
+
+	// The stream that events are written to.
+
+	private DataOutputStream _events;
+
+	// Constructor
+
+	/**
+	 * Construct a new <CODE>GameLog</CODE>, recovering the state from the files in the
+	 * specified directory if it contains any.
+	 *
+	 * @param directory the directory containing the files, which is created
+	 * if necessary.
+	 * @param snapshotInterval the number of events written between
+	 * snapshots, or zero if they are only written when snapshot() is called.
+	 *
+	 * @throws NullPointerException in the case of a null directory.
+	 * @throws IllegalArgumentException in the case of a negative interval or
+	 * a snapshot file that is not valid.
+	 * @throws IOException in the case of an error reading or writing the
+	 * files.
+	 */
+
+	public GameLog(String directory,int snapshotInterval) throws IOException
+	{
+		if (null == directory)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (snapshotInterval < 0)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG + snapshotInterval));
+		}
+
+		File directoryFile = new File(directory);
+
+		Files.createDirectories(directoryFile.toPath());
+
+		_snapshotFile     = new File(directoryFile,SNAPSHOT_FILE);
+		_eventFile        = new File(directoryFile,EVENT_FILE);
+		_snapshotInterval = snapshotInterval;
+
+		if (_snapshotFile.exists())
+		{
+			readSnapshot();
+		}
+
+		long validLength = _eventFile.exists() ? replayEvents() : 0;
+
+		// Remove any partial event from the end of the file before more
+		// are added to it.
+
+		RandomAccessFile eventFile = new RandomAccessFile(_eventFile,"rw");
+
+		try
+		{
+			eventFile.setLength(validLength);
+		}
+
+		finally
+		{
+			eventFile.close();
+		}
+
+		_events = openEvents(true);
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the game containing the sides and players. It should only be
+	 * changed through this object, so that the changes are recorded.
+	 *
+	 * @return the <CODE>Game</CODE> managed by the log.
+	 */
+
+	public Game game()
+	{
+		return _game;
+	}
+
+	/**
+	 * Return the unit with the specified ID. Its status and portage level
+	 * should only be changed through this object, so that the changes are
+	 * recorded.
+	 *
+	 * @param unitID the ID of the unit.
+	 *
+	 * @return the <CODE>Unit</CODE>, or null if there isn't one with that ID.
+	 */
+
+	public Unit unit(int unitID)
+	{
+		Stack stack = _units.get(unitID);
+
+		return (null == stack) ? null : stack.unit();
+	}
+
+	/**
+	 * Return the group with the specified ID, which contains the stacks of
+	 * the units added to it as sub-stacks.
+	 *
+	 * @param groupID the ID of the group.
+	 *
+	 * @return the <CODE>Stack</CODE>, or null if a unit has not been added to a group
+	 * with that ID.
+	 */
+
+	public Stack group(int groupID)
+	{
+		return _groups.get(groupID);
+	}
+
+	/**
+	 * Return the sequence number of the last event recorded, which is the
+	 * total number of events recorded since the log was created.
+	 *
+	 * @return the sequence number.
+	 */
+
+	public long sequence()
+	{
+		return _sequence;
+	}
+
+	// Update methods
+
+	/**
+	 * Add a unit to the game.
+	 *
+	 * @param unitID the ID of the unit, which must be greater than zero.
+	 * @param unit the unit to be added.
+	 *
+	 * @throws NullPointerException in the case of a null unit.
+	 * @throws IllegalArgumentException in the case of an ID that is not
+	 * greater than zero or is already in use.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public void addUnit(int unitID,Unit unit) throws IOException
+	{
+		String METHOD_NAME = "addUnit";
+
+		if (null == unit)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if ((unitID < 1) || _units.containsKey(unitID))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + unitID));
+		}
+
+		byte[] data = Serialization.encode(unit);
+
+		applyAddUnit(unitID,Serialization.decode(data,Unit.BINARY_DECODER));
+
+		startEvent(UNIT_ADDED);
+
+		_events.writeInt(unitID);
+		_events.writeInt(data.length);
+		_events.write(data);
+
+		endEvent();
+	}
+
+	/**
+	 * Set a state of the unit with the specified ID.
+	 *
+	 * @param unitID the ID of the unit.
+	 * @param state the state to be set.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating whether or not the status of the unit
+	 * was changed (see <A HREF="../../counters/Status.html#setStatus(jasl.counters.Status.States)">Status.setStatus()</A>). An event is only
+	 * recorded if it was.
+	 *
+	 * @throws NullPointerException in the case of a null state.
+	 * @throws IllegalArgumentException in the case of an ID that does not
+	 * identify a unit with a status.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public boolean setStatus(int unitID,Status.States state) throws IOException
+	{
+		return changeStatus("setStatus",STATUS_SET,unitID,state);
+	}
+
+	/**
+	 * Clear a state of the unit with the specified ID.
+	 *
+	 * @param unitID the ID of the unit.
+	 * @param state the state to be cleared.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating whether or not the status of the unit
+	 * was changed (see <A HREF="../../counters/Status.html#clearStatus(jasl.counters.Status.States)">Status.clearStatus()</A>). An event is
+	 * only recorded if it was.
+	 *
+	 * @throws NullPointerException in the case of a null state.
+	 * @throws IllegalArgumentException in the case of an ID that does not
+	 * identify a unit with a status.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public boolean clearStatus(int unitID,Status.States state) throws IOException
+	{
+		return changeStatus("clearStatus",STATUS_CLEARED,unitID,state);
+	}
+
+	/**
+	 * Set the portage level of the unit with the specified ID.
+	 *
+	 * @param unitID the ID of the unit.
+	 * @param portageLevel the new portage level.
+	 *
+	 * @throws IllegalArgumentException in the case of an ID that does not
+	 * identify a unit with a portage level, or an invalid level (see
+	 * <A HREF="../../counters/Mobility.html#setPortageLevel(int)">Mobility.setPortageLevel()</A>).
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public void setPortageLevel(int unitID,int portageLevel) throws IOException
+	{
+		Unit unit = unit(unitID);
+
+		if (!(unit instanceof Mobility))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "setPortageLevel",
+			                                                              Messages.INVALID_PARAMETER_MSG + unitID));
+		}
+
+		((Mobility)unit).setPortageLevel(portageLevel);
+
+		startEvent(PORTAGE_LEVEL_SET);
+
+		_events.writeInt(unitID);
+		_events.writeInt(portageLevel);
+
+		endEvent();
+	}
+
+	/**
+	 * Add the unit with the specified ID to a group, creating the group if
+	 * it does not exist. A unit can only be in one group at a time.
+	 *
+	 * @param groupID the ID of the group.
+	 * @param unitID the ID of the unit.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating whether or not the unit was added. It
+	 * is false if the unit is already in a group. An event is only recorded
+	 * if it was added.
+	 *
+	 * @throws IllegalArgumentException in the case of an ID that does not
+	 * identify a unit.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public boolean addSubStack(int groupID,int unitID) throws IOException
+	{
+		checkUnitID("addSubStack",unitID);
+
+		if (!applyAddSubStack(groupID,unitID))
+		{
+			return false;
+		}
+
+		startEvent(SUB_STACK_ADDED);
+
+		_events.writeInt(groupID);
+		_events.writeInt(unitID);
+
+		endEvent();
+
+		return true;
+	}
+
+	/**
+	 * Remove the unit with the specified ID from a group. The group is
+	 * removed when it becomes empty.
+	 *
+	 * @param groupID the ID of the group.
+	 * @param unitID the ID of the unit.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating whether or not the unit was removed. It
+	 * is false if the unit is not in the group. An event is only recorded if
+	 * it was removed.
+	 *
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public boolean takeSubStack(int groupID,int unitID) throws IOException
+	{
+		if (!applyTakeSubStack(groupID,unitID))
+		{
+			return false;
+		}
+
+		startEvent(SUB_STACK_TAKEN);
+
+		_events.writeInt(groupID);
+		_events.writeInt(unitID);
+
+		endEvent();
+
+		return true;
+	}
+
+	/**
+	 * Add a player to one side of the game (see <A HREF="Game.html">Game</A>.addPlayer()).
+	 *
+	 * @param side the side of the player.
+	 * @param name the name of the player.
+	 * @param nationality the nationality of the player.
+	 * @param entryTurn the turn that the player enters the game.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating whether or not the player was added. An
+	 * event is only recorded if it was.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public boolean addPlayer(Side.Sides side,String name,
+	                         Nationality.Nationalities nationality,
+	                         int entryTurn) throws IOException
+	{
+		if ((null == side) || (null == name) || (null == nationality))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "addPlayer",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (!_game.addPlayer(side,name,nationality,entryTurn))
+		{
+			return false;
+		}
+
+		startEvent(PLAYER_ADDED);
+
+		_events.writeByte(side.ordinal());
+		_events.writeUTF(name);
+		_events.writeByte(nationality.ordinal());
+		_events.writeInt(entryTurn);
+
+		endEvent();
+
+		return true;
+	}
+
+	/**
+	 * Set the side that moves first (see <A HREF="Game.html">Game</A>.setStartingSide()).
+	 *
+	 * @param side the starting side.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public void setStartingSide(Side.Sides side) throws IOException
+	{
+		if (null == side)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "setStartingSide",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_game.setStartingSide(side);
+
+		startEvent(STARTING_SIDE_SET);
+
+		_events.writeByte(side.ordinal());
+
+		endEvent();
+	}
+
+	/**
+	 * Indicate that the setup of the game is complete (see
+	 * <A HREF="Game.html">Game</A>.setSetupComplete()).
+	 *
+	 * @throws IOException in the case of an error writing the event.
+	 */
+
+	public void setSetupComplete() throws IOException
+	{
+		_game.setSetupComplete();
+
+		startEvent(SETUP_COMPLETED);
+		endEvent();
+	}
+
+	/**
+	 * Write a snapshot of the entire state, replacing the previous one, and
+	 * start the event file again. This is done automatically after the
+	 * number of events specified when the log was constructed.
+	 * <P>
+	 * The snapshot is written to a temporary file that then replaces the
+	 * previous one, so the log can always be recovered, whenever the
+	 * program is terminated.
+	 *
+	 * @throws IOException in the case of an error writing the files.
+	 */
+
+	public void snapshot() throws IOException
+	{
+		File temporaryFile = new File(_snapshotFile.getPath() + ".tmp");
+
+		DataOutputStream output =
+			new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)));
+
+		try
+		{
+			writeSnapshot(output);
+		}
+
+		finally
+		{
+			output.close();
+		}
+
+		Files.move(temporaryFile.toPath(),_snapshotFile.toPath(),
+		           StandardCopyOption.REPLACE_EXISTING,
+		           StandardCopyOption.ATOMIC_MOVE);
+
+		_snapshotSequence = _sequence;
+
+		// The events written so far are included in the snapshot, so the
+		// file can be started again. If this is interrupted, they will be
+		// skipped when they are replayed.
+
+		_events.close();
+
+		_events = openEvents(false);
+	}
+
+	/**
+	 * Close the event file. The log cannot be changed after it is closed.
+	 *
+	 * @throws IOException in the case of an error closing the file.
+	 */
+
+	public void close() throws IOException
+	{
+		_events.close();
+	}
+
+	// Private methods
+
+	// Check the ID of a unit, then change its status and record the event
+	// if it was changed.
+
+	private boolean changeStatus(String methodName,int eventType,int unitID,
+	                             Status.States state) throws IOException
+	{
+		if (null == state)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		Unit unit = unit(unitID);
+
+		if (!(unit instanceof Status))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + unitID));
+		}
+
+		boolean changed = (STATUS_SET == eventType) ? ((Status)unit).setStatus(state) :
+		                                              ((Status)unit).clearStatus(state);
+
+		if (changed)
+		{
+			startEvent(eventType);
+
+			_events.writeInt(unitID);
+			_events.writeByte(state.ordinal());
+
+			endEvent();
+		}
+
+		return changed;
+	}
+
+	// Throw an exception if the specified ID does not identify a unit.
+
+	private void checkUnitID(String methodName,int unitID)
+	{
+		if (!_units.containsKey(unitID))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + unitID));
+		}
+	}
+
+	// The following methods change the state, and are used both when a
+	// change is made and when the events are replayed.
+
+	private void applyAddUnit(int unitID,Unit unit)
+	{
+		_units.put(unitID,new Stack(unit,unitID,unitID));
+	}
+
+	private boolean applyAddSubStack(int groupID,int unitID)
+	{
+		if (_unitGroups.containsKey(unitID))
+		{
+			return false;
+		}
+
+		Stack stack = _units.get(unitID);
+		Stack group = _groups.get(groupID);
+
+		if (null == group)
+		{
+			_groups.put(groupID,new Stack(stack));
+		}
+
+		else if (!group.addSubStack(stack))
+		{
+			return false;
+		}
+
+		_unitGroups.put(unitID,groupID);
+
+		return true;
+	}
+
+	private boolean applyTakeSubStack(int groupID,int unitID)
+	{
+		// Make sure that the unit is in the group before anything is
+		// changed.
+
+		Stack group = _groups.get(groupID);
+
+		if (null == group)
+		{
+			return false;
+		}
+
+		Map<Integer,Stack> subStacks = group.subStacks();
+
+		if ((null == subStacks) || !subStacks.containsKey(unitID))
+		{
+			return false;
+		}
+
+		group.takeSubStack(unitID);
+
+		_unitGroups.remove(unitID);
+
+		// A group without any sub-stacks returns null (rather than an
+		// empty map), and is no longer needed.
+
+		if (null == group.subStacks())
+		{
+			_groups.remove(groupID);
+		}
+
+		return true;
+	}
+
+	// Start writing an event of the specified type.
+
+	private void startEvent(int eventType) throws IOException
+	{
+		_events.writeLong(++_sequence);
+		_events.writeByte(eventType);
+	}
+
+	// Finish writing an event, passing it to the operating system, and
+	// write a snapshot if the interval has been reached.
+
+	private void endEvent() throws IOException
+	{
+		_events.flush();
+
+		if ((_snapshotInterval > 0) &&
+		    ((_sequence - _snapshotSequence) >= _snapshotInterval))
+		{
+			snapshot();
+		}
+	}
+
+	// Open the event file, either adding to or replacing its contents.
+
+	private DataOutputStream openEvents(boolean append) throws IOException
+	{
+		return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(_eventFile,append)));
+	}
+
+	// Write the entire state to the specified stream.
+
+	private void writeSnapshot(DataOutputStream output) throws IOException
+	{
+		output.writeInt(SNAPSHOT_ID);
+		output.writeShort(SNAPSHOT_VERSION);
+		output.writeLong(_sequence);
+
+		// Units
+
+		output.writeInt(_units.size());
+
+		for (Map.Entry<Integer,Stack> entry : _units.entrySet())
+		{
+			byte[] data = Serialization.encode(entry.getValue().unit());
+
+			output.writeInt(entry.getKey().intValue());
+			output.writeInt(data.length);
+			output.write(data);
+		}
+
+		// Groups
+
+		output.writeInt(_groups.size());
+
+		for (Map.Entry<Integer,Stack> entry : _groups.entrySet())
+		{
+			Map<Integer,Stack> subStacks = entry.getValue().subStacks();
+
+			output.writeInt(entry.getKey().intValue());
+			output.writeInt(subStacks.size());
+
+			for (Integer unitID : subStacks.keySet())
+			{
+				output.writeInt(unitID.intValue());
+			}
+		}
+
+		// Game
+
+		output.writeByte(_game.activeSide().ordinal());
+		output.writeBoolean(_game.setupComplete());
+
+		for (Side.Sides side : Side.Sides.values())
+		{
+			List<String> players = _game.playerList(side);
+
+			output.writeInt(players.size());
+
+			for (String name : players)
+			{
+				Player player = _game.player(side,name);
+
+				output.writeUTF(name);
+				output.writeByte(nationality(player.nationality()).ordinal());
+				output.writeInt(player.entryTurn());
+			}
+		}
+	}
+
+	// Restore the state from the snapshot file.
+
+	private void readSnapshot() throws IOException
+	{
+		DataInputStream input =
+			new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(_snapshotFile.toPath())));
+
+		if ((input.readInt() != SNAPSHOT_ID) || (input.readShort() != SNAPSHOT_VERSION))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              NOT_SNAPSHOT_MSG));
+		}
+
+		_sequence         = input.readLong();
+		_snapshotSequence = _sequence;
+
+		// Units
+
+		for (int i = input.readInt();i > 0;i--)
+		{
+			int unitID = input.readInt();
+
+			applyAddUnit(unitID,readUnit(input));
+		}
+
+		// Groups
+
+		for (int i = input.readInt();i > 0;i--)
+		{
+			int groupID = input.readInt();
+
+			for (int j = input.readInt();j > 0;j--)
+			{
+				applyAddSubStack(groupID,input.readInt());
+			}
+		}
+
+		// Game. The setup is marked as complete last, since the starting
+		// side and players cannot be changed after that.
+
+		Side.Sides activeSide    = Side.Sides.values()[input.readByte()];
+		boolean    setupComplete = input.readBoolean();
+
+		_game.setStartingSide(activeSide);
+
+		for (Side.Sides side : Side.Sides.values())
+		{
+			for (int i = input.readInt();i > 0;i--)
+			{
+				String name = input.readUTF();
+
+				_game.addPlayer(side,name,
+				                Nationality.Nationalities.values()[input.readByte()],
+				                input.readInt());
+			}
+		}
+
+		if (setupComplete)
+		{
+			_game.setSetupComplete();
+		}
+	}
+
+	// Apply the events in the event file that follow the snapshot. The
+	// return value is the length of the file up to the end of the last
+	// complete event.
+
+	private long replayEvents() throws IOException
+	{
+		byte[] data = Files.readAllBytes(_eventFile.toPath());
+
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+
+		long validLength = 0;
+
+		try
+		{
+			while (input.available() > 0)
+			{
+				long sequence  = input.readLong();
+				int  eventType = input.readByte();
+
+				boolean apply = sequence > _snapshotSequence;
+
+				switch (eventType)
+				{
+					case UNIT_ADDED:
+					{
+						int  unitID = input.readInt();
+						Unit unit   = readUnit(input);
+
+						if (apply) applyAddUnit(unitID,unit);
+
+						break;
+					}
+
+					case STATUS_SET:
+					case STATUS_CLEARED:
+					{
+						Unit          unit  = unit(input.readInt());
+						Status.States state = Status.States.values()[input.readByte()];
+
+						if (apply)
+						{
+							if (STATUS_SET == eventType)
+							{
+								((Status)unit).setStatus(state);
+							}
+
+							else
+							{
+								((Status)unit).clearStatus(state);
+							}
+						}
+
+						break;
+					}
+
+					case PORTAGE_LEVEL_SET:
+					{
+						Unit unit         = unit(input.readInt());
+						int  portageLevel = input.readInt();
+
+						if (apply) ((Mobility)unit).setPortageLevel(portageLevel);
+
+						break;
+					}
+
+					case SUB_STACK_ADDED:
+					case SUB_STACK_TAKEN:
+					{
+						int groupID = input.readInt();
+						int unitID  = input.readInt();
+
+						if (apply)
+						{
+							if (SUB_STACK_ADDED == eventType)
+							{
+								applyAddSubStack(groupID,unitID);
+							}
+
+							else
+							{
+								applyTakeSubStack(groupID,unitID);
+							}
+						}
+
+						break;
+					}
+
+					case PLAYER_ADDED:
+					{
+						Side.Sides side        = Side.Sides.values()[input.readByte()];
+						String     name        = input.readUTF();
+						int        nationality = input.readByte();
+						int        entryTurn   = input.readInt();
+
+						if (apply)
+						{
+							_game.addPlayer(side,name,
+							                Nationality.Nationalities.values()[nationality],
+							                entryTurn);
+						}
+
+						break;
+					}
+
+					case STARTING_SIDE_SET:
+					{
+						Side.Sides side = Side.Sides.values()[input.readByte()];
+
+						if (apply) _game.setStartingSide(side);
+
+						break;
+					}
+
+					case SETUP_COMPLETED:
+					{
+						if (apply) _game.setSetupComplete();
+
+						break;
+					}
+
+					default:
+					{
+						// The rest of the file cannot be interpreted,
+						// so treat it as a partial event.
+
+						return validLength;
+					}
+				}
+
+				if (apply) _sequence = sequence;
+
+				validLength = data.length - input.available();
+			}
+		}
+
+		catch (EOFException exception)
+		{
+			// The last event was only partially written, so it is
+			// discarded.
+		}
+
+		return validLength;
+	}
+
+	// Read an encoded unit, preceded by its length, from the specified
+	// stream.
+
+	private static Unit readUnit(DataInputStream input) throws IOException
+	{
+		byte[] data = new byte[input.readInt()];
+
+		input.readFully(data);
+
+		return Serialization.decode(data,Unit.BINARY_DECODER);
+	}
+
+	// Return the nationality with the specified label.
+
+	private static Nationality.Nationalities nationality(String label)
+	{
+		for (Nationality.Nationalities nationality : Nationality.Nationalities.values())
+		{
+			if (nationality.toString().equals(label)) return nationality;
+		}
+
+		throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+		                                                              "nationality",
+		                                                              Messages.INVALID_PARAMETER_MSG + label));
+	}
+}
@@ -0,0 +1,200 @@
+// ************************************************************************** //
+// GameSession.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to hold a number of independent <A HREF="Game.html">Game</A>s, each of which
+ * is identified by a unique name (e.g. the ID of a network session).
+ * <P>
+ * The games are stored in a concurrent hash table, so they can be created,
+ * found and removed by multiple threads at the same time, in constant time
+ * and without blocking each other. Each game has its own sides and players,
+ * and nothing is shared between them, including with other instances of this
+ * class.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/GameSession.html">Source code</A>
+ */
+
+public final class GameSession
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = GameSession.class.getSimpleName();
+
+	// Private data members
+
+	// The games, keyed by their IDs.
+
+	private final ConcurrentHashMap<String,Game> _games = new ConcurrentHashMap<String,Game>();
+
+	// Constructor
+
+	/**
+	 * Construct a new (empty) <CODE>GameSession</CODE>.
+	 */
+
+	public GameSession()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the game with the specified ID.
+	 *
+	 * @param id the ID of the game.
+	 *
+	 * @return the <CODE>Game</CODE>, or null if there isn't one with that ID.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public Game game(String id)
+	{
+		checkID("game",id);
+
+		return _games.get(id);
+	}
+
+	/**
+	 * Return the number of games.
+	 *
+	 * @return the number of games currently held.
+	 */
+
+	public int size()
+	{
+		return _games.size();
+	}
+
+	/**
+	 * Return the IDs of the games.
+	 *
+	 * @return a <CODE>Set</CODE> of the IDs, which reflects the games that are created and
+	 * removed after it is returned. It cannot be changed.
+	 */
+
+	public Set<String> ids()
+	{
+		return Collections.unmodifiableSet(_games.keySet());
+	}
+
+	// Update methods
+
+	/**
+	 * Create a new game with the specified ID.
+	 *
+	 * @param id the ID of the game.
+	 *
+	 * @return the new <CODE>Game</CODE>.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of an ID that is already
+	 * in use.
+	 */
+
+	public Game create(String id)
+	{
+		String METHOD_NAME = "create";
+
+		checkID(METHOD_NAME,id);
+
+		Game game = new Game();
+
+		if (null != _games.putIfAbsent(id,game))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + id));
+		}
+
+		return game;
+	}
+
+	/**
+	 * Return the game with the specified ID, creating it if there isn't one.
+	 * If multiple threads do this at the same time for the same ID, they all
+	 * receive the same game.
+	 *
+	 * @param id the ID of the game.
+	 *
+	 * @return the existing or new <CODE>Game</CODE>.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public Game open(String id)
+	{
+		checkID("open",id);
+
+		Game game = _games.get(id);
+
+		if (null == game)
+		{
+			Game newGame = new Game();
+
+			game = _games.putIfAbsent(id,newGame);
+
+			if (null == game)
+			{
+				game = newGame;
+			}
+		}
+
+		return game;
+	}
+
+	/**
+	 * Remove the game with the specified ID.
+	 *
+	 * @param id the ID of the game.
+	 *
+	 * @return the <CODE>Game</CODE> that was removed, or null if there wasn't one with
+	 * that ID.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public Game evict(String id)
+	{
+		checkID("evict",id);
+
+		return _games.remove(id);
+	}
+
+	// Private methods
+
+	// Throw an exception if the specified ID is null.
+
+	private static void checkID(String methodName,String id)
+	{
+		if (null == id)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+	}
+}
@@ -0,0 +1,201 @@
+// ************************************************************************** //
+// HexGeometry.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class provides the calculations shared by <A HREF="HexGrid.html">HexGrid</A>, <A HREF="HexMap.html">HexMap</A> and
+ * <A HREF="LineOfSight.html">LineOfSight</A> for the hexes of a playing area with the specified number
+ * of columns and rows. Each hex is identified by an index of
+ * (column * rows) + row, so that it can be stored at a fixed location in an
+ * array.
+ * <P>
+ * The calculations are done using axial coordinates, in which the column is
+ * unchanged and the row is adjusted so that it follows a straight line
+ * through the hexes, removing the offset between the columns. The odd
+ * numbered columns are shifted down by half a hex relative to the even
+ * numbered ones.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/HexGeometry.html">Source code</A>
+ */
+
+final class HexGeometry
+{
+	// Symbolic constants
+
+	// The amounts that the points on a line are moved by, in the axial
+	// coordinates, so that they never fall exactly on a hexside.
+
+	private static final double LINE_OFFSET_Q = 1.0E-6;
+	private static final double LINE_OFFSET_R = 2.0E-6;
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private HexGeometry()
+	{
+	}
+
+	// Package access methods
+
+	// Throw an exception if the specified position is null or is not a hex
+	// in an area with the specified dimensions. The class and method names
+	// are those of the caller, for use in the error message.
+
+	static void checkPosition(String className,String methodName,
+	                          Position position,int columns,int rows)
+	{
+		if (null == position)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(className,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (!position.hasHex() || (position.column() >= columns) ||
+		    (position.row() >= rows))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(className,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + position));
+		}
+	}
+
+	// Throw an exception if the specified dimensions are less than 1, or the
+	// number of hexes cannot be indexed by an int.
+
+	static void checkDimensions(String className,int columns,int rows)
+	{
+		if ((columns < 1) || (rows < 1) || (((long)columns * rows) > Integer.MAX_VALUE))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(className,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              columns + Messages.AND_SEPARATOR + rows));
+		}
+	}
+
+	// Return the distance between two hexes, specified by their column and
+	// row.
+
+	static int distance(int fromColumn,int fromRow,int toColumn,int toRow)
+	{
+		int columnOffset = toColumn - fromColumn;
+		int rowOffset    = axialRow(toColumn,toRow) - axialRow(fromColumn,fromRow);
+
+		return (Math.abs(columnOffset) + Math.abs(rowOffset) +
+		        Math.abs(columnOffset + rowOffset)) / 2;
+	}
+
+	// Convert a row to and from axial coordinates.
+
+	static int axialRow(int column,int row)
+	{
+		return row - ((column - (column & 1)) / 2);
+	}
+
+	static int offsetRow(int column,int axialRow)
+	{
+		return axialRow + ((column - (column & 1)) / 2);
+	}
+
+	// Store the index of each hex along a line between the centers of two
+	// hexes, including their own, in the specified array, which must have at
+	// least distance + 1 elements.
+	//
+	// Where the line runs exactly along the side of two hexes, it is moved
+	// very slightly to one side, which is selected by the sign of the
+	// specified side (the same side is always used for the same sign). If
+	// the hex on that side is outside the area, which can only happen along
+	// its edge, the other one is used.
+
+	static void line(int fromColumn,int fromRow,int toColumn,int toRow,
+	                 int columns,int rows,int side,int[] hexes)
+	{
+		int steps = distance(fromColumn,fromRow,toColumn,toRow);
+
+		double offsetQ = (side < 0) ? -LINE_OFFSET_Q : LINE_OFFSET_Q;
+		double offsetR = (side < 0) ? -LINE_OFFSET_R : LINE_OFFSET_R;
+
+		// Convert each end of the line to axial coordinates, and find the
+		// hex containing each point at equal intervals between them.
+
+		double fromQ = fromColumn;
+		double fromR = axialRow(fromColumn,fromRow);
+		double toQ   = toColumn;
+		double toR   = axialRow(toColumn,toRow);
+
+		for (int i = 0;i <= steps;i++)
+		{
+			double fraction = (0 == steps) ? 0.0 : ((double)i / steps);
+
+			double q = fromQ + ((toQ - fromQ) * fraction);
+			double r = fromR + ((toR - fromR) * fraction);
+
+			int index = hexIndex(q + offsetQ,r + offsetR,columns,rows);
+
+			if (index < 0)
+			{
+				index = hexIndex(q - offsetQ,r - offsetR,columns,rows);
+			}
+
+			hexes[i] = index;
+		}
+	}
+
+	// Private methods
+
+	// Return the index of the hex containing the point with the specified
+	// axial coordinates, or -1 if it is outside the area.
+
+	private static int hexIndex(double q,double r,int columns,int rows)
+	{
+		// Round the cube coordinates of the point to those of the
+		// nearest hex. The one with the largest change is derived from
+		// the other two, since they must add up to zero.
+
+		double s = -q - r;
+
+		long hexQ = Math.round(q);
+		long hexR = Math.round(r);
+		long hexS = Math.round(s);
+
+		double changeQ = Math.abs(hexQ - q);
+		double changeR = Math.abs(hexR - r);
+		double changeS = Math.abs(hexS - s);
+
+		if ((changeQ > changeR) && (changeQ > changeS))
+		{
+			hexQ = -hexR - hexS;
+		}
+
+		else if (changeR > changeS)
+		{
+			hexR = -hexQ - hexS;
+		}
+
+		if ((hexQ < 0) || (hexQ >= columns))
+		{
+			return -1;
+		}
+
+		int row = offsetRow((int)hexQ,(int)hexR);
+
+		return ((row < 0) || (row >= rows)) ? -1 : (((int)hexQ * rows) + row);
+	}
+}
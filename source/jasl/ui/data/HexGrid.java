@@ -0,0 +1,498 @@
+// ************************************************************************** //
+// HexGrid.java - This class is a member of the <B>ui.data</B> package, which        //
+//                contains the class definitions and implementations for      //
+//                objects used to store and manage the state of an instance   //
+//                of jASL.                                                    //
+//                                                                            //
+//                NOTE: This program is based on Advanced Squad Leader, which //
+//                      was created by The Avalon Hill Game Company, and      //
+//                      lives on at Multi-Man Publishing.                     //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to index the <A HREF="Stack.html">Stack</A>s on the playing area by the hex they
+ * occupy, as specified by the column and row of a <A HREF="Position.html">Position</A>.
+ * <P>
+ * Each hex is stored at a fixed location in an array, so finding the stacks
+ * in a hex takes constant time. The queries for the stacks within a distance
+ * of a hex or along a line between two hexes only examine the hexes in the
+ * specified area (or the occupied hexes, if there are fewer of them), so
+ * their cost depends on the size of the area and the number of stacks found,
+ * not the size of the grid.
+ * <P>
+ * The distance between two hexes is the number of hexes that must be entered
+ * to move from one to the other, so adjacent hexes are a distance of 1 apart.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/HexGrid.html">Source code</A>
+ */
+
+public final class HexGrid
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = HexGrid.class.getSimpleName();
+
+	// Private data members
+
+	// The dimensions of the grid.
+
+	private final int _columns;
+	private final int _rows;
+
+	// The stacks in each hex, indexed by (column * rows) + row. The list
+	// for a hex is not allocated until a stack is placed in it, and is
+	// removed when it becomes empty.
+
+	private final ArrayList<ArrayList<Stack>> _hexes;
+
+	// The index of each hex that contains at least one stack, and the
+	// location of each of those entries in this list plus one (zero if the
+	// hex is empty), so that a hex can be removed from it in constant time.
+
+	private final int[] _occupiedHexes;
+	private final int[] _occupiedLocation;
+
+	private int _occupiedCount = 0;
+
+	// The total number of stacks in the grid.
+
+	private int _size = 0;
+
+	// Constructor
+
+	/**
+	 * Construct a new (empty) <CODE>HexGrid</CODE>.
+	 *
+	 * @param columns the number of columns. Example - <B>33</B>
+	 * @param rows the number of rows. Example - <B>11</B>
+	 *
+	 * @throws IllegalArgumentException in the case of a dimension that is
+	 * less than 1.
+	 */
+
+	public HexGrid(int columns,int rows)
+	{
+		HexGeometry.checkDimensions(CLASS_NAME,columns,rows);
+
+		_columns = columns;
+		_rows    = rows;
+
+		int hexes = columns * rows;
+
+		_hexes = new ArrayList<ArrayList<Stack>>(hexes);
+
+		for (int i = 0;i < hexes;i++)
+		{
+			_hexes.add(null);
+		}
+
+		_occupiedHexes    = new int[hexes];
+		_occupiedLocation = new int[hexes];
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the number of columns in the grid.
+	 *
+	 * @return the number of columns.
+	 */
+
+	public int columns()
+	{
+		return _columns;
+	}
+
+	/**
+	 * Return the number of rows in the grid.
+	 *
+	 * @return the number of rows.
+	 */
+
+	public int rows()
+	{
+		return _rows;
+	}
+
+	/**
+	 * Return the total number of stacks in the grid.
+	 *
+	 * @return the number of stacks.
+	 */
+
+	public int size()
+	{
+		return _size;
+	}
+
+	/**
+	 * Return the number of hexes between two positions.
+	 *
+	 * @param from the first position.
+	 * @param to the second position.
+	 *
+	 * @return the distance, which is zero if the positions are in the same hex.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public int distance(Position from,Position to)
+	{
+		checkPosition("distance",from);
+		checkPosition("distance",to);
+
+		return HexGeometry.distance(from.column(),from.row(),to.column(),to.row());
+	}
+
+	/**
+	 * Return the stacks in the hex at the specified position.
+	 *
+	 * @param position the position of the hex.
+	 *
+	 * @return a <CODE>List</CODE> of the stacks in the order they were placed in the hex.
+	 * It is empty if there are none.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public List<Stack> at(Position position)
+	{
+		checkPosition("at",position);
+
+		ArrayList<Stack> stacks = new ArrayList<Stack>();
+
+		addStacks(index(position.column(),position.row()),stacks);
+
+		return stacks;
+	}
+
+	/**
+	 * Return the stacks within the specified distance of a position,
+	 * including those in its hex.
+	 *
+	 * @param position the position at the center of the area.
+	 * @param distance the maximum number of hexes from the center.
+	 *
+	 * @return a <CODE>List</CODE> of the stacks in the area, which is empty if there are
+	 * none. The stacks in each hex are kept together, in the order they
+	 * were placed in it, but the order of the hexes is not specified.
+	 *
+	 * @throws NullPointerException in the case of a null position.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid or a negative distance.
+	 */
+
+	public List<Stack> within(Position position,int distance)
+	{
+		String METHOD_NAME = "within";
+
+		checkPosition(METHOD_NAME,position);
+
+		if (distance < 0)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + distance));
+		}
+
+		ArrayList<Stack> stacks = new ArrayList<Stack>();
+
+		int column = position.column();
+		int row    = position.row();
+
+		// Limit the distance to the size of the grid, which is the
+		// furthest that any hex can be from another one.
+
+		long maximumDistance = (long)_columns + _rows;
+
+		if (distance > maximumDistance)
+		{
+			distance = (int)maximumDistance;
+		}
+
+		// The area contains 3d(d + 1) + 1 hexes. If there are fewer
+		// occupied hexes than that, check each of them instead.
+
+		long hexesInArea = (3L * distance * (distance + 1)) + 1;
+
+		if (_occupiedCount < hexesInArea)
+		{
+			for (int i = 0;i < _occupiedCount;i++)
+			{
+				int index = _occupiedHexes[i];
+
+				if (HexGeometry.distance(column,row,index / _rows,index % _rows) <= distance)
+				{
+					addStacks(index,stacks);
+				}
+			}
+
+			return stacks;
+		}
+
+		// Otherwise, check each column in the area, in which the hexes
+		// within the distance form a single range of rows.
+
+		int axialRow = HexGeometry.axialRow(column,row);
+
+		int firstColumn = Math.max(column - distance,0);
+		int lastColumn  = Math.min(column + distance,_columns - 1);
+
+		for (int c = firstColumn;c <= lastColumn;c++)
+		{
+			int columnOffset = c - column;
+
+			int top    = HexGeometry.offsetRow(c,axialRow + Math.max(-distance,-columnOffset - distance));
+			int bottom = HexGeometry.offsetRow(c,axialRow + Math.min(distance,-columnOffset + distance));
+
+			for (int r = Math.max(top,0);r <= Math.min(bottom,_rows - 1);r++)
+			{
+				addStacks(index(c,r),stacks);
+			}
+		}
+
+		return stacks;
+	}
+
+	/**
+	 * Return the stacks in the hexes along a line between the centers of
+	 * two positions, including their own hexes.
+	 * <P>
+	 * Where the line runs exactly along the side of two hexes, the same one
+	 * of them is always used, as if the line was moved very slightly to one
+	 * side, unless it is outside the grid.
+	 *
+	 * @param from the position at the start of the line.
+	 * @param to the position at the end of the line.
+	 *
+	 * @return a <CODE>List</CODE> of the stacks along the line, in the order of the hexes
+	 * from the start of the line. It is empty if there are none.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public List<Stack> along(Position from,Position to)
+	{
+		checkPosition("along",from);
+		checkPosition("along",to);
+
+		ArrayList<Stack> stacks = new ArrayList<Stack>();
+
+		if (0 == _size) return stacks;
+
+		int[] hexes = new int[HexGeometry.distance(from.column(),from.row(),
+		                                           to.column(),to.row()) + 1];
+
+		HexGeometry.line(from.column(),from.row(),to.column(),to.row(),
+		                 _columns,_rows,1,hexes);
+
+		for (int index : hexes)
+		{
+			addStacks(index,stacks);
+		}
+
+		return stacks;
+	}
+
+	// Update methods
+
+	/**
+	 * Place a stack in the hex at the specified position, after any that are
+	 * already there. The position label of the stack is set to that of the
+	 * position.
+	 *
+	 * @param position the position of the hex.
+	 * @param stack the stack to be placed in it.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public void put(Position position,Stack stack)
+	{
+		String METHOD_NAME = "put";
+
+		checkPosition(METHOD_NAME,position);
+
+		if (null == stack)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		int index = index(position.column(),position.row());
+
+		ArrayList<Stack> stacks = _hexes.get(index);
+
+		if (null == stacks)
+		{
+			stacks = new ArrayList<Stack>(2);
+
+			_hexes.set(index,stacks);
+
+			_occupiedHexes[_occupiedCount] = index;
+			_occupiedLocation[index]       = ++_occupiedCount;
+		}
+
+		stacks.add(stack);
+
+		stack.setPositionLabel(position.toString());
+
+		_size++;
+	}
+
+	/**
+	 * Remove a stack from the hex at the specified position.
+	 *
+	 * @param position the position of the hex.
+	 * @param stack the stack to be removed from it.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the stack was found in the hex.
+	 *
+	 * @throws NullPointerException in the case of a null position.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public boolean remove(Position position,Stack stack)
+	{
+		checkPosition("remove",position);
+
+		int index = index(position.column(),position.row());
+
+		ArrayList<Stack> stacks = _hexes.get(index);
+
+		if ((null == stacks) || !removeStack(stacks,stack))
+		{
+			return false;
+		}
+
+		_size--;
+
+		// When the hex is empty, replace its entry in the list of
+		// occupied hexes with the last one.
+
+		if (stacks.isEmpty())
+		{
+			_hexes.set(index,null);
+
+			int location = _occupiedLocation[index] - 1;
+			int last     = _occupiedHexes[--_occupiedCount];
+
+			_occupiedHexes[location] = last;
+			_occupiedLocation[last]  = location + 1;
+			_occupiedLocation[index] = 0;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Move a stack from one hex to another, placing it after any that are
+	 * already in its new hex.
+	 *
+	 * @param stack the stack to be moved.
+	 * @param from the position of the hex that it is in.
+	 * @param to the position of the hex that it is moved to.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the stack was found in the first hex
+	 * (and therefore moved).
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the grid.
+	 */
+
+	public boolean move(Stack stack,Position from,Position to)
+	{
+		String METHOD_NAME = "move";
+
+		if (null == stack)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		checkPosition(METHOD_NAME,from);
+		checkPosition(METHOD_NAME,to);
+
+		if (!remove(from,stack))
+		{
+			return false;
+		}
+
+		put(to,stack);
+
+		return true;
+	}
+
+	// Private methods
+
+	// Throw an exception if the specified position is null or is not a hex
+	// in the grid.
+
+	private void checkPosition(String methodName,Position position)
+	{
+		HexGeometry.checkPosition(CLASS_NAME,methodName,position,_columns,_rows);
+	}
+
+	// Return the index of the hex with the specified column and row.
+
+	private int index(int column,int row)
+	{
+		return (column * _rows) + row;
+	}
+
+	// Add the stacks in the hex with the specified index to the list.
+
+	private void addStacks(int index,ArrayList<Stack> stacks)
+	{
+		ArrayList<Stack> hexStacks = _hexes.get(index);
+
+		if (null != hexStacks)
+		{
+			stacks.addAll(hexStacks);
+		}
+	}
+
+	// Remove the specified stack (the same instance, rather than one that
+	// is equal to it) from the list.
+
+	private static boolean removeStack(ArrayList<Stack> stacks,Stack stack)
+	{
+		for (int i = 0;i < stacks.size();i++)
+		{
+			if (stacks.get(i) == stack)
+			{
+				stacks.remove(i);
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
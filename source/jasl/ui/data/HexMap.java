@@ -0,0 +1,176 @@
+// ************************************************************************** //
+// HexMap.java - This class is a member of the <B>ui.data</B> package, which         //
+//               contains the class definitions and implementations for       //
+//               objects used to store and manage the state of an instance of //
+//               jASL.                                                        //
+//                                                                            //
+//               NOTE: This program is based on Advanced Squad Leader, which  //
+//                     was created by The Avalon Hill Game Company, and lives //
+//                     on at Multi-Man Publishing.                            //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.Arrays;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to store the <A HREF="Terrain.html">terrain</A> in each hex of the playing area,
+ * which is identified by the column and row of a <A HREF="Position.html">Position</A>. Every hex
+ * contains open ground until its terrain is set.
+ * <P>
+ * The map keeps a count of the changes made to it, which is used by
+ * <A HREF="LineOfSight.html">LineOfSight</A> to detect that the results it has stored are no longer
+ * valid.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/HexMap.html">Source code</A>
+ */
+
+public final class HexMap implements Terrain
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = HexMap.class.getSimpleName();
+
+	// Private data members
+
+	// The dimensions of the map.
+
+	private final int _columns;
+	private final int _rows;
+
+	// The terrain in each hex, indexed by (column * rows) + row.
+
+	private final Terrains[] _terrain;
+
+	// Incremented each time the terrain in a hex is changed.
+
+	private int _modificationCount = 0;
+
+	// Constructor
+
+	/**
+	 * Construct a new <CODE>HexMap</CODE>, in which every hex contains open ground.
+	 *
+	 * @param columns the number of columns. Example - <B>33</B>
+	 * @param rows the number of rows. Example - <B>11</B>
+	 *
+	 * @throws IllegalArgumentException in the case of a dimension that is
+	 * less than 1.
+	 */
+
+	public HexMap(int columns,int rows)
+	{
+		HexGeometry.checkDimensions(CLASS_NAME,columns,rows);
+
+		_columns = columns;
+		_rows    = rows;
+
+		_terrain = new Terrains[columns * rows];
+
+		Arrays.fill(_terrain,Terrains.OPEN_GROUND);
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the number of columns in the map.
+	 *
+	 * @return the number of columns.
+	 */
+
+	public int columns()
+	{
+		return _columns;
+	}
+
+	/**
+	 * Return the number of rows in the map.
+	 *
+	 * @return the number of rows.
+	 */
+
+	public int rows()
+	{
+		return _rows;
+	}
+
+	/**
+	 * Return the terrain in the hex at the specified position.
+	 *
+	 * @param position the position of the hex.
+	 *
+	 * @return the <CODE>Terrains</CODE> value for the hex.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the map.
+	 */
+
+	public Terrains terrain(Position position)
+	{
+		HexGeometry.checkPosition(CLASS_NAME,"terrain",position,_columns,_rows);
+
+		return _terrain[(position.column() * _rows) + position.row()];
+	}
+
+	// Update methods
+
+	/**
+	 * Set the terrain in the hex at the specified position.
+	 *
+	 * @param position the position of the hex.
+	 * @param terrain the terrain in the hex.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the map.
+	 */
+
+	public void setTerrain(Position position,Terrains terrain)
+	{
+		String METHOD_NAME = "setTerrain";
+
+		HexGeometry.checkPosition(CLASS_NAME,METHOD_NAME,position,_columns,_rows);
+
+		if (null == terrain)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		int index = (position.column() * _rows) + position.row();
+
+		if (_terrain[index] != terrain)
+		{
+			_terrain[index] = terrain;
+
+			_modificationCount++;
+		}
+	}
+
+	// Package access methods
+
+	// Return the terrain in the hex with the specified index.
+
+	Terrains terrain(int index)
+	{
+		return _terrain[index];
+	}
+
+	// Return the number of times the terrain in a hex has been changed.
+
+	int modificationCount()
+	{
+		return _modificationCount;
+	}
+}
@@ -0,0 +1,337 @@
+// ************************************************************************** //
+// LineOfSight.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to determine the line of sight (LOS) between two hexes
+ * of a <A HREF="HexMap.html">HexMap</A>, based on the <A HREF="Terrain.html">terrain</A> in the hexes between them.
+ * <P>
+ * The LOS is traced between the centers of the hexes. The terrain in the
+ * hexes at either end has no effect on it. An obstacle in any other hex along
+ * the line blocks it, and the hindrances along it are added together, so that
+ * it is blocked if the total reaches <A HREF="#MAXIMUM_HINDRANCE">MAXIMUM_HINDRANCE</A>. Where the line runs
+ * exactly along the side of two hexes, the terrain in both of them is
+ * considered, and the one with the least effect is used. As a result, the
+ * LOS from one hex to another is always the same as the LOS in the other
+ * direction.
+ * <P>
+ * The result for each pair of hexes is stored, so that repeated requests for
+ * the same LOS (which are common during the fire phases) do not have to trace
+ * the line again. The number of results stored is limited, and the least
+ * recently used ones are discarded once the limit is reached. All of the
+ * stored results are discarded when the terrain in any hex of the map is
+ * changed.
+ * <P>
+ * An instance of this class should not be shared by multiple threads without
+ * external synchronization, since each request may change the stored results.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/LineOfSight.html">Source code</A>
+ */
+
+public final class LineOfSight
+{
+	// Symbolic constants
+
+	/**
+	 * The value returned by <A HREF="#hindrance(jasl.ui.data.Position, jasl.ui.data.Position)">hindrance()</A> when the LOS is blocked : <B>-1</B>
+	 */
+
+	public static final int BLOCKED = -1;
+
+	/**
+	 * The total hindrance modifier at which a LOS is blocked : <B>6</B>
+	 */
+
+	public static final int MAXIMUM_HINDRANCE = 6;
+
+	/**
+	 * The number of results stored when a limit is not specified : <B>4096</B>
+	 */
+
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = LineOfSight.class.getSimpleName();
+
+	// Private data members
+
+	// The map that the LOS is determined on.
+
+	private final HexMap _map;
+
+	// The results that have been determined, keyed by the indexes of the
+	// two hexes (see key() below).
+
+	private final ResultCache _results;
+
+	// The modification count of the map when the results were determined.
+
+	private int _mapModificationCount;
+
+	// The hexes along the line being traced, with it moved slightly to each
+	// side. They are only reallocated when a longer line is traced.
+
+	private int[] _hexes      = new int[0];
+	private int[] _otherHexes = new int[0];
+
+	// Constructor(s)
+
+	/**
+	 * Construct a new <CODE>LineOfSight</CODE> for the specified map, storing up to
+	 * <A HREF="#DEFAULT_CAPACITY">DEFAULT_CAPACITY</A> results.
+	 *
+	 * @param map the map that the LOS is determined on.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public LineOfSight(HexMap map)
+	{
+		this(map,DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a new <CODE>LineOfSight</CODE> for the specified map.
+	 *
+	 * @param map the map that the LOS is determined on.
+	 * @param capacity the maximum number of results stored. Example - <B>1024</B>
+	 *
+	 * @throws NullPointerException in the case of a null map.
+	 * @throws IllegalArgumentException in the case of a capacity that is
+	 * less than 1.
+	 */
+
+	public LineOfSight(HexMap map,int capacity)
+	{
+		if (null == map)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (capacity < 1)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG + capacity));
+		}
+
+		_map                  = map;
+		_results              = new ResultCache(capacity);
+		_mapModificationCount = map.modificationCount();
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the map that the LOS is determined on.
+	 *
+	 * @return the <CODE>HexMap</CODE> specified when this object was constructed.
+	 */
+
+	public HexMap map()
+	{
+		return _map;
+	}
+
+	/**
+	 * Return the total hindrance modifier along the LOS between two
+	 * positions.
+	 *
+	 * @param from the position at one end of the LOS.
+	 * @param to the position at the other end of the LOS.
+	 *
+	 * @return the total modifier, which is zero if there are no hindrances,
+	 * or <A HREF="#BLOCKED">BLOCKED</A> if the LOS is blocked.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the map.
+	 */
+
+	public int hindrance(Position from,Position to)
+	{
+		String METHOD_NAME = "hindrance";
+
+		int columns = _map.columns();
+		int rows    = _map.rows();
+
+		HexGeometry.checkPosition(CLASS_NAME,METHOD_NAME,from,columns,rows);
+		HexGeometry.checkPosition(CLASS_NAME,METHOD_NAME,to,columns,rows);
+
+		// Discard the stored results if the terrain has changed since
+		// they were determined.
+
+		if (_map.modificationCount() != _mapModificationCount)
+		{
+			_results.clear();
+
+			_mapModificationCount = _map.modificationCount();
+		}
+
+		// The line is always traced from the hex with the lower index, so
+		// that the result is the same in both directions.
+
+		int fromIndex = (from.column() * rows) + from.row();
+		int toIndex   = (to.column() * rows) + to.row();
+
+		Long key = Long.valueOf((Math.min(fromIndex,toIndex) * (long)columns * rows) +
+		                        Math.max(fromIndex,toIndex));
+
+		Integer result = _results.get(key);
+
+		if (null == result)
+		{
+			result = Integer.valueOf((fromIndex < toIndex) ? trace(from,to) : trace(to,from));
+
+			_results.put(key,result);
+		}
+
+		return result.intValue();
+	}
+
+	/**
+	 * Indicate if there is a clear (although possibly hindered) LOS between
+	 * two positions.
+	 *
+	 * @param from the position at one end of the LOS.
+	 * @param to the position at the other end of the LOS.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the LOS is not blocked.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a position that is
+	 * not in the map.
+	 */
+
+	public boolean isClear(Position from,Position to)
+	{
+		return BLOCKED != hindrance(from,to);
+	}
+
+	/**
+	 * Return the number of results currently stored.
+	 *
+	 * @return the number of results, which does not exceed the capacity
+	 * specified when this object was constructed.
+	 */
+
+	public int resultsStored()
+	{
+		return _results.size();
+	}
+
+	// Update methods
+
+	/**
+	 * Discard all of the stored results. This is not necessary when the
+	 * terrain is changed through the map, since that is detected
+	 * automatically.
+	 */
+
+	public void clear()
+	{
+		_results.clear();
+	}
+
+	// Private methods
+
+	// Trace the LOS between two (valid) positions, returning the total
+	// hindrance modifier or BLOCKED.
+
+	private int trace(Position from,Position to)
+	{
+		int columns = _map.columns();
+		int rows    = _map.rows();
+
+		int steps = HexGeometry.distance(from.column(),from.row(),to.column(),to.row());
+
+		if (steps < 2) return 0;
+
+		if (_hexes.length <= steps)
+		{
+			_hexes      = new int[steps + 1];
+			_otherHexes = new int[steps + 1];
+		}
+
+		HexGeometry.line(from.column(),from.row(),to.column(),to.row(),
+		                 columns,rows,1,_hexes);
+		HexGeometry.line(from.column(),from.row(),to.column(),to.row(),
+		                 columns,rows,-1,_otherHexes);
+
+		int hindrance = 0;
+
+		for (int i = 1;i < steps;i++)
+		{
+			int effect = effect(_map.terrain(_hexes[i]));
+
+			// Where the line runs along a hexside, the hexes on each
+			// side of it are different, and the lesser effect applies.
+
+			if (_otherHexes[i] != _hexes[i])
+			{
+				effect = Math.min(effect,effect(_map.terrain(_otherHexes[i])));
+			}
+
+			hindrance += effect;
+
+			if (hindrance >= MAXIMUM_HINDRANCE) return BLOCKED;
+		}
+
+		return hindrance;
+	}
+
+	// Return the effect of the specified terrain on a LOS, treating an
+	// obstacle as if it was a hindrance large enough to block it.
+
+	private static int effect(Terrain.Terrains terrain)
+	{
+		return terrain.isObstacle() ? MAXIMUM_HINDRANCE : terrain.hindrance();
+	}
+
+	// Private classes
+
+	// This class stores the results, ordered by when they were last used,
+	// and discards the least recently used one when one is added after the
+	// capacity is reached.
+
+	private static final class ResultCache extends LinkedHashMap<Long,Integer>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int _capacity;
+
+		ResultCache(int capacity)
+		{
+			super(16,0.75f,true);
+
+			_capacity = capacity;
+		}
+
+		protected boolean removeEldestEntry(Map.Entry<Long,Integer> eldest)
+		{
+			return size() > _capacity;
+		}
+	}
+}
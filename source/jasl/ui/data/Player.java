@@ -26,8 +26,8 @@ import jasl.utilities.Messages;
  * the <A HREF="../../counters/Unit.html">Unit</A>s under his or her control, and the turn that he or she enters the
  * game, as well as the ability to add, delete, and access individual Units.
  *
- * @version 1.2
- * @author Copyright (C) 2013-2016 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.3
+ * @author Copyright (C) 2013-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Player.html">Source code</A>
  */
 
@@ -189,6 +189,18 @@ public final class Player
 		return _nationality.toString();
 	}
 
+	/**
+	 * Return the nationality of the majority of the units that a player
+	 * controls, as an enum value.
+	 *
+	 * @return a <CODE>Nationalities</CODE> value specifying the nationality.
+	 */
+
+	public Nationality.Nationalities nationalityType()
+	{
+		return _nationality;
+	}
+
 	/**
 	 * Return the turn that the units initially managed by a player will
 	 * enter the game.
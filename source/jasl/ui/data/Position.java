@@ -13,17 +13,26 @@
 
 package jasl.ui.data;
 
+import java.io.IOException;
 import java.io.Serializable;
 
+import jasl.utilities.JsonWriter;
 import jasl.utilities.Messages;
 
 /**
  * This class is used to define the attributes of a specific position ("hex") on
  * the virtual playing board. It includes a label, X and Y coordinates, and
  * other data.
+ * <P>
+ * A position may also specify the column and row of its hex, which are used
+ * to locate it on a <A HREF="HexGrid.html">HexGrid</A>. Columns are numbered from zero, starting
+ * with the one on the left (A), and rows from zero, starting at the top. As
+ * on the boards, the hexes in each odd numbered column (B, D, etc.) are
+ * offset by half a hex below those in the even numbered columns on either
+ * side of it (e.g. B1 is below A1, and B0 is above it).
  *
- * @version 1.0
- * @author Copyright (C) 2016 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.1
+ * @author Copyright (C) 2016-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Position.html">Source code</A>
  */
 
@@ -52,6 +61,27 @@ public final class Position implements Serializable
 
 	public static final String Y_POSITION_LABEL = "Y Position";
 
+	/**
+	 * Provides a label for the hex column associated with a position :
+	 * <B>Column</B>
+	 */
+
+	public static final String COLUMN_LABEL = "Column";
+
+	/**
+	 * Provides a label for the hex row associated with a position :
+	 * <B>Row</B>
+	 */
+
+	public static final String ROW_LABEL = "Row";
+
+	/**
+	 * The value of the column and row of a position that is not associated
+	 * with a hex : <B>-1</B>
+	 */
+
+	public static final int NO_HEX = -1;
+
 	// This constant is used as part of the error messages (see below) that
 	// are generated when an exception is thrown.
 
@@ -72,6 +102,12 @@ public final class Position implements Serializable
 	private double _xPosition;
 	private double _yPosition;
 
+	// These variables are used to store the column and row of the hex that
+	// the position represents, or NO_HEX if it does not represent one.
+
+	private int _column;
+	private int _row;
+
 	// The following strings are used as messages for any exceptions that
 	// may be generated by bad data being passed to the constructor.
 
@@ -83,10 +119,10 @@ public final class Position implements Serializable
 		Messages.buildErrorMessage(CLASS_NAME,Messages.CONSTRUCTOR,
 		                           Messages.ZERO_LENGTH_PARAMETER_MSG);
 
-	// Constructor
+	// Constructors
 
 	/**
-	 * Construct a new <CODE>Position</CODE>.
+	 * Construct a new <CODE>Position</CODE> that is not associated with a hex.
 	 *
 	 * @param label the identifier associated with the position.
 	 * Example - <B>1H5</B>
@@ -101,6 +137,31 @@ public final class Position implements Serializable
 	 */
 
 	public Position(String label,double xPosition,double yPosition)
+	{
+		this(label,NO_HEX,NO_HEX,xPosition,yPosition);
+	}
+
+	/**
+	 * Construct a new <CODE>Position</CODE> representing the specified hex.
+	 *
+	 * @param label the identifier associated with the position.
+	 * Example - <B>1H5</B>
+	 * @param column the column of the hex, numbered from zero.
+	 * Example - <B>7</B>
+	 * @param row the row of the hex, numbered from zero.
+	 * Example - <B>5</B>
+	 * @param xPosition the x-axis coordinate associated with the position.
+	 * Example - <B>42.7363</B>
+	 * @param yPosition the y-axis coordinate associated with the position.
+	 * Example - <B>173.9431</B>
+	 *
+	 * @throws NullPointerException in the case of a null label argument.
+	 * @throws IllegalArgumentException in the case of an invalid argument
+	 * (e.g. the label argument is empty or the column is negative).
+	 */
+
+	public Position(String label,int column,int row,double xPosition,
+	                double yPosition)
 	{
 		// Copy the value of each remaining parameter to the
 		// corresponding variable if an exception is not found.
@@ -124,6 +185,21 @@ public final class Position implements Serializable
 
 		_xPosition = xPosition;
 		_yPosition = yPosition;
+
+		// Hex. Either both values are NO_HEX or neither is negative.
+
+		boolean noHex = (NO_HEX == column) && (NO_HEX == row);
+
+		if (!noHex && ((column < 0) || (row < 0)))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              column + Messages.AND_SEPARATOR + row));
+		}
+
+		_column = column;
+		_row    = row;
 	}
 
 	// Public access methods
@@ -201,29 +277,72 @@ public final class Position implements Serializable
 
 	public String toJSON()
 	{
-		// Create a buffer to store the string to be returned,
-		// initializing it with the values that define the header (since
-		// this is the top level of the class hierarchy).
+		// Create a buffer to store the string to be returned, and write
+		// the entries to it.
+
+		StringBuilder returnString = new StringBuilder();
 
-		StringBuffer returnString = new StringBuffer("{\n");
+		try
+		{
+			toJSON(new JsonWriter(returnString));
+		}
+
+		catch (IOException exception)
+		{
+			// A StringBuilder does not generate I/O errors, but the
+			// exception must be handled regardless.
+
+			throw new IllegalStateException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                           "toJSON",
+			                                                           exception.getMessage()));
+		}
+
+		// Return the completed string to calling program.
+
+		return returnString.toString();
+	}
+
+	/**
+	 * Write the JSON representation each of the private data members that
+	 * describe the current instance to the specified destination.
+	 *
+	 * @param jsonWriter the destination of the JSON data.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void toJSON(JsonWriter jsonWriter) throws IOException
+	{
+		// Check the argument received and throw the appropriate
+		// exception if necessary.
+
+		if (null == jsonWriter)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "toJSON",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
 
 		// Add the information describing the data stored in this class
 		// instance.
 
 		String INDENT = " ";
 
-		returnString.append(INDENT +
-		                    "\"" + POSITION_LABEL + "\":\"" + toString() + "\"");
-		returnString.append(INDENT +
-		                    "\"" + X_POSITION_LABEL + "\":" + xPosition());
-		returnString.append(INDENT +
-		                    "\"" + Y_POSITION_LABEL + "\":" + yPosition());
+		jsonWriter.beginObject();
 
-		returnString.append("\n}");
+		jsonWriter.writePair(INDENT,POSITION_LABEL,toString());
+		jsonWriter.writePair(INDENT,X_POSITION_LABEL,xPosition());
+		jsonWriter.writePair(INDENT,Y_POSITION_LABEL,yPosition());
 
-		// Return the completed string to calling program.
+		if (hasHex())
+		{
+			jsonWriter.writePair(INDENT,COLUMN_LABEL,column());
+			jsonWriter.writePair(INDENT,ROW_LABEL,row());
+		}
 
-		return returnString.toString();
+		jsonWriter.endObject();
 	}
 
 	/**
@@ -247,4 +366,37 @@ public final class Position implements Serializable
 	{
 		return _yPosition;
 	}
+
+	/**
+	 * Indicate if a position is associated with a hex.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the column and row are set.
+	 */
+
+	public final boolean hasHex()
+	{
+		return NO_HEX != _column;
+	}
+
+	/**
+	 * Return the column of the hex associated with a position.
+	 *
+	 * @return an <CODE>int</CODE> specifying the column, numbered from zero, or <B>NO_HEX</B>.
+	 */
+
+	public final int column()
+	{
+		return _column;
+	}
+
+	/**
+	 * Return the row of the hex associated with a position.
+	 *
+	 * @return an <CODE>int</CODE> specifying the row, numbered from zero, or <B>NO_HEX</B>.
+	 */
+
+	public final int row()
+	{
+		return _row;
+	}
 }
@@ -13,23 +13,96 @@
 
 package jasl.ui.data;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import jasl.counters.BasicPointValue;
+import jasl.counters.Classification;
+import jasl.counters.Description;
+import jasl.counters.ExperienceLevelRating;
+import jasl.counters.Firepower;
+import jasl.counters.Leader;
+import jasl.counters.Leadership;
+import jasl.counters.MaximumELR;
+import jasl.counters.Morale;
+import jasl.counters.Nationality;
+import jasl.counters.SprayingFire;
+import jasl.counters.Squad;
+import jasl.counters.UnitTemplate;
+import jasl.counters.UnitType;
+import jasl.utilities.Messages;
+
 /**
  * This class is used to translate text data in the JSON format into the objects
  * and settings necessary to play a jASL scenario.
+ * <P>
+ * The units in each <A HREF="Formation.html">formation</A> are stored as a template and the number of
+ * copies (the "copies" key in the file) of it. The individual counters are
+ * created when they are first accessed, rather than when the file is loaded.
  *
- * @version 1.0
- * @author Copyright (C) 2016 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.1
+ * @author Copyright (C) 2016-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Scenario.html">Source code</A>
  */
 
 public final class Scenario
 {
+	// Symbolic constants
+
+	// These are the keys, in addition to the labels defined in the
+	// <B>counters</B> package, used in the JSON input file.
+
+	private static final String NAME_KEY          = "name";
+	private static final String TURNS_KEY         = "turns";
+	private static final String STARTING_SIDE_KEY = "starting side";
+	private static final String SIDES_KEY         = "sides";
+	private static final String SIDE_KEY          = "side";
+	private static final String SAN_KEY           = "SAN";
+	private static final String FORMATIONS_KEY    = "formations";
+	private static final String UNITS_KEY         = "units";
+	private static final String COPIES_KEY        = "copies";
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = Scenario.class.getSimpleName();
+
+	// Private data members
+
 	// This variable is used to store the name of the scenario. It is set
 	// using the value associated with the "name" key in the JSON input
 	// file.
 
 	private String _name = null;
 
+	// The number of game turns and the side that moves first.
+
+	private int        _turns        = 0;
+	private Side.Sides _startingSide = Side.Sides.ALLIES;
+
+	// The experience level rating, sniper activation number (SAN), and
+	// formations of each side.
+
+	private Map<Side.Sides,Integer>         _experienceLevelRatings =
+		new EnumMap<Side.Sides,Integer>(Side.Sides.class);
+	private Map<Side.Sides,Integer>         _sniperActivationNumbers =
+		new EnumMap<Side.Sides,Integer>(Side.Sides.class);
+	private Map<Side.Sides,List<Formation>> _formations =
+		new EnumMap<Side.Sides,List<Formation>>(Side.Sides.class);
+
 	// Constructors
 
 	/**
@@ -41,6 +114,68 @@ public final class Scenario
 	{
 	}
 
+	/**
+	 * Create a <CODE>Scenario</CODE> from the contents of the specified JSON file.
+	 * <P>
+	 * The file is read through a buffered stream rather than being loaded
+	 * into a string first. The templates of the units are created (and
+	 * checked) as the file is read, but the counters themselves are created
+	 * when they are accessed through the <A HREF="Formation.html">Formation</A> they belong to. Each
+	 * unit is given the experience level rating of its side.
+	 *
+	 * @param path the location of the file.
+	 *
+	 * @return the new <CODE>Scenario</CODE>.
+	 *
+	 * @throws NullPointerException in the case of a null path.
+	 * @throws IOException in the case of an error reading the file.
+	 * @throws IllegalArgumentException in the case of data that is not
+	 * valid JSON, is missing an expected key, or contains an invalid
+	 * value.
+	 */
+
+	public static Scenario load(Path path) throws IOException
+	{
+		// Define local constants.
+
+		String METHOD_NAME = "load";
+
+		if (null == path)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		Scenario scenario = new Scenario();
+
+		try (BufferedReader reader = Files.newBufferedReader(path,StandardCharsets.UTF_8))
+		{
+			JSONObject jsonObject = new JSONObject(new JSONTokener(reader));
+
+			scenario._name  = jsonObject.getString(NAME_KEY);
+			scenario._turns = jsonObject.getInt(TURNS_KEY);
+
+			scenario._startingSide = side(jsonObject.getInt(STARTING_SIDE_KEY));
+
+			JSONArray sides = jsonObject.getJSONArray(SIDES_KEY);
+
+			for (int i = 0;i < sides.length();i++)
+			{
+				scenario.loadSide(sides.getJSONObject(i));
+			}
+		}
+
+		catch (JSONException exception)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              exception.getMessage()));
+		}
+
+		return scenario;
+	}
+
 	// Public access methods
 
 	/**
@@ -58,6 +193,16 @@ public final class Scenario
 		returnString.append(toString());
 		returnString.append("\n");
 
+		for (Map.Entry<Side.Sides,List<Formation>> side : _formations.entrySet())
+		{
+			returnString.append("\nSide:\t" + side.getKey() + "\n");
+
+			for (Formation formation : side.getValue())
+			{
+				returnString.append(formation.toText());
+			}
+		}
+
 		// Return the completed string to calling program.
 
 		return returnString.toString();
@@ -73,4 +218,200 @@ public final class Scenario
 	{
 		return _name;
 	}
+
+	/**
+	 * Return the number of game turns in a scenario.
+	 *
+	 * @return an <CODE>int</CODE> specifying the number of turns.
+	 */
+
+	public int turns()
+	{
+		return _turns;
+	}
+
+	/**
+	 * Return the side that moves first in a scenario.
+	 *
+	 * @return the starting side.
+	 */
+
+	public Side.Sides startingSide()
+	{
+		return _startingSide;
+	}
+
+	/**
+	 * Return the experience level rating of the units on a side.
+	 *
+	 * @param side the side.
+	 *
+	 * @return an <CODE>int</CODE> specifying the ELR. The value is zero for a side that
+	 * is not included in the scenario.
+	 */
+
+	public int experienceLevelRating(Side.Sides side)
+	{
+		Integer experienceLevelRating = _experienceLevelRatings.get(side);
+
+		return (null == experienceLevelRating) ? 0 : experienceLevelRating;
+	}
+
+	/**
+	 * Return the sniper activation number (SAN) of a side.
+	 *
+	 * @param side the side.
+	 *
+	 * @return an <CODE>int</CODE> specifying the SAN. The value is zero for a side that
+	 * is not included in the scenario.
+	 */
+
+	public int sniperActivationNumber(Side.Sides side)
+	{
+		Integer sniperActivationNumber = _sniperActivationNumbers.get(side);
+
+		return (null == sniperActivationNumber) ? 0 : sniperActivationNumber;
+	}
+
+	/**
+	 * Return the formations of a side.
+	 *
+	 * @param side the side.
+	 *
+	 * @return an <B>unmodifiable</B> <CODE>List</CODE> of the formations. The list is
+	 * empty for a side that is not included in the scenario.
+	 */
+
+	public List<Formation> formations(Side.Sides side)
+	{
+		List<Formation> formations = _formations.get(side);
+
+		return (null == formations) ?
+		       Collections.<Formation>emptyList() :
+		       Collections.unmodifiableList(formations);
+	}
+
+	// Private methods
+
+	// Read the settings and formations of a side.
+
+	private void loadSide(JSONObject jsonObject)
+	{
+		Side.Sides side = side(jsonObject.getInt(SIDE_KEY));
+
+		int experienceLevelRating =
+			jsonObject.getInt(ExperienceLevelRating.ELR_LABEL);
+
+		_experienceLevelRatings.put(side,experienceLevelRating);
+		_sniperActivationNumbers.put(side,jsonObject.getInt(SAN_KEY));
+
+		ArrayList<Formation> formations = new ArrayList<Formation>();
+
+		JSONArray formationArray = jsonObject.getJSONArray(FORMATIONS_KEY);
+
+		for (int i = 0;i < formationArray.length();i++)
+		{
+			JSONObject formationObject = formationArray.getJSONObject(i);
+
+			Formation formation = new Formation(formationObject.getString(NAME_KEY));
+
+			JSONArray units = formationObject.getJSONArray(UNITS_KEY);
+
+			for (int j = 0;j < units.length();j++)
+			{
+				JSONObject unit = units.getJSONObject(j);
+
+				formation.addUnits(template(unit,experienceLevelRating),
+				                   unit.optInt(COPIES_KEY,1));
+			}
+
+			formations.add(formation);
+		}
+
+		_formations.put(side,formations);
+	}
+
+	// Create the template for the unit described by the specified entry.
+
+	private static UnitTemplate template(JSONObject unit,
+	                                     int experienceLevelRating)
+	{
+		Description.Descriptions description =
+			value(Description.Descriptions.values(),
+			      unit.getString(Description.DESCRIPTION_LABEL));
+
+		Nationality.Nationalities nationality =
+			value(Nationality.Nationalities.values(),
+			      unit.getString(Nationality.NATIONALITY_LABEL));
+
+		UnitType.InfantryTypes unitType =
+			value(UnitType.InfantryTypes.values(),
+			      unit.getString(UnitType.UNIT_TYPE_LABEL));
+
+		int morale       = unit.getInt(Morale.MORALE_LABEL);
+		int brokenMorale = unit.getInt(Morale.BROKEN_MORALE_LABEL);
+
+		if (Description.Descriptions.LEADER == description)
+		{
+			return Leader.template(nationality,unitType,morale,brokenMorale,
+			                       experienceLevelRating,
+			                       unit.getInt(Leadership.MODIFIER_LABEL));
+		}
+
+		if (Description.Descriptions.SQUAD == description)
+		{
+			return Squad.template(nationality,unitType,
+			                      unit.getInt(Firepower.FIREPOWER_LABEL),
+			                      unit.getInt(Firepower.NORMAL_RANGE_LABEL),
+			                      morale,brokenMorale,
+			                      unit.getBoolean(Morale.CAN_SELF_RALLY_LABEL),
+			                      unit.getInt(BasicPointValue.BPV_LABEL),
+			                      experienceLevelRating,
+			                      unit.getBoolean(MaximumELR.HAS_MAXIMUM_ELR_LABEL),
+			                      value(Classification.Classifications.values(),
+			                            unit.getString(Classification.CLASSIFICATION_LABEL)),
+			                      unit.getBoolean(Squad.CAN_ASSAULT_FIRE_LABEL),
+			                      unit.getBoolean(SprayingFire.CAN_SPRAY_FIRE_LABEL),
+			                      unit.getInt(Squad.SMOKE_PLACEMENT_EXP_LABEL));
+		}
+
+		throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+		                                                              "template",
+		                                                              Messages.INVALID_PARAMETER_MSG +
+		                                                              description));
+	}
+
+	// Return the side associated with the specified index in the file.
+
+	private static Side.Sides side(int index)
+	{
+		Side.Sides[] sides = Side.Sides.values();
+
+		if ((index < 0) || (index >= sides.length))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              "side",
+			                                                              Messages.INVALID_PARAMETER_MSG + index));
+		}
+
+		return sides[index];
+	}
+
+	// Return the enum value with the specified label (the value returned by
+	// its toString() method).
+
+	private static <E extends Enum<E>> E value(E[] values,String label)
+	{
+		for (E value : values)
+		{
+			if (value.toString().equals(label))
+			{
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+		                                                              "value",
+		                                                              Messages.INVALID_PARAMETER_MSG + label));
+	}
 }
@@ -13,7 +13,10 @@
 package jasl.ui.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import jasl.counters.Nationality;
@@ -23,8 +26,8 @@ import jasl.counters.Nationality;
  * in a <A HREF="Scenario.html">scenario</A>. It also includes an enum defining the available sides (Allies
  * and Axis) and methods to provide a list of the nationalities on each of them.
  *
- * @version 1.5
- * @author Copyright (C) 2013-2016 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.6
+ * @author Copyright (C) 2013-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Side.html">Source code</A>
  */
 
@@ -77,6 +80,24 @@ public final class Side
 		}
 	}
 
+	// The nationalities associated with each side. These lists are shared
+	// by all of the instances of this class, and cannot be changed.
+
+	private static final List<Nationality.Nationalities> ALLIED_NATIONALITIES =
+		Collections.unmodifiableList(Arrays.asList(Nationality.Nationalities.AMERICAN,
+		                                           Nationality.Nationalities.BRITISH,
+		                                           Nationality.Nationalities.RUSSIAN,
+		                                           Nationality.Nationalities.FRENCH,
+		                                           Nationality.Nationalities.PARTISAN,
+		                                           Nationality.Nationalities.ALLIED_MINOR));
+
+	private static final List<Nationality.Nationalities> AXIS_NATIONALITIES =
+		Collections.unmodifiableList(Arrays.asList(Nationality.Nationalities.GERMAN,
+		                                           Nationality.Nationalities.JAPANESE,
+		                                           Nationality.Nationalities.ITALIAN,
+		                                           Nationality.Nationalities.FINNISH,
+		                                           Nationality.Nationalities.AXIS_MINOR));
+
 	// This variable is used to store the side that the players managed by
 	// an instance of this class, as well as the units they control/command,
 	// are fighting for.
@@ -129,7 +150,7 @@ public final class Side
 
 		returnString.append("\tNationalities:\t");
 
-		ArrayList<Nationality.Nationalities> nationalities =
+		List<Nationality.Nationalities> nationalities =
 			(Side.Sides.ALLIES == _side) ?
 			alliedNationalities() : axisNationalities();
 
@@ -188,151 +209,34 @@ public final class Side
 	/**
 	 * Return the nationalities associated with the Allies.
 	 *
-	 * @return an <CODE>ArrayList</CODE> of the corresponding nationalities.
+	 * @return a <CODE>List</CODE> of the corresponding nationalities. It cannot be
+	 * changed.
 	 */
 
-	public static ArrayList<Nationality.Nationalities> alliedNationalities()
+	public static List<Nationality.Nationalities> alliedNationalities()
 	{
-		ArrayList<Nationality.Nationalities> nationalities =
-			new ArrayList<Nationality.Nationalities>();
-
-		nationalities.add(Nationality.Nationalities.AMERICAN);
-		nationalities.add(Nationality.Nationalities.BRITISH);
-		nationalities.add(Nationality.Nationalities.RUSSIAN);
-		nationalities.add(Nationality.Nationalities.FRENCH);
-		nationalities.add(Nationality.Nationalities.PARTISAN);
-		nationalities.add(Nationality.Nationalities.ALLIED_MINOR);
-
-		return nationalities;
+		return ALLIED_NATIONALITIES;
 	}
 
 	/**
 	 * Return the nationalities associated with the Axis.
 	 *
-	 * @return an <CODE>ArrayList</CODE> of the corresponding nationalities.
+	 * @return a <CODE>List</CODE> of the corresponding nationalities. It cannot be
+	 * changed.
 	 */
 
-	public static ArrayList<Nationality.Nationalities> axisNationalities()
+	public static List<Nationality.Nationalities> axisNationalities()
 	{
-		ArrayList<Nationality.Nationalities> nationalities =
-			new ArrayList<Nationality.Nationalities>();
-
-		nationalities.add(Nationality.Nationalities.GERMAN);
-		nationalities.add(Nationality.Nationalities.JAPANESE);
-		nationalities.add(Nationality.Nationalities.ITALIAN);
-		nationalities.add(Nationality.Nationalities.FINNISH);
-		nationalities.add(Nationality.Nationalities.AXIS_MINOR);
-
-		return nationalities;
+		return AXIS_NATIONALITIES;
 	}
 
 	// This method is deprecated. It should be removed after the Scenario
-	// and Stack classes are fully implemented.
+	// and Stack classes are fully implemented. The list is provided by
+	// UnitCatalog, which should be used instead.
 
-	public static ArrayList<String> unitList(Nationality.Nationalities nationality)
+	public static List<String> unitList(Nationality.Nationalities nationality)
 	{
-		ArrayList<String> units = new ArrayList<String>();
-
-		units.add("10-3 Leader");
-		units.add("10-2 Leader");
-		units.add("9-2 Leader");
-		units.add("9-1 Leader");
-		units.add("8-1 Leader");
-		units.add("8-0 Leader");
-		units.add("7-0 Leader");
-		units.add("6+1 Leader");
-
-		if (Nationality.Nationalities.AMERICAN == nationality)
-		{
-			units.add("7-4-7 Squad");
-			units.add("6-6-7 Squad");
-			units.add("6-6-6 Squad");
-			units.add("5-5-6 Squad");
-			units.add("5-3-6 Squad");
-		}
-
-		if (Nationality.Nationalities.BRITISH == nationality)
-		{
-			units.add("6-3-8 Squad");
-			units.add("4-5-8 Squad");
-			units.add("4-5-7 Squad");
-			units.add("4-4-7 Squad");
-			units.add("4-3-6 Squad");
-		}
-
-		if (Nationality.Nationalities.RUSSIAN == nationality)
-		{
-			units.add("6-2-8 Squad");
-			units.add("4-5-8 Squad");
-			units.add("4-4-7 Squad");
-			units.add("5-2-7 Squad");
-			units.add("4-2-6 Squad");
-		}
-
-		if (Nationality.Nationalities.FRENCH == nationality)
-		{
-			units.add("4-5-8 Squad");
-			units.add("4-5-7 Squad");
-			units.add("4-3-7 Squad");
-		}
-
-		if (Nationality.Nationalities.PARTISAN == nationality)
-		{
-			units.add("3-3-7 Squad");
-		}
-
-		if (Nationality.Nationalities.ALLIED_MINOR == nationality)
-		{
-			units.add("4-5-8 Squad");
-			units.add("4-5-7 Squad");
-			units.add("4-3-7 Squad");
-		}
-
-		if (Nationality.Nationalities.GERMAN == nationality)
-		{
-			units.add("6-5-8 Squad");
-			units.add("8-3-8 Squad");
-			units.add("4-6-8 Squad");
-			units.add("5-4-8 Squad");
-			units.add("4-6-7 Squad");
-			units.add("4-4-7 Squad");
-			units.add("4-3-6 Squad");
-		}
-
-		if (Nationality.Nationalities.JAPANESE == nationality)
-		{
-			units.add("4-4-8 Squad");
-			units.add("4-4-7 Squad");
-			units.add("3-4-8 Squad");
-			units.add("3-4-7 Squad");
-			units.add("3-3-6 Squad");
-			units.add("2-3-7 Squad");
-			units.add("2-3-6 Squad");
-		}
-
-		if (Nationality.Nationalities.ITALIAN == nationality)
-		{
-			units.add("4-4-7 Squad");
-			units.add("3-4-7 Squad");
-			units.add("3-4-6 Squad");
-			units.add("3-3-6 Squad");
-		}
-
-		if (Nationality.Nationalities.FINNISH == nationality)
-		{
-			units.add("8-3-8 Squad");
-			units.add("6-4-8 Squad");
-			units.add("5-3-8 Squad");
-		}
-
-		if (Nationality.Nationalities.AXIS_MINOR == nationality)
-		{
-			units.add("4-4-7 Squad");
-			units.add("3-4-7 Squad");
-			units.add("3-3-6 Squad");
-		}
-
-		return units;
+		return UnitCatalog.labels(nationality);
 	}
 
 	// Public update methods
@@ -361,7 +265,7 @@ public final class Side
 		// Verify that the specified nationality matches one of the ones
 		// associated with the side this instance represents.
 
-		ArrayList<Nationality.Nationalities> validNationalities =
+		List<Nationality.Nationalities> validNationalities =
 			(Side.Sides.ALLIES == _side) ? alliedNationalities() :
 			                               axisNationalities();
 
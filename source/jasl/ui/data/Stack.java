@@ -13,9 +13,7 @@
 package jasl.ui.data;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 
 import jasl.counters.Unit;
 import jasl.utilities.Messages;
@@ -26,8 +24,8 @@ import jasl.utilities.Messages;
  * has fired or not, etc.), and, where applicable, portaging support. It also
  * allows items of this type that are "wrapping" a Unit to be grouped together.
  *
- * @version 1.0
- * @author Copyright (C) 2016 Craig R. Campbell (craigonic@gmail.com)
+ * @version 1.1
+ * @author Copyright (C) 2016-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jasl/ui/data/Stack.html">Source code</A>
  */
 
@@ -59,19 +57,19 @@ public final class Stack
 	// this item if the instance is NOT managing sub-stacks. The "key" value
 	// is set using the same rules applied to adding a sub-stack.
 
-	private LinkedHashMap<Integer,Stack> _portagedItems;
+	private final StackGroup _portagedItems = new StackGroup();
 
 	// This variable is used to store one or more items, each a Stack that
 	// is managing a unit. The instance is not allowed to manage items that
 	// are not (i.e. that support the addition of other sub-stacks).
 
-	private LinkedHashMap<Integer,Stack> _subStacks;
+	private final StackGroup _subStacks = new StackGroup();
 
 	// This variable is used to store the label associated with the current
 	// position of the stack. Its setting, along with that of _unit,
 	// determine the return value of the toString() method.
 
-	private String _positionLabel;
+	private String _positionLabel = new String();
 
 	// The following strings are used as messages for any exceptions that
 	// may be generated by bad data being passed one of the constructors.
@@ -261,7 +259,7 @@ public final class Stack
 
 		if (!_subStacks.isEmpty())
 		{
-			return _subStacks.get(_subStacks.keySet().toArray()[0]).toString();
+			return _subStacks.first().toString();
 		}
 
 		return null;
@@ -441,7 +439,11 @@ public final class Stack
 	 *
 	 * This method allows the caller to remove the item from control of the
 	 * Unit managed by this instance. If set, the position setting within
-	 * the departing item will be updated to match this instance.
+	 * the departing item will be updated to match this instance. The item
+	 * is found and removed in constant time, regardless of the number of
+	 * portaged items.
+	 *
+	 * @param itemID the key of the item, as found in portagedItems()
 	 *
 	 * @return the <CODE>Stack</CODE> with an ID matching the argument. If a matching
 	 * item is not found or the current instance is <B>not</B> managing a Unit, the
@@ -450,15 +452,17 @@ public final class Stack
 	 * @see #portagedItems
 	 */
 
-	public Stack takePortagedItem(Integer itemID)
+	public Stack takePortagedItem(int itemID)
 	{
 		Stack subStack = null;
 
-		if ((null != _unit) && !_portagedItems.isEmpty() &&
-		    _portagedItems.containsValue(itemID))
+		if (null != _unit)
 		{
 			subStack = _portagedItems.remove(itemID);
+		}
 
+		if (null != subStack)
+		{
 			subStack.setPositionLabel(_positionLabel);
 		}
 
@@ -500,7 +504,11 @@ public final class Stack
 	 *
 	 * This method allows the caller to remove the sub-stack from the stack,
 	 * taking control of it. The position setting within the departing
-	 * sub-stack will be updated to match this instance.
+	 * sub-stack will be updated to match this instance. The sub-stack is
+	 * found and removed in constant time, regardless of the number of
+	 * sub-stacks.
+	 *
+	 * @param stackID the key of the sub-stack, as found in subStacks()
 	 *
 	 * @return the <CODE>Stack</CODE> with an ID matching the argument. If a matching
 	 * item is not found or the current instance is managing a Unit, the
@@ -509,15 +517,17 @@ public final class Stack
 	 * @see #subStacks
 	 */
 
-	public Stack takeSubStack(Integer stackID)
+	public Stack takeSubStack(int stackID)
 	{
 		Stack subStack = null;
 
-		if ((null == _unit) && !_subStacks.isEmpty() &&
-		    _subStacks.containsValue(stackID))
+		if (null == _unit)
 		{
 			subStack = _subStacks.remove(stackID);
+		}
 
+		if (null != subStack)
+		{
 			subStack.setPositionLabel(_positionLabel);
 		}
 
@@ -531,60 +541,29 @@ public final class Stack
 	 *
 	 * This helper method is called from addPortagedItem() and
 	 * addSubStack(). Its primary purpose is to implement the rules
-	 * associated with setting the ID/Key correctly in the Map. Whether or
-	 * not the stack should be added to the specified Map is assumed to have
-	 * been determined before this method is called.
+	 * associated with setting the ID/Key correctly in the group: the stack
+	 * ID is used if it is greater than zero, otherwise an unused key is
+	 * generated. Whether or not the stack should be added to the specified
+	 * group is assumed to have been determined before this method is
+	 * called.
 	 *
 	 * @param stack the Stack to be added
-	 * @param destinationStack the (internal) Map that the Stack should
+	 * @param destinationStack the (internal) group that the Stack should
 	 * be referenced by
 	 *
 	 * @return a <CODE>boolean</CODE> indicating whether or not the specified Stack was
-	 * added successfully. It should always be true unless one of the
-	 * arguments is null or the new stack has an ID greater than zero that
-	 * matches a stack in the Map.
+	 * added successfully. It should always be true unless the new stack has
+	 * an ID greater than zero that matches a stack in the group.
 	 */
 
-	private boolean addStack(Stack stack,
-	                         LinkedHashMap<Integer,Stack> destinationStack)
+	private boolean addStack(Stack stack,StackGroup destinationStack)
 	{
-		if ((null == stack) || (null == destinationStack)) return false;
-
-		Integer subStackKey = Integer.valueOf(stack.stackID());
-
-		// When the stack ID is zero, the keys in the sub-stack map are
-		// set incrementally.
-
-		if ((0 == subStackKey.intValue()) && !destinationStack.isEmpty())
-		{
-			Set<Integer> subStackKeySet = destinationStack.keySet();
-
-			// Assume that the next key ID is 1 greater than the
-			// last one added.
-
-			subStackKey = Integer.valueOf(destinationStack.size());
-
-			// If an entry with the new key exists, assume that a
-			// previously added sub-stack has been removed and
-			// attempt to find (starting at zero) a "free" ID.
-
-			if (subStackKeySet.contains(subStackKey))
-			{
-				for (int i = 0;i < destinationStack.size();++i)
-				{
-					subStackKey = Integer.valueOf(i);
-
-					if (!subStackKeySet.contains(subStackKey)) break;
-				}
-			}
-		}
-
 		// This should only happen if sub-stacks with unique IDs are
 		// used and a duplicate exists OR when unique IDs and generated
-		// keys (stack ID equals zero (see above)) are mixed.
+		// keys (stack ID equals zero) are mixed.
 
-		if (!destinationStack.isEmpty() &&
-		    destinationStack.keySet().contains(subStackKey))
+		if ((stack.stackID() > 0) &&
+		    destinationStack.contains(stack.stackID()))
 		{
 			return false;
 		}
@@ -593,8 +572,6 @@ public final class Stack
 
 		stack.setPositionLabel(null); // Specifying null makes it empty.
 
-		destinationStack.put(subStackKey,stack);
-
-		return true;
+		return destinationStack.add(stack);
 	}
 }
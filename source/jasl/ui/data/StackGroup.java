@@ -0,0 +1,445 @@
+// ************************************************************************** //
+// StackGroup.java - This class is a member of the <B>ui.data</B> package, which     //
+//                   contains the class definitions and implementations for   //
+//                   objects used to store and manage the state of an         //
+//                   instance of jASL.                                        //
+//                                                                            //
+//                   NOTE: This program is based on Advanced Squad Leader,    //
+//                         which was created by The Avalon Hill Game Company, //
+//                         and lives on at Multi-Man Publishing.              //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class is used by <A HREF="Stack.html">Stack</A> to store its portaged items or sub-stacks,
+ * each of which is referenced by an <CODE>int</CODE> key.
+ * <P>
+ * The stacks are kept in the order they were added, and are located through
+ * an open addressing hash table of primitive keys, so that finding, adding,
+ * and removing an item takes constant time regardless of the number in the
+ * group. The positions left by removed items are reclaimed when the storage
+ * is full, rather than on each removal. The keys released by removed items
+ * are kept in a list, so that a new key can be generated without searching
+ * the existing ones.
+ * <P>
+ * The Map methods inherited by this class provide a read only view of the
+ * group, which is returned (wrapped as unmodifiable) by Stack.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/StackGroup.html">Source code</A>
+ */
+
+final class StackGroup extends AbstractMap<Integer,Stack>
+{
+	// Symbolic constants
+
+	// The number of items that space is allocated for when the first one is
+	// added.
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	// The multiplier used to spread the keys across the hash table.
+
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	// Private data members
+
+	// The key and stack of each item, in the order they were added. The
+	// stack is set to null when an item is removed, until its position is
+	// reclaimed. The arrays are not allocated until the first item is
+	// added.
+
+	private int[]   _keys;
+	private Stack[] _stacks;
+
+	// The number of positions in the arrays above that have been used, and
+	// the number of those that contain an item.
+
+	private int _end  = 0;
+	private int _size = 0;
+
+	// The hash table, which contains the position of each item plus one.
+	// Zero indicates an empty slot. Its length is a power of two and at
+	// least twice the capacity of the arrays above.
+
+	private int[] _index;
+
+	// The keys released by removed items that are available to be
+	// generated again, and the next key to be generated once they are used.
+
+	private int[] _freeKeys;
+	private int   _freeKeyCount = 0;
+	private int   _nextKey      = 0;
+
+	// Incremented each time the group is changed, so that an iterator can
+	// detect that it is no longer valid.
+
+	private int _modificationCount = 0;
+
+	// Public access methods
+
+	/**
+	 * Return the number of items in the group.
+	 *
+	 * @return the number of items.
+	 */
+
+	public int size()
+	{
+		return _size;
+	}
+
+	/**
+	 * Indicate if the group contains an item with the specified key.
+	 *
+	 * @param key the key to be found.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the key is an <CODE>Integer</CODE> associated
+	 * with an item.
+	 */
+
+	public boolean containsKey(Object key)
+	{
+		return (key instanceof Integer) && contains(((Integer)key).intValue());
+	}
+
+	/**
+	 * Return the item associated with the specified key.
+	 *
+	 * @param key the key of the item.
+	 *
+	 * @return the <CODE>Stack</CODE> associated with the key, or null if it is not an
+	 * <CODE>Integer</CODE> associated with an item.
+	 */
+
+	public Stack get(Object key)
+	{
+		return (key instanceof Integer) ? get(((Integer)key).intValue()) : null;
+	}
+
+	/**
+	 * Return a view of the items in the group, in the order they were added.
+	 *
+	 * @return a <CODE>Set</CODE> of key-value pairs. The group cannot be changed
+	 * through it.
+	 */
+
+	public Set<Map.Entry<Integer,Stack>> entrySet()
+	{
+		return new EntrySet();
+	}
+
+	// Package access methods
+
+	// Indicate if the group contains an item with the specified key.
+
+	boolean contains(int key)
+	{
+		return (_size > 0) && (findSlot(key) >= 0);
+	}
+
+	// Return the item associated with the specified key, or null if there
+	// isn't one.
+
+	Stack get(int key)
+	{
+		if (0 == _size) return null;
+
+		int slot = findSlot(key);
+
+		return (slot < 0) ? null : _stacks[_index[slot] - 1];
+	}
+
+	// Return the earliest item added that is still in the group, or null if
+	// it is empty.
+
+	Stack first()
+	{
+		for (int i = 0;i < _end;i++)
+		{
+			if (null != _stacks[i]) return _stacks[i];
+		}
+
+		return null;
+	}
+
+	// Package update methods
+
+	// Add the specified stack to the group. Its stack ID is used as the key
+	// unless it is zero, in which case a key that is not in use is
+	// generated (the ID of a Stack is never negative, since the constructor
+	// replaces a negative value with zero). The return value is false if
+	// the stack ID is already in use.
+
+	boolean add(Stack stack)
+	{
+		int key = stack.stackID();
+
+		if (0 == key)
+		{
+			key = generateKey();
+		}
+
+		else if (contains(key))
+		{
+			return false;
+		}
+
+		if (null == _keys)
+		{
+			allocate(INITIAL_CAPACITY);
+		}
+
+		// When the arrays are full, reclaim the positions of removed
+		// items if they account for at least half of them. Otherwise,
+		// double the capacity.
+
+		else if (_end == _keys.length)
+		{
+			allocate(((_end - _size) >= (_end >>> 1)) ? _keys.length :
+			                                           _keys.length << 1);
+		}
+
+		_keys[_end]   = key;
+		_stacks[_end] = stack;
+
+		_index[-(findSlot(key) + 1)] = ++_end;
+
+		_size++;
+		_modificationCount++;
+
+		return true;
+	}
+
+	// Remove the item associated with the specified key from the group and
+	// return it, or null if there isn't one.
+
+	Stack remove(int key)
+	{
+		if (0 == _size) return null;
+
+		int slot = findSlot(key);
+
+		if (slot < 0) return null;
+
+		int position = _index[slot] - 1;
+
+		Stack stack = _stacks[position];
+
+		_stacks[position] = null;
+
+		removeSlot(slot);
+
+		_size--;
+		_modificationCount++;
+
+		// Make the key available to be generated again, unless it has not
+		// been reached yet or the list is full. In either case, the key
+		// can still be used, it just won't be generated until the next key
+		// reaches it (if ever).
+
+		if ((key < _nextKey) && (_freeKeyCount < _freeKeys.length))
+		{
+			_freeKeys[_freeKeyCount++] = key;
+		}
+
+		return stack;
+	}
+
+	// Private methods
+
+	// Return a key that is not in use, taking the most recently released
+	// one if possible. A released key may have been reused as a stack ID in
+	// the meantime, in which case it is discarded.
+
+	private int generateKey()
+	{
+		while (_freeKeyCount > 0)
+		{
+			int key = _freeKeys[--_freeKeyCount];
+
+			if (!contains(key)) return key;
+		}
+
+		while (contains(_nextKey))
+		{
+			_nextKey++;
+		}
+
+		return _nextKey++;
+	}
+
+	// Move the items to arrays with the specified capacity, removing the
+	// positions of the items that have been removed, and rebuild the hash
+	// table.
+
+	private void allocate(int capacity)
+	{
+		int[]   keys   = new int[capacity];
+		Stack[] stacks = new Stack[capacity];
+
+		int end = 0;
+
+		for (int i = 0;i < _end;i++)
+		{
+			if (null != _stacks[i])
+			{
+				keys[end]   = _keys[i];
+				stacks[end] = _stacks[i];
+
+				end++;
+			}
+		}
+
+		_keys   = keys;
+		_stacks = stacks;
+		_end    = end;
+		_index  = new int[capacity << 1];
+
+		for (int i = 0;i < _end;i++)
+		{
+			_index[-(findSlot(_keys[i]) + 1)] = i + 1;
+		}
+
+		int[] freeKeys = new int[capacity];
+
+		if (null != _freeKeys)
+		{
+			System.arraycopy(_freeKeys,0,freeKeys,0,_freeKeyCount);
+		}
+
+		_freeKeys = freeKeys;
+	}
+
+	// Return the slot of the hash table where the starting position for the
+	// specified key is found.
+
+	private int home(int key)
+	{
+		int hash = key * HASH_MULTIPLIER;
+
+		return (hash ^ (hash >>> 16)) & (_index.length - 1);
+	}
+
+	// Return the slot of the hash table that refers to the item with the
+	// specified key. If it is not found, the return value is -(slot + 1),
+	// where slot is the empty one that it would be stored in.
+
+	private int findSlot(int key)
+	{
+		int mask = _index.length - 1;
+
+		for (int slot = home(key);;slot = (slot + 1) & mask)
+		{
+			if (0 == _index[slot]) return -(slot + 1);
+
+			if (_keys[_index[slot] - 1] == key) return slot;
+		}
+	}
+
+	// Empty the specified slot of the hash table, moving any of the slots
+	// that follow it back as necessary so that every item can still be
+	// found from its starting position.
+
+	private void removeSlot(int slot)
+	{
+		int mask = _index.length - 1;
+
+		_index[slot] = 0;
+
+		for (int next = (slot + 1) & mask;0 != _index[next];next = (next + 1) & mask)
+		{
+			int home = home(_keys[_index[next] - 1]);
+
+			// The item in the next slot can be moved into the empty one
+			// if its starting position is not in the range between
+			// them (allowing for the wrap around at the end).
+
+			boolean canMove = (slot <= next) ? ((home <= slot) || (home > next)) :
+			                                   ((home <= slot) && (home > next));
+
+			if (canMove)
+			{
+				_index[slot] = _index[next];
+				_index[next] = 0;
+
+				slot = next;
+			}
+		}
+	}
+
+	// Private classes
+
+	// This class provides the view returned by entrySet().
+
+	private final class EntrySet extends AbstractSet<Map.Entry<Integer,Stack>>
+	{
+		public int size()
+		{
+			return _size;
+		}
+
+		public Iterator<Map.Entry<Integer,Stack>> iterator()
+		{
+			return new EntryIterator();
+		}
+	}
+
+	// This class is used to iterate through the items in the order they
+	// were added, skipping the positions of those that have been removed.
+
+	private final class EntryIterator implements Iterator<Map.Entry<Integer,Stack>>
+	{
+		private int _position = 0;
+
+		private final int _expectedModificationCount = _modificationCount;
+
+		public boolean hasNext()
+		{
+			checkForModification();
+
+			while ((_position < _end) && (null == _stacks[_position]))
+			{
+				_position++;
+			}
+
+			return _position < _end;
+		}
+
+		public Map.Entry<Integer,Stack> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			Map.Entry<Integer,Stack> entry =
+				new AbstractMap.SimpleImmutableEntry<Integer,Stack>(Integer.valueOf(_keys[_position]),
+				                                                    _stacks[_position]);
+
+			_position++;
+
+			return entry;
+		}
+
+		private void checkForModification()
+		{
+			if (_modificationCount != _expectedModificationCount)
+			{
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+}
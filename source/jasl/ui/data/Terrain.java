@@ -0,0 +1,159 @@
+// ************************************************************************** //
+// Terrain.java - This interface is part of the <B>ui.data</B> package, which        //
+//                contains the class definitions and implementations for      //
+//                objects used to store and manage the state of an instance   //
+//                of jASL.                                                    //
+//                                                                            //
+//                NOTE: This program is based on Advanced Squad Leader, which //
+//                      was created by The Avalon Hill Game Company, and      //
+//                      lives on at Multi-Man Publishing.                     //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+/**
+ * This interface is used to define the public constants, using an enum, and
+ * required method associated with the terrain in each hex of the playing
+ * area. Along with its label, each type of terrain specifies its effect on a
+ * line of sight (LOS) that passes through it.
+ * <P>
+ * An <I>obstacle</I> blocks any LOS that passes through its hex, while a
+ * <I>hindrance</I> adds a modifier to the fire along it. A LOS that would
+ * accumulate a hindrance modifier of six or more is blocked.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/Terrain.html">Source code</A>
+ */
+
+public interface Terrain
+{
+	// Symbolic constants
+
+	// This constant is provided primarily for use in displaying the terrain
+	// in a hex using an objects toText() method.
+
+	/**
+	 * Provides a label for the terrain in a hex : <B>Terrain</B>
+	 */
+
+	public static final String TERRAIN_LABEL = "Terrain";
+
+	/**
+	 * Recognized terrain values.
+	 */
+
+	public enum Terrains
+	{
+		/** <A NAME="_OPEN_GROUND_"></A>
+		 * Indicates that a hex contains <B>Open Ground</B>, which has no
+		 * effect on a LOS.
+		 */
+
+		OPEN_GROUND("Open Ground",0,false),
+
+		/** <A NAME="_GRAIN_"></A>
+		 * Indicates that a hex contains <B>Grain</B>, which is a hindrance.
+		 */
+
+		GRAIN("Grain",1,false),
+
+		/** <A NAME="_BRUSH_"></A>
+		 * Indicates that a hex contains <B>Brush</B>, which is a hindrance.
+		 */
+
+		BRUSH("Brush",1,false),
+
+		/** <A NAME="_ORCHARD_"></A>
+		 * Indicates that a hex contains an <B>Orchard</B>, which is a
+		 * hindrance.
+		 */
+
+		ORCHARD("Orchard",1,false),
+
+		/** <A NAME="_WOODS_"></A>
+		 * Indicates that a hex contains <B>Woods</B>, which is an obstacle.
+		 */
+
+		WOODS("Woods",0,true),
+
+		/** <A NAME="_BUILDING_"></A>
+		 * Indicates that a hex contains a <B>Building</B>, which is an
+		 * obstacle.
+		 */
+
+		BUILDING("Building",0,true);
+
+		// Private data members
+
+		// The label associated with the enum constant.
+
+		private final String _label;
+
+		// The modifier added to the fire along a LOS through the terrain,
+		// and whether or not it blocks the LOS.
+
+		private final int     _hindrance;
+		private final boolean _isObstacle;
+
+		// Constructor
+
+		Terrains(String label,int hindrance,boolean isObstacle)
+		{
+			_label      = label;
+			_hindrance  = hindrance;
+			_isObstacle = isObstacle;
+		}
+
+		// Public access methods
+
+		/**
+		 * Returns the modifier added to the fire along a LOS that passes
+		 * through the terrain.
+		 *
+		 * @return the hindrance modifier, which is zero if the terrain is
+		 * not a hindrance.
+		 */
+
+		public int hindrance()
+		{
+			return _hindrance;
+		}
+
+		/**
+		 * Indicates if the terrain blocks a LOS that passes through it.
+		 *
+		 * @return a <CODE>boolean</CODE> that is true if the terrain is an obstacle.
+		 */
+
+		public boolean isObstacle()
+		{
+			return _isObstacle;
+		}
+
+		/**
+		 * Returns the label associated with the enum constant.
+		 *
+		 * @return the <CODE>String</CODE> associated with the constant.
+		 */
+
+		public String toString()
+		{
+			return _label;
+		}
+	}
+
+	// Access methods
+
+	/**
+	 * Return the terrain in the hex at the specified position.
+	 *
+	 * @param position the position of the hex.
+	 *
+	 * @return the <CODE>Terrains</CODE> value for the hex.
+	 */
+
+	public abstract Terrains terrain(Position position);
+}
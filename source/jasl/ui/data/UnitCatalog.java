@@ -0,0 +1,183 @@
+// ************************************************************************** //
+// UnitCatalog.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import jasl.counters.Nationality.Nationalities;
+import jasl.utilities.Messages;
+
+/**
+ * This class provides the <A HREF="Designation.html">Designation</A>s of the units available to each
+ * nationality.
+ * <P>
+ * The lists are built once, when the class is loaded, and cannot be changed,
+ * so they are returned directly rather than copied, and may be shared by any
+ * number of threads.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/UnitCatalog.html">Source code</A>
+ */
+
+public final class UnitCatalog
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = UnitCatalog.class.getSimpleName();
+
+	// The leaders available to every nationality.
+
+	private static final String[] LEADERS =
+	{
+		"10-3 Leader","10-2 Leader","9-2 Leader","9-1 Leader","8-1 Leader",
+		"8-0 Leader","7-0 Leader","6+1 Leader"
+	};
+
+	// The squads available to each nationality.
+
+	private static final Map<Nationalities,String[]> SQUADS =
+		new EnumMap<Nationalities,String[]>(Nationalities.class);
+
+	static
+	{
+		SQUADS.put(Nationalities.AMERICAN,new String[] {"7-4-7 Squad","6-6-7 Squad","6-6-6 Squad","5-5-6 Squad","5-3-6 Squad"});
+		SQUADS.put(Nationalities.BRITISH,new String[] {"6-3-8 Squad","4-5-8 Squad","4-5-7 Squad","4-4-7 Squad","4-3-6 Squad"});
+		SQUADS.put(Nationalities.RUSSIAN,new String[] {"6-2-8 Squad","4-5-8 Squad","4-4-7 Squad","5-2-7 Squad","4-2-6 Squad"});
+		SQUADS.put(Nationalities.FRENCH,new String[] {"4-5-8 Squad","4-5-7 Squad","4-3-7 Squad"});
+		SQUADS.put(Nationalities.PARTISAN,new String[] {"3-3-7 Squad"});
+		SQUADS.put(Nationalities.ALLIED_MINOR,new String[] {"4-5-8 Squad","4-5-7 Squad","4-3-7 Squad"});
+		SQUADS.put(Nationalities.GERMAN,new String[] {"6-5-8 Squad","8-3-8 Squad","4-6-8 Squad","5-4-8 Squad","4-6-7 Squad","4-4-7 Squad","4-3-6 Squad"});
+		SQUADS.put(Nationalities.JAPANESE,new String[] {"4-4-8 Squad","4-4-7 Squad","3-4-8 Squad","3-4-7 Squad","3-3-6 Squad","2-3-7 Squad","2-3-6 Squad"});
+		SQUADS.put(Nationalities.ITALIAN,new String[] {"4-4-7 Squad","3-4-7 Squad","3-4-6 Squad","3-3-6 Squad"});
+		SQUADS.put(Nationalities.FINNISH,new String[] {"8-3-8 Squad","6-4-8 Squad","5-3-8 Squad"});
+		SQUADS.put(Nationalities.AXIS_MINOR,new String[] {"4-4-7 Squad","3-4-7 Squad","3-3-6 Squad"});
+	}
+
+	// Private data members
+
+	// The designations of the units available to each nationality, and the
+	// matching text.
+
+	private static final Map<Nationalities,List<Designation>> DESIGNATIONS =
+		new EnumMap<Nationalities,List<Designation>>(Nationalities.class);
+
+	private static final Map<Nationalities,List<String>> LABELS =
+		new EnumMap<Nationalities,List<String>>(Nationalities.class);
+
+	// Build the lists for each nationality, beginning with the leaders,
+	// which are shared by all of them.
+
+	static
+	{
+		List<Designation> leaders = new ArrayList<Designation>();
+
+		for (String leader : LEADERS)
+		{
+			leaders.add(Designation.parse(leader));
+		}
+
+		for (Nationalities nationality : Nationalities.values())
+		{
+			List<Designation> designations = new ArrayList<Designation>(leaders);
+			List<String> labels = new ArrayList<String>();
+
+			String[] squads = SQUADS.get(nationality);
+
+			if (null != squads)
+			{
+				for (String squad : squads)
+				{
+					designations.add(Designation.parse(squad));
+				}
+			}
+
+			for (Designation designation : designations)
+			{
+				labels.add(designation.toString());
+			}
+
+			DESIGNATIONS.put(nationality,Collections.unmodifiableList(designations));
+			LABELS.put(nationality,Collections.unmodifiableList(labels));
+		}
+	}
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private UnitCatalog()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the designations of the units available to the specified
+	 * nationality.
+	 *
+	 * @param nationality the nationality of the units.
+	 *
+	 * @return a <CODE>List</CODE> of the designations, leaders first. It cannot be
+	 * changed.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public static List<Designation> designations(Nationalities nationality)
+	{
+		return DESIGNATIONS.get(checkNationality("designations",nationality));
+	}
+
+	/**
+	 * Return the text of the designations of the units available to the
+	 * specified nationality (e.g. "4-6-7 Squad").
+	 *
+	 * @param nationality the nationality of the units.
+	 *
+	 * @return a <CODE>List</CODE> of the text, in the same order as
+	 * <A HREF="#designations(jasl.counters.Nationality.Nationalities)">designations()</A>. It cannot be changed.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public static List<String> labels(Nationalities nationality)
+	{
+		return LABELS.get(checkNationality("labels",nationality));
+	}
+
+	// Private methods
+
+	// Throw an exception if the specified nationality is null.
+
+	private static Nationalities checkNationality(String methodName,
+	                                              Nationalities nationality)
+	{
+		if (null == nationality)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return nationality;
+	}
+}
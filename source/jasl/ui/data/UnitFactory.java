@@ -0,0 +1,306 @@
+// ************************************************************************** //
+// UnitFactory.java - This class is a member of the <B>ui.data</B> package, which    //
+//                    contains the class definitions and implementations for  //
+//                    objects used to store and manage the state of an        //
+//                    instance of jASL.                                       //
+//                                                                            //
+//                    NOTE: This program is based on Advanced Squad Leader,   //
+//                          which was created by The Avalon Hill Game         //
+//                          Company, and lives on at Multi-Man Publishing.    //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.ui.data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jasl.counters.Classification.Classifications;
+import jasl.counters.Description.Descriptions;
+import jasl.counters.Leader;
+import jasl.counters.Nationality.Nationalities;
+import jasl.counters.Squad;
+import jasl.counters.Unit;
+import jasl.counters.UnitTemplate;
+import jasl.counters.UnitType.InfantryTypes;
+import jasl.utilities.Messages;
+
+/**
+ * This class is used to create the <A HREF="../../counters/Unit.html">Unit</A>s identified by their
+ * designations (e.g. "4-6-7 Squad"), such as those held by a <A HREF="Player.html">Player</A>.
+ * <P>
+ * Each designation is parsed once, and the resulting <A HREF="../../counters/UnitTemplate.html">UnitTemplate</A> for each
+ * nationality is stored, so creating a unit with a designation that has been
+ * used before only requires finding its template. Every unit created from the
+ * same designation and nationality shares that template.
+ * <P>
+ * The attributes that are not part of a designation are given the default
+ * values defined below (e.g. an experience level rating of
+ * <A HREF="#DEFAULT_ELR">DEFAULT_ELR</A>, with no special type or classification, and a broken
+ * morale matching the morale). Units with other attributes should be created
+ * directly from their classes.
+ * <P>
+ * The stored items are held in concurrent hash tables, so the methods of this
+ * class may be called by multiple threads at the same time.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jasl/ui/data/UnitFactory.html">Source code</A>
+ */
+
+public final class UnitFactory
+{
+	// Symbolic constants
+
+	/**
+	 * The experience level rating given to each unit : <B>3</B>
+	 */
+
+	public static final int DEFAULT_ELR = 3;
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = UnitFactory.class.getSimpleName();
+
+	// Private data members
+
+	// The designations that have been parsed, keyed by their text.
+
+	private static final ConcurrentHashMap<String,Designation> DESIGNATIONS =
+		new ConcurrentHashMap<String,Designation>();
+
+	// The templates that have been created for each nationality, keyed by
+	// the text of their designations.
+
+	private static final Map<Nationalities,ConcurrentHashMap<String,UnitTemplate>> TEMPLATES =
+		new EnumMap<Nationalities,ConcurrentHashMap<String,UnitTemplate>>(Nationalities.class);
+
+	// Store the designations in the catalog, which have already been
+	// parsed, and create the (empty) tables of templates. The latter are
+	// not changed after this, so the map holding them does not need to
+	// be synchronized.
+
+	static
+	{
+		for (Nationalities nationality : Nationalities.values())
+		{
+			for (Designation designation : UnitCatalog.designations(nationality))
+			{
+				DESIGNATIONS.putIfAbsent(designation.toString(),designation);
+			}
+
+			TEMPLATES.put(nationality,new ConcurrentHashMap<String,UnitTemplate>());
+		}
+	}
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private UnitFactory()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the parsed form of the specified designation. The designation
+	 * is only parsed the first time that it is received.
+	 *
+	 * @param designation the designation of a squad or leader.
+	 * Example - <B>"4-6-7 Squad"</B>
+	 *
+	 * @return the (shared) <CODE>Designation</CODE>.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of text that is not the
+	 * designation of a squad or leader.
+	 */
+
+	public static Designation designation(String designation)
+	{
+		if (null == designation)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "designation",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		Designation parsedDesignation = DESIGNATIONS.get(designation);
+
+		if (null == parsedDesignation)
+		{
+			parsedDesignation = Designation.parse(designation);
+
+			Designation existingDesignation =
+				DESIGNATIONS.putIfAbsent(designation,parsedDesignation);
+
+			if (null != existingDesignation)
+			{
+				parsedDesignation = existingDesignation;
+			}
+		}
+
+		return parsedDesignation;
+	}
+
+	/**
+	 * Return the template of a unit with the specified nationality and
+	 * designation.
+	 *
+	 * @param nationality the nationality of the unit.
+	 * @param designation the designation of a squad or leader.
+	 *
+	 * @return the (shared) <CODE>UnitTemplate</CODE>.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of text that is not the
+	 * designation of a squad or leader, or values that are not valid for
+	 * the type of unit.
+	 */
+
+	public static UnitTemplate template(Nationalities nationality,
+	                                    String designation)
+	{
+		if ((null == nationality) || (null == designation))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "template",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		ConcurrentHashMap<String,UnitTemplate> templates = TEMPLATES.get(nationality);
+
+		UnitTemplate template = templates.get(designation);
+
+		// A template created by another thread at the same time is the
+		// same (shared) instance, so the result does not need to be
+		// checked.
+
+		if (null == template)
+		{
+			template = createTemplate(nationality,designation(designation));
+
+			templates.putIfAbsent(designation,template);
+		}
+
+		return template;
+	}
+
+	/**
+	 * Create a unit with the specified nationality and designation.
+	 *
+	 * @param nationality the nationality of the unit.
+	 * @param designation the designation of a squad or leader.
+	 * Example - <B>"9-2 Leader"</B>
+	 *
+	 * @return the new <CODE>Unit</CODE> (a Squad or Leader).
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of text that is not the
+	 * designation of a squad or leader, or values that are not valid for
+	 * the type of unit.
+	 */
+
+	public static Unit create(Nationalities nationality,String designation)
+	{
+		return create(template(nationality,designation));
+	}
+
+	/**
+	 * Create a unit for each of the specified designations.
+	 *
+	 * @param nationality the nationality of the units.
+	 * @param designations the designations of the units.
+	 *
+	 * @return an <CODE>ArrayList</CODE> of the new units, in the same order as the
+	 * designations.
+	 *
+	 * @throws NullPointerException in the case of a null argument or a null
+	 * designation.
+	 * @throws IllegalArgumentException in the case of a designation that is
+	 * not valid.
+	 */
+
+	public static ArrayList<Unit> create(Nationalities nationality,
+	                                     List<String> designations)
+	{
+		if (null == designations)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "create",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		ArrayList<Unit> units = new ArrayList<Unit>(designations.size());
+
+		for (String designation : designations)
+		{
+			units.add(create(template(nationality,designation)));
+		}
+
+		return units;
+	}
+
+	/**
+	 * Create a unit for each of the designations held by the specified
+	 * player, with the nationality of the player.
+	 *
+	 * @param player the player.
+	 *
+	 * @return an <CODE>ArrayList</CODE> of the new units, in the same order as
+	 * <A HREF="Player.html#unitList()">Player.unitList()</A>.
+	 *
+	 * @throws NullPointerException in the case of a null argument or a
+	 * player without a nationality.
+	 * @throws IllegalArgumentException in the case of a designation that is
+	 * not valid.
+	 */
+
+	public static ArrayList<Unit> create(Player player)
+	{
+		if (null == player)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "create",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return create(player.nationalityType(),player.unitList());
+	}
+
+	// Private methods
+
+	// Create a unit with the specified template.
+
+	private static Unit create(UnitTemplate template)
+	{
+		return (Descriptions.LEADER == template.description()) ?
+		       new Leader(template) : new Squad(template);
+	}
+
+	// Create the template of a unit with the specified nationality and
+	// designation, using the default values for the other attributes.
+
+	private static UnitTemplate createTemplate(Nationalities nationality,
+	                                           Designation designation)
+	{
+		if (Descriptions.LEADER == designation.description())
+		{
+			return Leader.template(nationality,InfantryTypes.NONE,
+			                       designation.morale(),designation.morale(),
+			                       DEFAULT_ELR,designation.modifier());
+		}
+
+		return Squad.template(nationality,InfantryTypes.NONE,
+		                      designation.firepower(),designation.normalRange(),
+		                      designation.morale(),designation.morale(),false,0,
+		                      DEFAULT_ELR,false,Classifications.NONE,false,false,
+		                      0);
+	}
+}
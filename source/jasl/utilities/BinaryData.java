@@ -0,0 +1,81 @@
+// ************************************************************************** //
+// BinaryData.java - This interface is part of the <B>utilities</B> package, which   //
+//                   contains the definitions of interfaces and objects used  //
+//                   to support the classes more directly associated with the //
+//                   game itself.                                             //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface is used to define the methods used to generate and read a
+ * compact binary representation of an instance of a public class in one of
+ * the other jasl packages.
+ * <P>
+ * The format is written and read explicitly, field by field, rather than
+ * through the reflection used by Java serialization. All multi-byte values
+ * are little-endian. The entry points for converting an object to and from a
+ * byte array, including the header that identifies the format and its version,
+ * are the encode() and decode() methods in <B><A HREF="Serialization.html">Serialization</A></B>.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/utilities/BinaryData.html">Source code</A>
+ */
+
+public interface BinaryData
+{
+	// Access methods
+
+	/**
+	 * Write the binary representation of an instance of a class that
+	 * implements this interface to the specified buffer, beginning at its
+	 * current position.
+	 * <P>
+	 * The byte order of the buffer is expected to have been set to
+	 * little-endian by the caller.
+	 *
+	 * @param buffer the destination of the data.
+	 *
+	 * @throws java.nio.BufferOverflowException in the case where the
+	 * buffer does not have enough space remaining.
+	 */
+
+	public abstract void encode(ByteBuffer buffer);
+
+	// Binary data conversion interface
+
+	/**
+	 * This interface is implemented by the item responsible for creating
+	 * new instances of a class (or class hierarchy) from the data written by
+	 * its encode() method.
+	 *
+	 * @param <T> the type of object created.
+	 */
+
+	public interface Decoder<T>
+	{
+		/**
+		 * Create an object from the data in the specified buffer,
+		 * beginning at its current position.
+		 *
+		 * @param buffer the source of the data, with its byte order set
+		 * to little-endian.
+		 * @param version the version of the format in which the data
+		 * was written.
+		 *
+		 * @return the new object.
+		 *
+		 * @throws IllegalArgumentException in the case of data that is
+		 * not valid for the object being created.
+		 * @throws java.nio.BufferUnderflowException in the case of
+		 * incomplete data.
+		 */
+
+		public abstract T decode(ByteBuffer buffer,int version);
+	}
+}
@@ -15,12 +15,15 @@
 
 package jasl.utilities;
 
+import java.io.IOException;
+import java.util.SplittableRandom;
+
 /**
  * This is a utility class used to provide the simulated result(s) of rolling
  * one to three six sided dice.
  *
- * @version 4.0
- * @author Copyright (C) 1999-2022 Craig R. Campbell (craigonic@gmail.com)
+ * @version 5.0
+ * @author Copyright (C) 1999-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../source/jasl/utilities/Dice.html">Source code</A>
  */
 
@@ -30,11 +33,29 @@ public final class Dice
 
 	// These constants are used to define the minimum and maximum possible
 	// result values for a single die. The MAX_ROLL constant is also used in
-	// the constructor to set the maximum random value.
+	// roll() to set the maximum random value.
 
 	private static final int MIN_ROLL = 1;
 	private static final int MAX_ROLL = 6;
 
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = Dice.class.getSimpleName();
+
+	// The random number generator of each thread, which is used when one
+	// is not specified by the calling program. Each one is created with a
+	// different seed the first time that it is used by its thread.
+
+	private static final ThreadLocal<SplittableRandom> THREAD_GENERATOR =
+		new ThreadLocal<SplittableRandom>()
+		{
+			protected SplittableRandom initialValue()
+			{
+				return new SplittableRandom();
+			}
+		};
+
 	// Private data members
 
 	// This variable contains the result of rolling the white die.
@@ -54,59 +75,58 @@ public final class Dice
 
 	private int _subsequentDieValue;
 
-	// Constructor
+	// Constructors
 
 	/**
 	 * Construct a new <CODE>Dice</CODE> instance.
 	 * <P>
-	 * When the object is created, all three dice are "rolled" automatically.
+	 * When the object is created, all three dice are "rolled" automatically,
+	 * using the random number generator of the current thread.
 	 */
 
 	public Dice()
 	{
-		// Roll the white die.
-
-		int tmpResult = (int)Math.ceil(Math.random() * MAX_ROLL);
-
-		// Check the result and assert if it does not fall within the
-		// expected range.
-
-		assert((tmpResult >= MIN_ROLL) && (tmpResult <= MAX_ROLL));
-
-		// Copy the result to the _whiteDieValue member variable.
-
-		_whiteDieValue = tmpResult;
-
-		// Roll the colored die.
-
-		tmpResult = (int)Math.ceil(Math.random() * MAX_ROLL);
+		this(THREAD_GENERATOR.get());
+	}
 
-		// Check the result and assert if it does not fall within the
-		// expected range.
+	/**
+	 * Construct a new <CODE>Dice</CODE> instance, using the specified random number
+	 * generator.
+	 * <P>
+	 * When the object is created, all three dice are "rolled" automatically.
+	 * The white die is rolled first, followed by the colored and subsequent
+	 * dice, so a generator created with a specific seed always produces
+	 * the same sequence of results. A generator is not thread-safe, so it
+	 * should not be shared between threads; use split() to create a
+	 * generator for each thread instead.
+	 *
+	 * @param generator the source of the random values.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
 
-		assert((tmpResult >= MIN_ROLL) && (tmpResult <= MAX_ROLL));
+	public Dice(SplittableRandom generator)
+	{
+		// Check the argument received and throw an exception if
+		// necessary.
 
-		// Copy the result to the _coloredDieValue member variable.
+		if (null == generator)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
 
-		_coloredDieValue = tmpResult;
+		// Roll the white and colored dice, and sum the results.
 
-		// Sum the white and colored dice rolls and copy the value to
-		// the _combinedResult member variable.
+		_whiteDieValue   = roll(generator);
+		_coloredDieValue = roll(generator);
 
-		_combinedResult = _whiteDieValue + _coloredDieValue;
+		_combinedResult  = _whiteDieValue + _coloredDieValue;
 
 		// Roll the subsequent die.
 
-		tmpResult = (int)Math.ceil(Math.random() * MAX_ROLL);
-
-		// Check the result and assert if it does not fall within the
-		// expected range.
-
-		assert((tmpResult >= MIN_ROLL) && (tmpResult <= MAX_ROLL));
-
-		// Copy the result to the _subsequentDieValue member variable.
-
-		_subsequentDieValue = tmpResult;
+		_subsequentDieValue = roll(generator);
 	}
 
 	// Public access methods
@@ -132,45 +152,45 @@ public final class Dice
 		int    LABEL_WIDTH           = 20;
 		int    VALUE_WIDTH           =  5;
 
-		// Create a buffer to store the string to be returned,
-		// initializing it with the values that define the header.
-
-		StringBuffer returnString = new StringBuffer();
+		// Create a buffer to store the string to be returned, and write
+		// the information describing the data stored in this class
+		// instance to it.
 
-		// Add the information describing the data stored in this class
-		// instance.
+		StringBuilder returnString = new StringBuilder();
+		TextWriter    textWriter   = new TextWriter(returnString);
 
-		// White Die
+		try
+		{
+			// White Die
 
-		returnString.append(Messages.formatTextString(WHITE_DIE_LABEL,
-		                    LABEL_WIDTH,true,false));
+			textWriter.writeLabel(WHITE_DIE_LABEL,LABEL_WIDTH);
+			textWriter.writeValue(whiteDieValue(),VALUE_WIDTH,false);
 
-		returnString.append(Messages.formatTextString(Integer.toString(whiteDieValue()),
-		                    VALUE_WIDTH,false,false));
+			// Colored Die
 
-		// Colored Die
+			textWriter.writeLabel(COLORED_DIE_LABEL,LABEL_WIDTH);
+			textWriter.writeValue(coloredDieValue(),VALUE_WIDTH,false);
 
-		returnString.append(Messages.formatTextString(COLORED_DIE_LABEL,
-		                    LABEL_WIDTH,true,false));
+			// Combined Result
 
-		returnString.append(Messages.formatTextString(Integer.toString(coloredDieValue()),
-		                    VALUE_WIDTH,false,false));
+			textWriter.writeLabel(COMBINED_RESULT_LABEL,LABEL_WIDTH);
+			textWriter.writeValue(combinedResult(),VALUE_WIDTH,false);
 
-		// Combined Result
+			// Subsequent Die
 
-		returnString.append(Messages.formatTextString(COMBINED_RESULT_LABEL,
-		                    LABEL_WIDTH,true,false));
+			textWriter.writeLabel(SUBSEQUENT_DIE_LABEL,LABEL_WIDTH);
+			textWriter.writeValue(subsequentDieValue(),VALUE_WIDTH,true);
+		}
 
-		returnString.append(Messages.formatTextString(Integer.toString(combinedResult()),
-		                    VALUE_WIDTH,false,false));
+		catch (IOException exception)
+		{
+			// A StringBuilder does not generate I/O errors, but the
+			// exception must be handled regardless.
 
-		// Subsequent Die
-
-		returnString.append(Messages.formatTextString(SUBSEQUENT_DIE_LABEL,
-		                    LABEL_WIDTH,true,false));
-
-		returnString.append(Messages.formatTextString(Integer.toString(subsequentDieValue()),
-		                    VALUE_WIDTH,false,true));
+			throw new IllegalStateException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                           "toText",
+			                                                           exception.getMessage()));
+		}
 
 		// Return the completed string to calling program.
 
@@ -222,4 +242,146 @@ public final class Dice
 	{
 		return _subsequentDieValue;
 	}
+
+	/**
+	 * Indicate if the specified value is a possible result of rolling a
+	 * single die.
+	 *
+	 * @param value the value to be checked.
+	 *
+	 * @return a <CODE>boolean</CODE> indicating if the value is from 1 to 6.
+	 */
+
+	public static boolean isValidDieValue(int value)
+	{
+		return (value >= MIN_ROLL) && (value <= MAX_ROLL);
+	}
+
+	// Batch methods
+
+	/**
+	 * Roll a single die using the specified random number generator.
+	 * <P>
+	 * No objects are created. The white, colored, and subsequent dice
+	 * rolled in that order (by successive calls) match those of a
+	 * <CODE>Dice</CODE> instance created with the same generator in the same state.
+	 *
+	 * @param generator the source of the random values.
+	 *
+	 * @return an <CODE>int</CODE> specifying the die value.
+	 *
+	 * @throws NullPointerException in the case of a null generator.
+	 */
+
+	public static int rollDie(SplittableRandom generator)
+	{
+		if (null == generator)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "rollDie",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return roll(generator);
+	}
+
+	/**
+	 * Roll the dice the specified number of times, storing the results in
+	 * the arrays supplied by the caller, using the random number generator
+	 * of the current thread.
+	 * <P>
+	 * No objects are created, making this method suitable for simulations
+	 * that require large numbers of rolls.
+	 *
+	 * @param white the array that the white die values are stored in.
+	 * @param colored the array that the colored die values are stored in.
+	 * @param subsequent the array that the subsequent die values are stored
+	 * in.
+	 * @param count the number of rolls, stored in the first count entries
+	 * of each array.
+	 *
+	 * @throws NullPointerException in the case of a null array.
+	 * @throws IllegalArgumentException in the case of a negative count or
+	 * one greater than the length of any of the arrays.
+	 */
+
+	public static void rollInto(int[] white,int[] colored,int[] subsequent,
+	                            int count)
+	{
+		rollInto(THREAD_GENERATOR.get(),white,colored,subsequent,count);
+	}
+
+	/**
+	 * Roll the dice the specified number of times, storing the results in
+	 * the arrays supplied by the caller, using the specified random number
+	 * generator.
+	 * <P>
+	 * No objects are created, making this method suitable for simulations
+	 * that require large numbers of rolls. The dice are rolled in the same
+	 * order as the constructor, so the results at each index match those of
+	 * a <CODE>Dice</CODE> instance created with the same generator in the same state.
+	 *
+	 * @param generator the source of the random values.
+	 * @param white the array that the white die values are stored in.
+	 * @param colored the array that the colored die values are stored in.
+	 * @param subsequent the array that the subsequent die values are stored
+	 * in.
+	 * @param count the number of rolls, stored in the first count entries
+	 * of each array.
+	 *
+	 * @throws NullPointerException in the case of a null generator or
+	 * array.
+	 * @throws IllegalArgumentException in the case of a negative count or
+	 * one greater than the length of any of the arrays.
+	 */
+
+	public static void rollInto(SplittableRandom generator,int[] white,
+	                            int[] colored,int[] subsequent,int count)
+	{
+		// Define local constants.
+
+		String METHOD_NAME = "rollInto";
+
+		// Check the arguments received and throw the appropriate
+		// exception if necessary.
+
+		if ((null == generator) || (null == white) || (null == colored) ||
+		    (null == subsequent))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if ((count < 0) || (count > white.length) ||
+		    (count > colored.length) || (count > subsequent.length))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + count));
+		}
+
+		for (int i = 0;i < count;i++)
+		{
+			white[i]      = roll(generator);
+			colored[i]    = roll(generator);
+			subsequent[i] = roll(generator);
+		}
+	}
+
+	// Private methods
+
+	// Roll a single die using the specified generator.
+
+	private static int roll(SplittableRandom generator)
+	{
+		int result = generator.nextInt(MIN_ROLL,MAX_ROLL + 1);
+
+		// Check the result and assert if it does not fall within the
+		// expected range.
+
+		assert((result >= MIN_ROLL) && (result <= MAX_ROLL));
+
+		return result;
+	}
 }
@@ -0,0 +1,211 @@
+// ************************************************************************** //
+// DiceProbability.java - This class is part of the <B>utilities</B> package, which  //
+//                        contains the definitions of objects used to support //
+//                        the classes more directly associated with the game  //
+//                        itself.                                             //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.utilities;
+
+/**
+ * This class provides the exact probabilities of the results produced by
+ * <A HREF="Dice.html">Dice</A>, so that the odds of an action can be determined without rolling
+ * the dice repeatedly.
+ * <P>
+ * Each probability is derived from the number of ways that the result can be
+ * rolled, out of the 36 equally likely combinations of the white and colored
+ * dice (or the 6 values of the subsequent die). These counts are stored in
+ * tables that are built when the class is loaded, so each method is a table
+ * access. The counts are also available directly, for calculations that need
+ * to be exact.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/utilities/DiceProbability.html">Source code</A>
+ */
+
+public final class DiceProbability
+{
+	// Symbolic constants
+
+	/**
+	 * The number of equally likely combinations of the white and colored
+	 * dice : <B>36</B>
+	 */
+
+	public static final int COMBINATIONS = 36;
+
+	/**
+	 * The lowest combined result of the white and colored dice : <B>2</B>
+	 */
+
+	public static final int MIN_COMBINED_RESULT = 2;
+
+	/**
+	 * The highest combined result of the white and colored dice : <B>12</B>
+	 */
+
+	public static final int MAX_COMBINED_RESULT = 12;
+
+	// The number of sides on each die.
+
+	private static final int SIDES = 6;
+
+	// The number of ways of rolling each combined result, and the number
+	// of ways of rolling that result or less, indexed by the result.
+
+	private static final int[] COMBINED_RESULT_WAYS = new int[MAX_COMBINED_RESULT + 1];
+	private static final int[] AT_MOST_WAYS         = new int[MAX_COMBINED_RESULT + 1];
+
+	// Build the tables by counting each combination of the dice.
+
+	static
+	{
+		for (int white = 1;white <= SIDES;white++)
+		{
+			for (int colored = 1;colored <= SIDES;colored++)
+			{
+				COMBINED_RESULT_WAYS[white + colored]++;
+			}
+		}
+
+		for (int result = 1;result <= MAX_COMBINED_RESULT;result++)
+		{
+			AT_MOST_WAYS[result] = AT_MOST_WAYS[result - 1] + COMBINED_RESULT_WAYS[result];
+		}
+	}
+
+	// Constructor
+
+	// This class only contains static methods, so it is not instantiated.
+
+	private DiceProbability()
+	{
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the number of ways of rolling the specified combined result of
+	 * the white and colored dice.
+	 *
+	 * @param result the combined result.
+	 *
+	 * @return the number of combinations (out of <A HREF="#COMBINATIONS">COMBINATIONS</A>) that produce the
+	 * result, which is zero if it cannot be rolled.
+	 */
+
+	public static int combinedResultWays(int result)
+	{
+		return ((result < MIN_COMBINED_RESULT) || (result > MAX_COMBINED_RESULT)) ?
+		       0 : COMBINED_RESULT_WAYS[result];
+	}
+
+	/**
+	 * Return the probability of rolling the specified combined result of the
+	 * white and colored dice.
+	 *
+	 * @param result the combined result.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 */
+
+	public static double combinedResult(int result)
+	{
+		return (double)combinedResultWays(result) / COMBINATIONS;
+	}
+
+	/**
+	 * Return the number of ways of rolling a combined result of the white
+	 * and colored dice that does not exceed the specified value.
+	 *
+	 * @param result the highest combined result included.
+	 *
+	 * @return the number of combinations (out of <A HREF="#COMBINATIONS">COMBINATIONS</A>).
+	 */
+
+	public static int atMostWays(int result)
+	{
+		if (result < MIN_COMBINED_RESULT) return 0;
+
+		return AT_MOST_WAYS[Math.min(result,MAX_COMBINED_RESULT)];
+	}
+
+	/**
+	 * Return the probability of rolling a combined result of the white and
+	 * colored dice that does not exceed the specified value.
+	 *
+	 * @param result the highest combined result included.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 */
+
+	public static double atMost(int result)
+	{
+		return (double)atMostWays(result) / COMBINATIONS;
+	}
+
+	/**
+	 * Return the probability of rolling a combined result of the white and
+	 * colored dice that is at least the specified value.
+	 *
+	 * @param result the lowest combined result included.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 */
+
+	public static double atLeast(int result)
+	{
+		return (double)(COMBINATIONS - atMostWays(result - 1)) / COMBINATIONS;
+	}
+
+	/**
+	 * Return the probability of rolling the specified value on the
+	 * subsequent die.
+	 *
+	 * @param value the value of the die.
+	 *
+	 * @return the probability, which is 1/6 for a value from 1 to 6 and
+	 * zero otherwise.
+	 */
+
+	public static double subsequentDieValue(int value)
+	{
+		return ((value < 1) || (value > SIDES)) ? 0.0 : (1.0 / SIDES);
+	}
+
+	/**
+	 * Return the probability of passing a check, in which the combined
+	 * result of the white and colored dice plus a modifier must not exceed
+	 * a target value, such as the morale level of a unit. This matches the
+	 * resolution of <A HREF="../counters/Infantry.html#check(int, jasl.utilities.Dice)">Infantry.check()</A> and
+	 * <A HREF="../counters/Infantry.html#restore(boolean, int, jasl.utilities.Dice)">Infantry.restore()</A>.
+	 *
+	 * @param target the highest final dice roll that passes.
+	 * @param modifier the dice roll modifier (DRM) for the check.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 */
+
+	public static double passes(int target,int modifier)
+	{
+		return atMost(target - modifier);
+	}
+
+	/**
+	 * Return the probability of failing a check, as described for
+	 * <A HREF="#passes(int, int)">passes()</A>.
+	 *
+	 * @param target the highest final dice roll that passes.
+	 * @param modifier the dice roll modifier (DRM) for the check.
+	 *
+	 * @return the probability, from 0.0 to 1.0.
+	 */
+
+	public static double fails(int target,int modifier)
+	{
+		return (double)(COMBINATIONS - atMostWays(target - modifier)) / COMBINATIONS;
+	}
+}
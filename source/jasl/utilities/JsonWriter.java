@@ -0,0 +1,422 @@
+// ************************************************************************** //
+// JsonWriter.java - This class is part of the <B>utilities</B> package, which       //
+//                   contains the definitions of objects used to support the  //
+//                   classes more directly associated with the game itself.   //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * This class is used to generate JSON output directly to a destination
+ * supplied by the caller, an <CODE>Appendable</CODE> (e.g. <CODE>StringBuilder</CODE> or <CODE>Writer</CODE>)
+ * or a <CODE>ByteBuffer</CODE>, rather than assembling intermediate strings.
+ * <P>
+ * For plain text, the output matches that produced with the constants and
+ * helper methods in <B><A HREF="JsonData.html">JsonData</A></B>. Unlike those, string values (and names)
+ * are escaped properly, so any quotation marks, backslashes, or control
+ * characters that they contain are written as escape sequences (e.g. \").
+ * Object entries are separated automatically, so an implementation of
+ * toJSON() only needs to start the object, write each name/value pair, and
+ * end it. Text written to a <CODE>ByteBuffer</CODE> is encoded as UTF-8.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/utilities/JsonWriter.html">Source code</A>
+ */
+
+public final class JsonWriter
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = JsonWriter.class.getSimpleName();
+
+	// These are used to write the boolean values and the escaped forms of
+	// control characters.
+
+	private static final String TRUE_VALUE  = "true";
+	private static final String FALSE_VALUE = "false";
+
+	private static final String HEX_DIGITS  = "0123456789abcdef";
+
+	// Private data members
+
+	// Only one of these will be set, determined by the constructor used to
+	// create an instance of this class.
+
+	private Appendable _appendable;
+	private ByteBuffer _byteBuffer;
+
+	// This variable is used to determine if a separator is to be written
+	// before the next name/value pair.
+
+	private boolean _firstPair = true;
+
+	// Constructors
+
+	/**
+	 * Construct a new <CODE>JsonWriter</CODE> that appends its output to the specified
+	 * item.
+	 *
+	 * @param appendable the destination of the output (<CODE>StringBuilder</CODE>,
+	 * <CODE>Writer</CODE>, etc.).
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public JsonWriter(Appendable appendable)
+	{
+		if (null == appendable)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_appendable = appendable;
+	}
+
+	/**
+	 * Construct a new <CODE>JsonWriter</CODE> that puts its (UTF-8 encoded) output
+	 * into the specified buffer, beginning at its current position.
+	 *
+	 * @param byteBuffer the destination of the output.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public JsonWriter(ByteBuffer byteBuffer)
+	{
+		if (null == byteBuffer)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_byteBuffer = byteBuffer;
+	}
+
+	// Output methods
+
+	/**
+	 * Write the text indicating the beginning of an object container.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 * @throws java.nio.BufferOverflowException in the case of a
+	 * <CODE>ByteBuffer</CODE> destination without enough space remaining.
+	 */
+
+	public void beginObject() throws IOException
+	{
+		write(JsonData.JSON_OBJECT_START);
+
+		_firstPair = true;
+	}
+
+	/**
+	 * Write the text indicating the end of an object container.
+	 *
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 * @throws java.nio.BufferOverflowException in the case of a
+	 * <CODE>ByteBuffer</CODE> destination without enough space remaining.
+	 */
+
+	public void endObject() throws IOException
+	{
+		write(JsonData.JSON_OBJECT_END);
+	}
+
+	/**
+	 * Write a JSON name/value pair that includes the specified arguments,
+	 * preceded by a separator if it is not the first one in the object.
+	 *
+	 * @param indent the text (spaces) written before the name.
+	 * @param name the name associated with the entry.
+	 * @param value the value as a String.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of an empty (zero
+	 * length) name.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writePair(String indent,String name,String value)
+		throws IOException
+	{
+		// Check the value argument received and throw an exception if
+		// it is null. The validity of the other arguments will be
+		// checked in writeName().
+
+		if (null == value)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "writePair (String value)",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		writeName(indent,name);
+
+		write(JsonData.JSON_KEY_STRING_VALUE_SEPARATOR);
+		writeEscaped(value);
+		write(JsonData.JSON_DOUBLE_QUOTE);
+	}
+
+	/**
+	 * Write a JSON name/value pair that includes the specified arguments,
+	 * preceded by a separator if it is not the first one in the object.
+	 *
+	 * @param indent the text (spaces) written before the name.
+	 * @param name the name associated with the entry.
+	 * @param value the value as an integer.
+	 *
+	 * @throws NullPointerException in the case of a null indent or name.
+	 * @throws IllegalArgumentException in the case of an empty (zero
+	 * length) name.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writePair(String indent,String name,int value)
+		throws IOException
+	{
+		writeName(indent,name);
+
+		write(JsonData.JSON_KEY_OTHER_VALUE_SEPARATOR);
+		writeInt(value);
+	}
+
+	/**
+	 * Write a JSON name/value pair that includes the specified arguments,
+	 * preceded by a separator if it is not the first one in the object.
+	 *
+	 * @param indent the text (spaces) written before the name.
+	 * @param name the name associated with the entry.
+	 * @param value the value as a double.
+	 *
+	 * @throws NullPointerException in the case of a null indent or name.
+	 * @throws IllegalArgumentException in the case of an empty (zero
+	 * length) name.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writePair(String indent,String name,double value)
+		throws IOException
+	{
+		writeName(indent,name);
+
+		write(JsonData.JSON_KEY_OTHER_VALUE_SEPARATOR);
+		write(Double.toString(value));
+	}
+
+	/**
+	 * Write a JSON name/value pair that includes the specified arguments,
+	 * preceded by a separator if it is not the first one in the object.
+	 *
+	 * @param indent the text (spaces) written before the name.
+	 * @param name the name associated with the entry.
+	 * @param value the value as a boolean.
+	 *
+	 * @throws NullPointerException in the case of a null indent or name.
+	 * @throws IllegalArgumentException in the case of an empty (zero
+	 * length) name.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writePair(String indent,String name,boolean value)
+		throws IOException
+	{
+		writeName(indent,name);
+
+		write(JsonData.JSON_KEY_OTHER_VALUE_SEPARATOR);
+		write(value ? TRUE_VALUE : FALSE_VALUE);
+	}
+
+	// Private methods
+
+	// Write the separator (if necessary), indent, and name of a name/value
+	// pair, after checking the validity of the arguments.
+
+	private void writeName(String indent,String name) throws IOException
+	{
+		// Define local constants.
+
+		String METHOD_NAME = "writeName";
+
+		// Check the arguments received and throw the appropriate
+		// exception if necessary.
+
+		if ((null == indent) || (null == name))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (name.isEmpty())
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.ZERO_LENGTH_PARAMETER_MSG));
+		}
+
+		if (!_firstPair)
+		{
+			write(JsonData.JSON_OBJECT_SEPARATOR);
+		}
+
+		_firstPair = false;
+
+		write(indent);
+		write(JsonData.JSON_DOUBLE_QUOTE);
+		writeEscaped(name);
+	}
+
+	// Write the digits of an integer value one at a time, avoiding the
+	// creation of a temporary string.
+
+	private void writeInt(int value) throws IOException
+	{
+		if (value < 0)
+		{
+			write('-');
+		}
+
+		// Work with a negative value so that the minimum int value does
+		// not overflow.
+
+		int negativeValue = (value < 0) ? value : -value;
+		int divisor       = 1;
+
+		while (negativeValue / divisor <= -10)
+		{
+			divisor *= 10;
+		}
+
+		while (divisor > 0)
+		{
+			write((char)('0' - (negativeValue / divisor)));
+
+			negativeValue %= divisor;
+			divisor       /= 10;
+		}
+	}
+
+	// Write a string value, escaping the characters that may not appear
+	// unchanged within a JSON string. The text between those characters is
+	// written in runs rather than one character at a time.
+
+	private void writeEscaped(String text) throws IOException
+	{
+		int runStart = 0;
+
+		for (int i = 0;i < text.length();i++)
+		{
+			char character = text.charAt(i);
+
+			if (('"' != character) && ('\\' != character) &&
+			    (character >= ' '))
+			{
+				continue;
+			}
+
+			write(text,runStart,i);
+
+			if (character < ' ')
+			{
+				write("\\u00");
+				write(HEX_DIGITS.charAt(character >> 4));
+				write(HEX_DIGITS.charAt(character & 0xF));
+			}
+
+			else
+			{
+				write('\\');
+				write(character);
+			}
+
+			runStart = i + 1;
+		}
+
+		write(text,runStart,text.length());
+	}
+
+	// Write text to the destination unchanged.
+
+	private void write(String text) throws IOException
+	{
+		write(text,0,text.length());
+	}
+
+	// Write part of a string to the destination unchanged, encoding it as
+	// UTF-8 in the case of a ByteBuffer.
+
+	private void write(String text,int start,int end) throws IOException
+	{
+		if (null != _appendable)
+		{
+			_appendable.append(text,start,end);
+			return;
+		}
+
+		for (int i = start;i < end;i++)
+		{
+			int codePoint = text.codePointAt(i);
+
+			if (codePoint < 0x80)
+			{
+				_byteBuffer.put((byte)codePoint);
+			}
+
+			else if (codePoint < 0x800)
+			{
+				_byteBuffer.put((byte)(0xC0 | (codePoint >> 6)));
+				_byteBuffer.put((byte)(0x80 | (codePoint & 0x3F)));
+			}
+
+			else if (codePoint < 0x10000)
+			{
+				_byteBuffer.put((byte)(0xE0 | (codePoint >> 12)));
+				_byteBuffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+				_byteBuffer.put((byte)(0x80 | (codePoint & 0x3F)));
+			}
+
+			else
+			{
+				_byteBuffer.put((byte)(0xF0 | (codePoint >> 18)));
+				_byteBuffer.put((byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+				_byteBuffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+				_byteBuffer.put((byte)(0x80 | (codePoint & 0x3F)));
+
+				i++; // Skip the second half of the surrogate pair.
+			}
+		}
+	}
+
+	// Write a single (ASCII) character to the destination.
+
+	private void write(char character) throws IOException
+	{
+		if (null != _appendable)
+		{
+			_appendable.append(character);
+		}
+
+		else
+		{
+			_byteBuffer.put((byte)character);
+		}
+	}
+}
@@ -0,0 +1,394 @@
+// ************************************************************************** //
+// SaveGameStore.java - This class is part of the <B>utilities</B> package, which    //
+//                      contains the definitions of objects used to support   //
+//                      the classes more directly associated with the game    //
+//                      itself.                                               //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.utilities;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class is used to store objects that implement <B><A HREF="BinaryData.html">BinaryData</A></B> (e.g. the
+ * counters in a game) in a file, each in a fixed size record identified by
+ * its index.
+ * <P>
+ * The file is mapped into memory, so an object is copied directly to its
+ * record, replacing the previous contents, and only the pages of the file
+ * containing the records that have been changed are written back to the
+ * storage device. An object is read directly from the mapped memory, and the
+ * contents of a record can be accessed without copying them.
+ * <P>
+ * The file begins with a header specifying the size and number of the
+ * records, followed by the records, each of which consists of the length of
+ * the data it contains (zero if it is empty) and the data written by
+ * <A HREF="Serialization.html#encode(jasl.utilities.BinaryData, java.nio.ByteBuffer)">Serialization.encode()</A>.
+ * <P>
+ * An instance of this class should not be shared by multiple threads without
+ * external synchronization.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/utilities/SaveGameStore.html">Source code</A>
+ */
+
+public final class SaveGameStore implements Closeable
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = SaveGameStore.class.getSimpleName();
+
+	// The values written at the start of the file to identify it. The
+	// identifier is the text "JSGS" (little-endian).
+
+	private static final int STORE_ID      = 0x5347534A;
+	private static final int STORE_VERSION = 1;
+
+	// The size of the header, and of the length that precedes the data in
+	// each record.
+
+	private static final int HEADER_SIZE        = 16;
+	private static final int RECORD_LENGTH_SIZE = 4;
+
+	// This string is used as the detail of the message for the exception
+	// thrown when an existing file is not a store with the same layout.
+
+	private static final String INVALID_STORE_MSG =
+		"Not a save game store with the specified record size and capacity : ";
+
+	// Private data members
+
+	// The file, and the memory that it is mapped to.
+
+	private final FileChannel      _channel;
+	private final MappedByteBuffer _buffer;
+
+	// The maximum size of the data in each record, and the number of
+	// records.
+
+	private final int _recordSize;
+	private final int _capacity;
+
+	// The buffer that an object is encoded into before it is copied to its
+	// record, so that the record is not changed if the data does not fit.
+
+	private final ByteBuffer _scratch;
+
+	// Constructor
+
+	/**
+	 * Construct a new <CODE>SaveGameStore</CODE>, opening the specified file, or
+	 * creating it if it does not exist.
+	 *
+	 * @param filename the name of the file.
+	 * @param recordSize the maximum size (in bytes) of the encoded data for
+	 * each object, including the header written by Serialization.encode().
+	 * @param capacity the number of records in the file.
+	 *
+	 * @throws NullPointerException in the case of a null file name.
+	 * @throws IllegalArgumentException in the case of a zero length file
+	 * name, a record size or capacity that is less than 1 or too large for
+	 * the file to be mapped, or an existing file with a different record
+	 * size or capacity.
+	 * @throws IOException in the case of an error opening or mapping the
+	 * file.
+	 */
+
+	public SaveGameStore(String filename,int recordSize,int capacity)
+		throws IOException
+	{
+		if (null == filename)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		if (filename.isEmpty())
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.ZERO_LENGTH_PARAMETER_MSG));
+		}
+
+		long fileSize = HEADER_SIZE + ((long)(RECORD_LENGTH_SIZE + recordSize) * capacity);
+
+		if ((recordSize < 1) || (capacity < 1) || (fileSize > Integer.MAX_VALUE))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              Messages.CONSTRUCTOR,
+			                                                              Messages.INVALID_PARAMETER_MSG +
+			                                                              recordSize + Messages.AND_SEPARATOR + capacity));
+		}
+
+		_recordSize = recordSize;
+		_capacity   = capacity;
+		_scratch    = ByteBuffer.allocate(recordSize);
+
+		_channel = FileChannel.open(Paths.get(filename),StandardOpenOption.CREATE,
+		                            StandardOpenOption.READ,StandardOpenOption.WRITE);
+
+		try
+		{
+			boolean isNew = (0 == _channel.size());
+
+			if (!isNew && (_channel.size() != fileSize))
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              Messages.CONSTRUCTOR,
+				                                                              INVALID_STORE_MSG + filename));
+			}
+
+			_buffer = _channel.map(FileChannel.MapMode.READ_WRITE,0,fileSize);
+
+			_buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+			if (isNew)
+			{
+				_buffer.putInt(0,STORE_ID);
+				_buffer.putInt(4,STORE_VERSION);
+				_buffer.putInt(8,recordSize);
+				_buffer.putInt(12,capacity);
+			}
+
+			else if ((_buffer.getInt(0) != STORE_ID) ||
+			         (_buffer.getInt(4) != STORE_VERSION) ||
+			         (_buffer.getInt(8) != recordSize) ||
+			         (_buffer.getInt(12) != capacity))
+			{
+				throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+				                                                              Messages.CONSTRUCTOR,
+				                                                              INVALID_STORE_MSG + filename));
+			}
+		}
+
+		catch (IOException | RuntimeException exception)
+		{
+			_channel.close();
+
+			throw exception;
+		}
+	}
+
+	// Public access methods
+
+	/**
+	 * Return the maximum size of the data in each record.
+	 *
+	 * @return the record size, in bytes.
+	 */
+
+	public int recordSize()
+	{
+		return _recordSize;
+	}
+
+	/**
+	 * Return the number of records in the store.
+	 *
+	 * @return the number of records.
+	 */
+
+	public int capacity()
+	{
+		return _capacity;
+	}
+
+	/**
+	 * Indicate if the record with the specified index contains an object.
+	 *
+	 * @param index the index of the record.
+	 *
+	 * @return a <CODE>boolean</CODE> that is true if the record is not empty.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 */
+
+	public boolean contains(int index)
+	{
+		return _buffer.getInt(recordOffset("contains",index)) > 0;
+	}
+
+	/**
+	 * Return a read only view of the data in the record with the specified
+	 * index. The data is not copied, so the view reflects any later changes
+	 * to the record.
+	 *
+	 * @param index the index of the record.
+	 *
+	 * @return a <CODE>ByteBuffer</CODE> containing the encoded data, which is empty if
+	 * the record is.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 */
+
+	public ByteBuffer record(int index)
+	{
+		int offset = recordOffset("record",index);
+
+		return region(offset + RECORD_LENGTH_SIZE,_buffer.getInt(offset)).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Create an object from the data in the record with the specified
+	 * index, reading it directly from the mapped file.
+	 *
+	 * @param <T> the type of object created.
+	 * @param index the index of the record.
+	 * @param decoder the item used to create the object from the data.
+	 *
+	 * @return the object created, or null if the record is empty.
+	 *
+	 * @throws NullPointerException in the case of a null decoder.
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 * @throws IllegalArgumentException in the case of data that is not
+	 * valid for the object being created.
+	 */
+
+	public <T> T read(int index,BinaryData.Decoder<T> decoder)
+	{
+		ByteBuffer data = record(index);
+
+		return data.hasRemaining() ? Serialization.decode(data,decoder) : null;
+	}
+
+	// Update methods
+
+	/**
+	 * Write an object to the record with the specified index, replacing its
+	 * previous contents. The data is encoded into a buffer belonging to the
+	 * store, and then copied to the mapped file.
+	 *
+	 * @param index the index of the record.
+	 * @param object the object to be written.
+	 *
+	 * @throws NullPointerException in the case of a null object.
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 * @throws IllegalArgumentException in the case of an object whose
+	 * encoded data is larger than the record size. The record is not
+	 * changed.
+	 */
+
+	public void write(int index,BinaryData object)
+	{
+		String METHOD_NAME = "write";
+
+		if (null == object)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		int offset = recordOffset(METHOD_NAME,index);
+
+		// Encode the object before the record is changed, so that its
+		// previous contents are kept if the data does not fit.
+
+		_scratch.clear();
+
+		try
+		{
+			Serialization.encode(object,_scratch);
+		}
+
+		catch (BufferOverflowException exception)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + index));
+		}
+
+		_scratch.flip();
+
+		// Mark the record as empty while it is copied, so that it is not
+		// left with a length that does not match its data.
+
+		_buffer.putInt(offset,0);
+
+		region(offset + RECORD_LENGTH_SIZE,_recordSize).put(_scratch);
+
+		_buffer.putInt(offset,_scratch.limit());
+	}
+
+	/**
+	 * Empty the record with the specified index.
+	 *
+	 * @param index the index of the record.
+	 *
+	 * @throws IndexOutOfBoundsException in the case of an invalid index.
+	 */
+
+	public void remove(int index)
+	{
+		_buffer.putInt(recordOffset("remove",index),0);
+	}
+
+	/**
+	 * Write the records that have been changed to the storage device.
+	 * This is done automatically by the operating system over time, and
+	 * when the store is closed.
+	 */
+
+	public void force()
+	{
+		_buffer.force();
+	}
+
+	/**
+	 * Write the records that have been changed to the storage device and
+	 * close the file. The store cannot be used after it is closed.
+	 *
+	 * @throws IOException in the case of an error closing the file.
+	 */
+
+	public void close() throws IOException
+	{
+		_buffer.force();
+		_channel.close();
+	}
+
+	// Private methods
+
+	// Return the offset in the file of the record with the specified index,
+	// throwing an exception if it is not valid.
+
+	private int recordOffset(String methodName,int index)
+	{
+		if ((index < 0) || (index >= _capacity))
+		{
+			throw new IndexOutOfBoundsException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                               methodName,
+			                                                               Messages.INVALID_PARAMETER_MSG + index));
+		}
+
+		return HEADER_SIZE + (index * (RECORD_LENGTH_SIZE + _recordSize));
+	}
+
+	// Return a buffer sharing the specified part of the mapped file. The
+	// position and limit of the mapped buffer itself are not changed.
+
+	private ByteBuffer region(int offset,int length)
+	{
+		ByteBuffer region = _buffer.duplicate();
+
+		region.position(offset);
+		region.limit(offset + length);
+
+		return region.slice();
+	}
+}
@@ -9,6 +9,8 @@
 
 package jasl.utilities;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -16,13 +18,24 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * This class provides static methods used to serialize a specified object into
  * a file or a byte array, as well as to read one of these and deserialize the
  * contents into an object.
+ * <P>
+ * In addition to Java serialization, it provides methods to encode and decode
+ * objects that implement <B><A HREF="BinaryData.html">BinaryData</A></B>, using a compact versioned binary
+ * format. For a file of such objects that is updated in place, see
+ * <A HREF="SaveGameStore.html">SaveGameStore</A>.
  *
- * @version 2.0
+ * @version 2.1
  * @author Copyright (C) 2013-2016 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../source/jasl/utilities/Serialization.html">Source code</A>
  */
@@ -31,8 +44,42 @@ public final class Serialization
 {
 	// Symbolic constants
 
+	/**
+	 * The current version of the binary format written by encode().
+	 * Version 2 stores the values that have no upper limit (e.g. the
+	 * normal range of a squad) as <CODE>int</CODE> values. Data written in version 1
+	 * can still be decoded.
+	 */
+
+	public static final int BINARY_FORMAT_VERSION = 2;
+
 	private static final String CLASS_NAME = "Serialization";
 
+	// These values are used in the header that precedes the data written
+	// by encode(). The identifier is the text "JASL" (little-endian).
+
+	private static final int BINARY_FORMAT_ID = 0x4C53414A;
+
+	private static final int BINARY_HEADER_SIZE = 6;
+
+	// This is the initial size of the buffer used by encode(). It is
+	// large enough for any of the counters. The size is doubled, and the
+	// data written again, if it is not.
+
+	private static final int INITIAL_BUFFER_SIZE = 128;
+
+	// These strings are used as the details of the messages for exceptions
+	// thrown while decoding binary data.
+
+	private static final String NOT_BINARY_DATA_MSG =
+		"Unrecognized binary data format.";
+
+	private static final String UNSUPPORTED_VERSION_MSG =
+		"Unsupported binary data version : ";
+
+	private static final String INCOMPLETE_DATA_MSG =
+		"Incomplete binary data.";
+
 	// Public static methods
 
 	/**
@@ -77,7 +124,7 @@ public final class Serialization
 		try
 		{
 			ObjectOutputStream objectOutputStream =
-				new ObjectOutputStream(new FileOutputStream(filename));
+				new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(filename)));
 			objectOutputStream.writeObject(object);
 			objectOutputStream.close();
 		}
@@ -181,7 +228,7 @@ public final class Serialization
 		try
 		{
 			ObjectInputStream objectInputStream =
-				new ObjectInputStream(new FileInputStream(filename));
+				new ObjectInputStream(new BufferedInputStream(new FileInputStream(filename)));
 			object = objectInputStream.readObject();
 			objectInputStream.close();
 		}
@@ -251,4 +298,280 @@ public final class Serialization
 
 		return object;
 	}
+
+	/**
+	 * Encode the specified object into a byte array, using the compact
+	 * binary format defined by its implementation of <B><A HREF="BinaryData.html">BinaryData</A></B>.
+	 * <P>
+	 * The data is preceded by a header identifying the format and its
+	 * version.
+	 *
+	 * @param object the object to be encoded.
+	 *
+	 * @return a <CODE>byte[]</CODE> array containing the encoded data.
+	 *
+	 * @throws NullPointerException in the case of a null object.
+	 *
+	 * @see #decode(byte[],BinaryData.Decoder)
+	 */
+
+	public static final byte[] encode(BinaryData object)
+	{
+		// Check the argument received and throw an exception if
+		// necessary.
+
+		if (null == object)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "encode",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		// Write the data to a buffer, making it larger and starting
+		// over if it is not large enough.
+
+		for (int bufferSize = INITIAL_BUFFER_SIZE;;bufferSize *= 2)
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+
+			try
+			{
+				encode(object,buffer);
+
+				return Arrays.copyOf(buffer.array(),buffer.position());
+			}
+
+			catch (BufferOverflowException exception)
+			{
+				continue;
+			}
+		}
+	}
+
+	/**
+	 * Encode the specified object into a buffer, beginning at its current
+	 * position, using the compact binary format defined by its
+	 * implementation of <B><A HREF="BinaryData.html">BinaryData</A></B>.
+	 * <P>
+	 * The data is preceded by a header identifying the format and its
+	 * version. The byte order of the buffer is set to little-endian.
+	 *
+	 * @param object the object to be encoded.
+	 * @param buffer the destination of the encoded data.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws BufferOverflowException in the case where the buffer does
+	 * not have enough space remaining.
+	 *
+	 * @see #decode(ByteBuffer,BinaryData.Decoder)
+	 */
+
+	public static final void encode(BinaryData object,ByteBuffer buffer)
+	{
+		// Check the arguments received and throw an exception if
+		// necessary.
+
+		if ((null == object) || (null == buffer))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "encode",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(BINARY_FORMAT_ID);
+		buffer.putShort((short)BINARY_FORMAT_VERSION);
+
+		object.encode(buffer);
+	}
+
+	/**
+	 * Create an object from the data in the specified byte array, which
+	 * was generated by encode().
+	 *
+	 * @param <T> the type of object created.
+	 * @param byteArray the byte array containing the encoded data.
+	 * @param decoder the item used to create the object from the data that
+	 * follows the header.
+	 *
+	 * @return the object created from the encoded data.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of data that is not in
+	 * the expected format, is incomplete, or is not valid for the object
+	 * being created.
+	 *
+	 * @see #encode(BinaryData)
+	 */
+
+	public static final <T> T decode(byte[] byteArray,
+	                                 BinaryData.Decoder<T> decoder)
+	{
+		// Check the argument received and throw an exception if
+		// necessary. The decoder will be checked below.
+
+		if (null == byteArray)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "decode",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		return decode(ByteBuffer.wrap(byteArray),decoder);
+	}
+
+	/**
+	 * Create an object from the data in the specified buffer, beginning at
+	 * its current position, which was generated by encode().
+	 * <P>
+	 * The byte order of the buffer is set to little-endian, and its
+	 * position is advanced past the data that was read.
+	 *
+	 * @param <T> the type of object created.
+	 * @param buffer the buffer containing the encoded data.
+	 * @param decoder the item used to create the object from the data that
+	 * follows the header.
+	 *
+	 * @return the object created from the encoded data.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of data that is not in
+	 * the expected format, is incomplete, or is not valid for the object
+	 * being created.
+	 *
+	 * @see #encode(BinaryData,ByteBuffer)
+	 */
+
+	public static final <T> T decode(ByteBuffer buffer,
+	                                 BinaryData.Decoder<T> decoder)
+	{
+		// Define local constants.
+
+		String METHOD_NAME = "decode";
+
+		// Check the arguments received and throw an exception if
+		// necessary.
+
+		if ((null == buffer) || (null == decoder))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		if ((buffer.remaining() < BINARY_HEADER_SIZE) ||
+		    (buffer.getInt() != BINARY_FORMAT_ID))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              NOT_BINARY_DATA_MSG));
+		}
+
+		int version = buffer.getShort();
+
+		if ((version < 1) || (version > BINARY_FORMAT_VERSION))
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              UNSUPPORTED_VERSION_MSG + version));
+		}
+
+		try
+		{
+			return decoder.decode(buffer,version);
+		}
+
+		catch (BufferUnderflowException exception)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              INCOMPLETE_DATA_MSG));
+		}
+	}
+
+	/**
+	 * Write a string to the specified buffer in the form used by the binary
+	 * format, a 2 byte (unsigned) length followed by the UTF-8 encoded text.
+	 * <P>
+	 * This method is intended for use by implementations of
+	 * <B><A HREF="BinaryData.html">BinaryData</A></B>.encode().
+	 *
+	 * @param buffer the destination of the data.
+	 * @param text the string to be written.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws IllegalArgumentException in the case of a string longer than
+	 * 65535 bytes (encoded).
+	 * @throws BufferOverflowException in the case where the buffer does
+	 * not have enough space remaining.
+	 *
+	 * @see #getString
+	 */
+
+	public static final void putString(ByteBuffer buffer,String text)
+	{
+		// Define local constants.
+
+		String METHOD_NAME = "putString";
+
+		// Check the arguments received and throw the appropriate
+		// exception if necessary.
+
+		if ((null == buffer) || (null == text))
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          METHOD_NAME,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+
+		if (textBytes.length > 0xFFFF)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              METHOD_NAME,
+			                                                              Messages.INVALID_PARAMETER_MSG + textBytes.length));
+		}
+
+		buffer.putShort((short)textBytes.length);
+		buffer.put(textBytes);
+	}
+
+	/**
+	 * Read a string, written by putString(), from the specified buffer.
+	 * <P>
+	 * This method is intended for use by implementations of
+	 * <B><A HREF="BinaryData.html">BinaryData</A></B>.Decoder.decode().
+	 *
+	 * @param buffer the source of the data.
+	 *
+	 * @return the <CODE>String</CODE> read from the buffer.
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 * @throws BufferUnderflowException in the case of incomplete data.
+	 *
+	 * @see #putString
+	 */
+
+	public static final String getString(ByteBuffer buffer)
+	{
+		// Check the argument received and throw an exception if
+		// necessary.
+
+		if (null == buffer)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          "getString",
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		byte[] textBytes = new byte[buffer.getShort() & 0xFFFF];
+
+		buffer.get(textBytes);
+
+		return new String(textBytes,StandardCharsets.UTF_8);
+	}
 }
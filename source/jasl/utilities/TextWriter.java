@@ -0,0 +1,252 @@
+// ************************************************************************** //
+// TextWriter.java - This class is part of the <B>utilities</B> package, which       //
+//                   contains the definitions of objects used to support the  //
+//                   classes more directly associated with the game itself.   //
+//                                                                            //
+// Written By: Craig R. Campbell  -  October 2026                             //
+// ************************************************************************** //
+
+package jasl.utilities;
+
+import java.io.IOException;
+
+/**
+ * This class is used to generate tabular text output directly to a
+ * destination supplied by the caller, an <CODE>Appendable</CODE> (e.g. <CODE>StringBuilder</CODE>
+ * or <CODE>Writer</CODE>), rather than assembling intermediate strings.
+ * <P>
+ * Each label or value is written in a column of a specified width, and the
+ * output is identical to that produced by appending the result of
+ * <A HREF="Messages.html#formatTextString(java.lang.String, int, boolean, boolean)">Messages.formatTextString()</A> for each of them. Integer values are written
+ * without being converted to strings first.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../source/jasl/utilities/TextWriter.html">Source code</A>
+ */
+
+public final class TextWriter
+{
+	// Symbolic constants
+
+	// This constant is used as part of the error messages (see below) that
+	// are generated when an exception is thrown.
+
+	private static final String CLASS_NAME = TextWriter.class.getSimpleName();
+
+	// The minimum width of a column, which must have room for the
+	// separator and the trailing space.
+
+	private static final int MIN_COLUMN_WIDTH = 2;
+
+	// The characters written after a label, between columns, and at the
+	// end of a line.
+
+	private static final char SEPARATOR = ':';
+	private static final char SPACE     = ' ';
+	private static final char NEW_LINE  = '\n';
+
+	// Private data members
+
+	// The destination of the output.
+
+	private final Appendable _appendable;
+
+	// Constructor
+
+	/**
+	 * Construct a new <CODE>TextWriter</CODE> that appends its output to the specified
+	 * item.
+	 *
+	 * @param appendable the destination of the output (<CODE>StringBuilder</CODE>,
+	 * <CODE>Writer</CODE>, etc.).
+	 *
+	 * @throws NullPointerException in the case of a null argument.
+	 */
+
+	public TextWriter(Appendable appendable)
+	{
+		if (null == appendable)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          Messages.CONSTRUCTOR,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		_appendable = appendable;
+	}
+
+	// Output methods
+
+	/**
+	 * Write a label, followed by a ":" and a space, in a column of the
+	 * specified width.
+	 *
+	 * @param label the text of the label.
+	 * Example - "Description"
+	 * @param columnWidth the width of the column.
+	 * Example - 20
+	 *
+	 * @throws NullPointerException in the case of a null label.
+	 * @throws IllegalArgumentException in the case of a column width that
+	 * is less than 2.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writeLabel(String label,int columnWidth) throws IOException
+	{
+		write("writeLabel",label,columnWidth,true,false);
+	}
+
+	/**
+	 * Write a value, followed by a space, in a column of the specified
+	 * width.
+	 *
+	 * @param value the text of the value.
+	 * @param columnWidth the width of the column.
+	 * @param addNewLine indicates if a newline should be written after the
+	 * column.
+	 *
+	 * @throws NullPointerException in the case of a null value.
+	 * @throws IllegalArgumentException in the case of a column width that
+	 * is less than 2.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writeValue(String value,int columnWidth,boolean addNewLine)
+		throws IOException
+	{
+		write("writeValue",value,columnWidth,false,addNewLine);
+	}
+
+	/**
+	 * Write a value, followed by a space, in a column of the specified
+	 * width.
+	 *
+	 * @param value the value, which is written in decimal.
+	 * @param columnWidth the width of the column.
+	 * @param addNewLine indicates if a newline should be written after the
+	 * column.
+	 *
+	 * @throws IllegalArgumentException in the case of a column width that
+	 * is less than 2.
+	 * @throws IOException in the case of an error writing to the
+	 * destination.
+	 */
+
+	public void writeValue(int value,int columnWidth,boolean addNewLine)
+		throws IOException
+	{
+		String METHOD_NAME = "writeValue";
+
+		checkColumnWidth(METHOD_NAME,columnWidth);
+
+		// Count the characters in the value. If they will not all fit
+		// in the column, which is unlikely, let the text version handle
+		// the truncation.
+
+		int length = (value < 0) ? 2 : 1;
+
+		for (long remainder = Math.abs((long)value) / 10;remainder > 0;remainder /= 10)
+		{
+			length++;
+		}
+
+		if (length > (columnWidth - 1))
+		{
+			write(METHOD_NAME,Integer.toString(value),columnWidth,false,addNewLine);
+
+			return;
+		}
+
+		if (value < 0)
+		{
+			_appendable.append('-');
+		}
+
+		// Write the digits, beginning with the most significant one.
+
+		long magnitude = Math.abs((long)value);
+		long divisor   = 1;
+
+		while ((divisor * 10) <= magnitude)
+		{
+			divisor *= 10;
+		}
+
+		for (;divisor > 0;divisor /= 10)
+		{
+			_appendable.append((char)('0' + ((magnitude / divisor) % 10)));
+		}
+
+		finishColumn(length,columnWidth,false,addNewLine);
+	}
+
+	// Private methods
+
+	// Write the specified text in a column of the specified width,
+	// truncating it if necessary, in the same way as formatTextString().
+
+	private void write(String methodName,String text,int columnWidth,
+	                   boolean isALabel,boolean addNewLine)
+		throws IOException
+	{
+		if (null == text)
+		{
+			throw new NullPointerException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                          methodName,
+			                                                          Messages.NULL_PARAMETER_MSG));
+		}
+
+		checkColumnWidth(methodName,columnWidth);
+
+		// The last character of the column is always a space, and the
+		// one before it is replaced by the separator for a label.
+
+		int length = Math.min(text.length(),isALabel ? (columnWidth - 2) :
+		                                               (columnWidth - 1));
+
+		_appendable.append(text,0,length);
+
+		finishColumn(length,columnWidth,isALabel,addNewLine);
+	}
+
+	// Pad the column, which has the specified number of characters written
+	// to it, to the specified width.
+
+	private void finishColumn(int length,int columnWidth,boolean isALabel,
+	                          boolean addNewLine)
+		throws IOException
+	{
+		for (int index = length;index < (columnWidth - 2);index++)
+		{
+			_appendable.append(SPACE);
+		}
+
+		if (length < (columnWidth - 1))
+		{
+			_appendable.append(isALabel ? SEPARATOR : SPACE);
+		}
+
+		_appendable.append(SPACE);
+
+		if (addNewLine)
+		{
+			_appendable.append(NEW_LINE);
+		}
+	}
+
+	// Throw an exception if the specified column width is too small.
+
+	private static void checkColumnWidth(String methodName,int columnWidth)
+	{
+		if (columnWidth < MIN_COLUMN_WIDTH)
+		{
+			throw new IllegalArgumentException(Messages.buildErrorMessage(CLASS_NAME,
+			                                                              methodName,
+			                                                              Messages.INVALID_PARAMETER_MSG + columnWidth));
+		}
+	}
+}
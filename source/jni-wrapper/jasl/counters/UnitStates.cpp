@@ -0,0 +1,273 @@
+/**
+ * \file UnitStates.cpp
+ *
+ * This file defines a class intended to give C++ programs direct access to
+ * the attributes and current state of a number of units, which are written to
+ * a buffer by the <A HREF="../../../jasl/counters/UnitState.html">UnitState</A> class, which is implemented in Java.
+ *
+ * Written By: Craig R. Campbell  -  October 2026
+ */
+
+#include "UnitStates.h"
+
+#include "jasl/jni/JniWrapper.h"
+
+#include <assert.h>
+
+// These values match the constants of the same names in UnitState.
+
+namespace
+{
+	const int RECORD_SIZE           = 16;
+
+	const int DESCRIPTION_OFFSET    = 0;
+	const int NATIONALITY_OFFSET    = 1;
+	const int INFANTRY_TYPE_OFFSET  = 2;
+	const int CLASSIFICATION_OFFSET = 3;
+	const int FIREPOWER_OFFSET      = 4;
+	const int NORMAL_RANGE_OFFSET   = 5;
+	const int MORALE_OFFSET         = 6;
+	const int BROKEN_MORALE_OFFSET  = 7;
+	const int MOVEMENT_OFFSET       = 8;
+	const int PORTAGE_LEVEL_OFFSET  = 9;
+	const int PORTAGE_VALUE_OFFSET  = 10;
+	const int MODIFIER_OFFSET       = 11;
+	const int ELR_OFFSET            = 12;
+	const int CAPABILITIES_OFFSET   = 13;
+	const int STATUS_OFFSET         = 14;
+
+	const int CAN_SELF_RALLY        = 0x01;
+	const int HAS_MAXIMUM_ELR       = 0x02;
+	const int CAN_ASSAULT_FIRE      = 0x04;
+	const int CAN_SPRAY_FIRE        = 0x08;
+}
+
+// Constructor.
+
+UnitStates::UnitStates(int capacity) :
+	_javaClass(javaClass()),
+	_buffer(nullptr),
+	_records(nullptr),
+	_capacity(capacity),
+	_size(0)
+{
+	const jobject localBuffer =
+		jniEnv().CallStaticObjectMethod(_javaClass.unitStateClass,
+		                                _javaClass.allocateID,capacity);
+	assert(nullptr != localBuffer);
+
+	_buffer = jniEnv().NewGlobalRef(localBuffer);
+	assert(nullptr != _buffer);
+
+	jniEnv().DeleteLocalRef(localBuffer);
+
+	// The contents of a direct buffer are not moved by the garbage
+	// collector, so the address remains valid while the buffer is
+	// referenced.
+
+	_records = static_cast<const signed char*>(jniEnv().GetDirectBufferAddress(_buffer));
+	assert((nullptr != _records) || (0 == capacity));
+}
+
+// Destructor.
+
+UnitStates::~UnitStates()
+{
+	jniEnv().DeleteGlobalRef(_buffer);
+}
+
+// update: Write the records for the units in the specified Java List.
+
+int UnitStates::update(jobject units) noexcept
+{
+	_size = jniEnv().CallStaticIntMethod(_javaClass.unitStateClass,
+	                                     _javaClass.encodeID,units,_buffer);
+	assert(!jniEnv().ExceptionCheck());
+
+	return _size;
+}
+
+// capacity: Return the number of units that can be held.
+
+int UnitStates::capacity() const noexcept
+{
+	return _capacity;
+}
+
+// size: Return the number of units written by the last call to update().
+
+int UnitStates::size() const noexcept
+{
+	return _size;
+}
+
+// descriptionType: Return the basic type of the specified unit.
+
+Descriptions UnitStates::descriptionType(int index) const noexcept
+{
+	return Descriptions(value(index,DESCRIPTION_OFFSET));
+}
+
+// nationality: Return the nationality of the specified unit.
+
+Nationalities UnitStates::nationality(int index) const noexcept
+{
+	return Nationalities(value(index,NATIONALITY_OFFSET));
+}
+
+// infantryType: Return the infantry type of the specified unit.
+
+int UnitStates::infantryType(int index) const noexcept
+{
+	return value(index,INFANTRY_TYPE_OFFSET);
+}
+
+// classification: Return the classification of the specified unit.
+
+int UnitStates::classification(int index) const noexcept
+{
+	return value(index,CLASSIFICATION_OFFSET);
+}
+
+// firepowerEquivalent: Return the firepower equivalent of the specified unit.
+
+int UnitStates::firepowerEquivalent(int index) const noexcept
+{
+	return value(index,FIREPOWER_OFFSET);
+}
+
+// normalRange: Return the normal range of the specified unit.
+
+int UnitStates::normalRange(int index) const noexcept
+{
+	return value(index,NORMAL_RANGE_OFFSET);
+}
+
+// morale: Return the morale of the specified unit.
+
+int UnitStates::morale(int index) const noexcept
+{
+	return value(index,MORALE_OFFSET);
+}
+
+// brokenMorale: Return the broken morale of the specified unit.
+
+int UnitStates::brokenMorale(int index) const noexcept
+{
+	return value(index,BROKEN_MORALE_OFFSET);
+}
+
+// movement: Return the movement of the specified unit.
+
+int UnitStates::movement(int index) const noexcept
+{
+	return value(index,MOVEMENT_OFFSET);
+}
+
+// portageLevel: Return the portage level of the specified unit.
+
+int UnitStates::portageLevel(int index) const noexcept
+{
+	return value(index,PORTAGE_LEVEL_OFFSET);
+}
+
+// portageValue: Return the portage value of the specified unit.
+
+int UnitStates::portageValue(int index) const noexcept
+{
+	return value(index,PORTAGE_VALUE_OFFSET);
+}
+
+// modifier: Return the leadership modifier of the specified unit.
+
+int UnitStates::modifier(int index) const noexcept
+{
+	return value(index,MODIFIER_OFFSET);
+}
+
+// experienceLevelRating: Return the experience level rating of the specified
+//                        unit.
+
+int UnitStates::experienceLevelRating(int index) const noexcept
+{
+	return value(index,ELR_OFFSET);
+}
+
+// statusMask: Return the status of the specified unit, which is stored as a
+//             little-endian short.
+
+int UnitStates::statusMask(int index) const noexcept
+{
+	return (value(index,STATUS_OFFSET) & 0xFF) |
+	       ((value(index,STATUS_OFFSET + 1) & 0xFF) << 8);
+}
+
+// canSelfRally: Return true if the specified unit can self rally.
+
+bool UnitStates::canSelfRally(int index) const noexcept
+{
+	return 0 != (value(index,CAPABILITIES_OFFSET) & CAN_SELF_RALLY);
+}
+
+// hasMaximumELR: Return true if the specified unit has a maximum ELR.
+
+bool UnitStates::hasMaximumELR(int index) const noexcept
+{
+	return 0 != (value(index,CAPABILITIES_OFFSET) & HAS_MAXIMUM_ELR);
+}
+
+// canAssaultFire: Return true if the specified unit can assault fire.
+
+bool UnitStates::canAssaultFire(int index) const noexcept
+{
+	return 0 != (value(index,CAPABILITIES_OFFSET) & CAN_ASSAULT_FIRE);
+}
+
+// canSprayFire: Return true if the specified unit can spray fire.
+
+bool UnitStates::canSprayFire(int index) const noexcept
+{
+	return 0 != (value(index,CAPABILITIES_OFFSET) & CAN_SPRAY_FIRE);
+}
+
+// value: Return the value at the specified offset in the record of the
+//        specified unit.
+
+signed char UnitStates::value(int index,int offset) const noexcept
+{
+	assert((index >= 0) && (index < _size));
+
+	return _records[(index * RECORD_SIZE) + offset];
+}
+
+// JavaClass constructor: Locate the "wrapped" class and the IDs of its
+//                        methods.
+
+UnitStates::JavaClass::JavaClass()
+{
+	const jclass localClass = jniEnv().FindClass("jasl/counters/UnitState");
+	assert(nullptr != localClass);
+
+	unitStateClass = static_cast<jclass>(jniEnv().NewGlobalRef(localClass));
+	assert(nullptr != unitStateClass);
+
+	jniEnv().DeleteLocalRef(localClass);
+
+	allocateID = jniEnv().GetStaticMethodID(unitStateClass,"allocate",
+	                                        "(I)Ljava/nio/ByteBuffer;");
+	assert(nullptr != allocateID);
+
+	encodeID = jniEnv().GetStaticMethodID(unitStateClass,"encode",
+	                                      "(Ljava/util/List;Ljava/nio/ByteBuffer;)I");
+	assert(nullptr != encodeID);
+}
+
+// javaClass: Create (if it does not already exist) the one and only instance of
+//            the items used to access the "wrapped" class and return a
+//            reference to it.
+
+const UnitStates::JavaClass& UnitStates::javaClass()
+{
+	static const JavaClass instance;
+	return instance;
+}
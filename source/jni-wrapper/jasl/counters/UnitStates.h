@@ -0,0 +1,289 @@
+/**
+ * \file UnitStates.h
+ *
+ * This file declares a class intended to give C++ programs direct access to
+ * the attributes and current state of a number of units, which are written to
+ * a buffer by the <A HREF="../../../jasl/counters/UnitState.html">UnitState</A> class, which is implemented in Java.
+ *
+ * Written By: Craig R. Campbell  -  October 2026
+ */
+
+#pragma once
+
+#include <jni.h>
+
+#include "Descriptions.h"
+#include "Nationalities.h"
+
+/**
+ * \brief <A HREF="../../../jasl/counters/UnitState.html">UnitState</A> class JNI (Java Native Interface) wrapper.
+ *
+ * This class holds a direct buffer, created by its namesake, which contains a
+ * fixed size record for each of a number of units. The records for all of
+ * the units are written by a single call to the Java code in update(), and
+ * the access methods read them in place, without any further interaction with
+ * the JVM. This is done through the <A HREF="../../JniWrapper.h.html">JniWrapper</A>, which provides a JVM to
+ * execute the library code.
+ *
+ * The index argument of each access method is the position of the unit in
+ * the list passed to update(), and must be less than size().
+ *
+ * Note that all interactions with the JVM are expected to work, so in the event
+ * of failure, the program will assert.
+ *
+ * @version 1.0
+ * @author Copyright (C) 2026 Craig R. Campbell (craigonic@gmail.com)
+ * @see <A HREF="../../../../source/jni-wrapper/jasl/counters/UnitStates.h.html">Source code</A>
+ */
+
+class UnitStates final
+{
+	public:
+
+		/**
+		 * \brief The value returned for an item that does not apply
+		 * to a unit (e.g. the leadership modifier of a squad).
+		 *
+		 * This matches <A HREF="../../../jasl/counters/UnitState.html#NOT_APPLICABLE">UnitState.NOT_APPLICABLE</A>, and is not a
+		 * valid value for any item.
+		 */
+
+		static constexpr int NOT_APPLICABLE = -128;
+
+		/**
+		 * \brief Constructor.
+		 *
+		 * The constructor creates a buffer large enough for the
+		 * specified number of units.
+		 */
+
+		explicit UnitStates(int capacity);
+
+		/**
+		 * \brief Destructor.
+		 *
+		 * The buffer is <B>not</B> automatically freed through garbage
+		 * collection until the virtual machine (managed by the
+		 * JniWrapper) is informed, which is done here.
+		 */
+
+		~UnitStates();
+
+		// Disable the generation of a copy constructor and "="
+		// operator.
+
+		UnitStates(UnitStates& unitStates) = delete;
+		UnitStates& operator=(const UnitStates& unitStates) = delete;
+
+		/**
+		 * \brief Write the records for the units in the specified
+		 * Java List, replacing the existing ones.
+		 *
+		 * The number of units must not exceed capacity(). The return
+		 * value is the number of records written.
+		 */
+
+		int update(jobject units) noexcept;
+
+		/**
+		 * \brief Return the number of units that can be held.
+		 */
+
+		int capacity() const noexcept;
+
+		/**
+		 * \brief Return the number of units written by the last call
+		 * to update().
+		 */
+
+		int size() const noexcept;
+
+		/**
+		 * \brief Return the basic type of the specified unit.
+		 */
+
+		Descriptions descriptionType(int index) const noexcept;
+
+		/**
+		 * \brief Return the nationality of the specified unit.
+		 */
+
+		Nationalities nationality(int index) const noexcept;
+
+		/**
+		 * \brief Return the infantry type of the specified unit.
+		 *
+		 * The value matches a member of the <A HREF="InfantryTypes.h.html">InfantryTypes</A> enum. It is
+		 * returned as an int because that header cannot be included
+		 * with Classifications.h, as both of them declare NONE.
+		 */
+
+		int infantryType(int index) const noexcept;
+
+		/**
+		 * \brief Return the classification of the specified unit.
+		 *
+		 * The value matches a member of the <A HREF="Classifications.h.html">Classifications</A> enum, and
+		 * is NOT_APPLICABLE for a unit other than a squad or
+		 * half-squad.
+		 */
+
+		int classification(int index) const noexcept;
+
+		/**
+		 * \brief Return the firepower equivalent of the specified unit.
+		 */
+
+		int firepowerEquivalent(int index) const noexcept;
+
+		/**
+		 * \brief Return the normal range of the specified unit.
+		 */
+
+		int normalRange(int index) const noexcept;
+
+		/**
+		 * \brief Return the morale of the specified unit.
+		 */
+
+		int morale(int index) const noexcept;
+
+		/**
+		 * \brief Return the broken morale of the specified unit.
+		 */
+
+		int brokenMorale(int index) const noexcept;
+
+		/**
+		 * \brief Return the movement of the specified unit.
+		 */
+
+		int movement(int index) const noexcept;
+
+		/**
+		 * \brief Return the portage level of the specified unit.
+		 */
+
+		int portageLevel(int index) const noexcept;
+
+		/**
+		 * \brief Return the portage value of the specified unit.
+		 */
+
+		int portageValue(int index) const noexcept;
+
+		/**
+		 * \brief Return the leadership modifier of the specified unit.
+		 *
+		 * The value is NOT_APPLICABLE for a unit other than a leader.
+		 */
+
+		int modifier(int index) const noexcept;
+
+		/**
+		 * \brief Return the experience level rating of the specified
+		 * unit.
+		 */
+
+		int experienceLevelRating(int index) const noexcept;
+
+		/**
+		 * \brief Return the status (a combination of the <A HREF="../../../jasl/counters/Status.html">States</A>
+		 * masks) of the specified unit.
+		 */
+
+		int statusMask(int index) const noexcept;
+
+		/**
+		 * \brief Return true if the specified unit can self rally.
+		 */
+
+		bool canSelfRally(int index) const noexcept;
+
+		/**
+		 * \brief Return true if the specified unit has a maximum ELR.
+		 */
+
+		bool hasMaximumELR(int index) const noexcept;
+
+		/**
+		 * \brief Return true if the specified unit can assault fire.
+		 */
+
+		bool canAssaultFire(int index) const noexcept;
+
+		/**
+		 * \brief Return true if the specified unit can spray fire.
+		 */
+
+		bool canSprayFire(int index) const noexcept;
+
+	private:
+
+		/**
+		 * The items used to access the "wrapped" class in the Java
+		 * code.
+		 *
+		 * The class reference is a global reference, so it remains
+		 * valid for the life of the virtual machine, as do the method
+		 * IDs. These items are located in the constructor.
+		 */
+
+		struct JavaClass final
+		{
+			JavaClass();
+
+			jclass    unitStateClass;
+			jmethodID allocateID;
+			jmethodID encodeID;
+		};
+
+		/**
+		 * Create (if it does not already exist) the one and only
+		 * instance of the items used to access the "wrapped" class and
+		 * return a reference to it.
+		 */
+
+		static const JavaClass& javaClass();
+
+		/**
+		 * Return the value at the specified offset in the record of
+		 * the specified unit.
+		 */
+
+		signed char value(int index,int offset) const noexcept;
+
+		/**
+		 * Reference to the items used to access the "wrapped" class.
+		 */
+
+		const JavaClass& _javaClass;
+
+		/**
+		 * Global reference to the buffer.
+		 *
+		 * This item is set in the constructor. The memory associated
+		 * with it is freed by the virtual machine after notification
+		 * is given in the destructor.
+		 */
+
+		jobject _buffer;
+
+		/**
+		 * The address of the contents of the buffer.
+		 */
+
+		const signed char* _records;
+
+		/**
+		 * The number of units that can be held.
+		 */
+
+		const int _capacity;
+
+		/**
+		 * The number of units written by the last call to update().
+		 */
+
+		int _size;
+};
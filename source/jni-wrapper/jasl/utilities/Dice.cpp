@@ -15,16 +15,11 @@
 
 // Constructor.
 
-Dice::Dice()
+Dice::Dice() :
+	_javaClass(javaClass())
 {
-	_diceClass = jniEnv().FindClass("jasl/utilities/Dice");
-	assert(nullptr != _diceClass);
-
-	const jmethodID constructorID =
-		jniEnv().GetMethodID(_diceClass,"<init>","()V");
-	assert(nullptr != constructorID);
-
-	_diceObject = jniEnv().NewObject(_diceClass,constructorID);
+	_diceObject = jniEnv().NewObject(_javaClass.diceClass,
+	                                 _javaClass.constructorID);
 	assert(nullptr != _diceObject);
 }
 
@@ -39,33 +34,21 @@ Dice::~Dice()
 
 int Dice::whiteDieValue() const noexcept
 {
-	const jmethodID methodID =
-		jniEnv().GetMethodID(_diceClass,"whiteDieValue","()I");
-	assert(nullptr != methodID);
-
-	return jniEnv().CallIntMethod(_diceObject,methodID);
+	return jniEnv().CallIntMethod(_diceObject,_javaClass.whiteDieValueID);
 }
 
 // coloredDieValue: Return the result of rolling the colored die.
 
 int Dice::coloredDieValue() const noexcept
 {
-	const jmethodID methodID =
-		jniEnv().GetMethodID(_diceClass,"coloredDieValue","()I");
-	assert(nullptr != methodID);
-
-	return jniEnv().CallIntMethod(_diceObject,methodID);
+	return jniEnv().CallIntMethod(_diceObject,_javaClass.coloredDieValueID);
 }
 
 // combinedResult: Return the result of combining the values of the two dice.
 
 int Dice::combinedResult() const noexcept
 {
-	const jmethodID methodID =
-		jniEnv().GetMethodID(_diceClass,"combinedResult","()I");
-	assert(nullptr != methodID);
-
-	return jniEnv().CallIntMethod(_diceObject,methodID);
+	return jniEnv().CallIntMethod(_diceObject,_javaClass.combinedResultID);
 }
 
 // toText: Return a text representation of the attributes and current state of
@@ -75,13 +58,9 @@ const std::string& Dice::toText() noexcept
 {
 	if (nullptr == _dump)
 	{
-		const jmethodID methodID =
-			jniEnv().GetMethodID(_diceClass,"toText",
-			                     "()Ljava/lang/String;");
-		assert(nullptr != methodID);
-
 		const jstring javaString =
-			static_cast<jstring>(jniEnv().CallObjectMethod(_diceObject,methodID));
+			static_cast<jstring>(jniEnv().CallObjectMethod(_diceObject,
+			                                               _javaClass.toTextID));
 		assert(nullptr != javaString);
 
 		_dump = std::make_unique<std::string>(std::move(js2ss(javaString)));
@@ -92,3 +71,46 @@ const std::string& Dice::toText() noexcept
 
 	return *_dump;
 }
+
+// JavaClass constructor: Locate the "wrapped" class and the IDs of its
+//                        constructor and methods.
+
+Dice::JavaClass::JavaClass()
+{
+	const jclass localClass = jniEnv().FindClass("jasl/utilities/Dice");
+	assert(nullptr != localClass);
+
+	// Keep a global reference, which (unlike the local reference returned
+	// above) remains valid after the current native call returns. It is
+	// not released, as it is needed for the life of the virtual machine.
+
+	diceClass = static_cast<jclass>(jniEnv().NewGlobalRef(localClass));
+	assert(nullptr != diceClass);
+
+	jniEnv().DeleteLocalRef(localClass);
+
+	constructorID = jniEnv().GetMethodID(diceClass,"<init>","()V");
+	assert(nullptr != constructorID);
+
+	whiteDieValueID = jniEnv().GetMethodID(diceClass,"whiteDieValue","()I");
+	assert(nullptr != whiteDieValueID);
+
+	coloredDieValueID = jniEnv().GetMethodID(diceClass,"coloredDieValue","()I");
+	assert(nullptr != coloredDieValueID);
+
+	combinedResultID = jniEnv().GetMethodID(diceClass,"combinedResult","()I");
+	assert(nullptr != combinedResultID);
+
+	toTextID = jniEnv().GetMethodID(diceClass,"toText","()Ljava/lang/String;");
+	assert(nullptr != toTextID);
+}
+
+// javaClass: Create (if it does not already exist) the one and only instance of
+//            the items used to access the "wrapped" class and return a
+//            reference to it.
+
+const Dice::JavaClass& Dice::javaClass()
+{
+	static const JavaClass instance;
+	return instance;
+}
@@ -22,11 +22,15 @@
  * provides a JVM to execute the library code, as well as string conversion
  * methods.
  *
+ * The class reference and the IDs of the constructor and methods are located
+ * via the JVM once, when the first instance is created, and are shared by all
+ * instances, so calling a method does not require a search of the class.
+ *
  * Note that all interactions with the JVM are expected to work, so in the event
  * of failure, the program will assert.
  *
- * @version 3.0
- * @author Copyright (C) 2010-2018 Craig R. Campbell (craigonic@gmail.com)
+ * @version 3.1
+ * @author Copyright (C) 2010-2026 Craig R. Campbell (craigonic@gmail.com)
  * @see <A HREF="../../../../source/jni-wrapper/jasl/utilities/Dice.h.html">Source code</A>
  */
 
@@ -100,14 +104,43 @@ class Dice final
 		jobject _diceObject;
 
 		/**
-		 * Reference to the "wrapped" class in the Java code.
+		 * The items used to access the "wrapped" class in the Java
+		 * code.
+		 *
+		 * The class reference is a global reference, so it remains
+		 * valid for the life of the virtual machine, as do the method
+		 * IDs. These items are located in the constructor.
+		 */
+
+		struct JavaClass final
+		{
+			JavaClass();
+
+			jclass    diceClass;
+			jmethodID constructorID;
+			jmethodID whiteDieValueID;
+			jmethodID coloredDieValueID;
+			jmethodID combinedResultID;
+			jmethodID toTextID;
+		};
+
+		/**
+		 * Create (if it does not already exist) the one and only
+		 * instance of the items used to access the "wrapped" class and
+		 * return a reference to it.
+		 */
+
+		static const JavaClass& javaClass();
+
+		/**
+		 * Reference to the items used to access the "wrapped" class.
 		 *
 		 * This item is set in the constructor and applied in the
-		 * constructor and the methods to locate the corresponding
+		 * constructor and the methods to call the corresponding
 		 * (bytecode) class items via the virtual machine.
 		 */
 
-		jclass _diceClass;
+		const JavaClass& _javaClass;
 
 		/**
 		 * The text representation of the attributes and current state